@@ -14,17 +14,25 @@ import java.util.Map;
 
 import nablarch.core.beans.converter.ArrayExtensionConverter;
 import nablarch.core.beans.converter.BigDecimalConverter;
+import nablarch.core.beans.converter.BooleanArrayConverter;
 import nablarch.core.beans.converter.BooleanConverter;
 import nablarch.core.beans.converter.BytesConverter;
+import nablarch.core.beans.converter.CharArrayConverter;
 import nablarch.core.beans.converter.DateConverter;
+import nablarch.core.beans.converter.DoubleArrayConverter;
+import nablarch.core.beans.converter.EnumExtensionConverter;
+import nablarch.core.beans.converter.FloatArrayConverter;
+import nablarch.core.beans.converter.IntArrayConverter;
 import nablarch.core.beans.converter.IntegerConverter;
 import nablarch.core.beans.converter.ListExtensionConverter;
 import nablarch.core.beans.converter.LocalDateConverter;
 import nablarch.core.beans.converter.LocalDateTimeConverter;
+import nablarch.core.beans.converter.LongArrayConverter;
 import nablarch.core.beans.converter.LongConverter;
 import nablarch.core.beans.converter.ObjectArrayConverter;
 import nablarch.core.beans.converter.OffsetDateTimeConverter;
 import nablarch.core.beans.converter.SetExtensionConverter;
+import nablarch.core.beans.converter.ShortArrayConverter;
 import nablarch.core.beans.converter.ShortConverter;
 import nablarch.core.beans.converter.SqlDateConverter;
 import nablarch.core.beans.converter.SqlTimestampConverter;
@@ -44,7 +52,7 @@ public class BasicConversionManager implements ConversionManager {
     private Map<Class<?>, Converter<?>> converters;
 
     /** 拡張型変換のList */
-    private final List<ExtensionConverter<?>> extensionConverters;
+    private List<ExtensionConverter<?>> extensionConverters;
 
     /**
      * コンストラクタ。
@@ -70,12 +78,20 @@ public class BasicConversionManager implements ConversionManager {
         convertMap.put(LocalDateTime.class, new LocalDateTimeConverter());
         convertMap.put(OffsetDateTime.class, new OffsetDateTimeConverter());
         convertMap.put(byte[].class, new BytesConverter());
+        convertMap.put(boolean[].class, new BooleanArrayConverter());
+        convertMap.put(short[].class, new ShortArrayConverter());
+        convertMap.put(char[].class, new CharArrayConverter());
+        convertMap.put(int[].class, new IntArrayConverter());
+        convertMap.put(long[].class, new LongArrayConverter());
+        convertMap.put(float[].class, new FloatArrayConverter());
+        convertMap.put(double[].class, new DoubleArrayConverter());
         converters = Collections.unmodifiableMap(convertMap);
 
         final List<ExtensionConverter<?>> extensionConverterList = new ArrayList<>();
         extensionConverterList.add(new ListExtensionConverter());
         extensionConverterList.add(new SetExtensionConverter());
         extensionConverterList.add(new ArrayExtensionConverter());
+        extensionConverterList.add(new EnumExtensionConverter());
 
         extensionConverters = Collections.unmodifiableList(extensionConverterList);
     }
@@ -146,4 +162,16 @@ public class BasicConversionManager implements ConversionManager {
 
         converters = Collections.unmodifiableMap(convertMap);
     }
+
+    /**
+     * 文字列から列挙型への変換で、定数名の大文字・小文字を区別しないかどうかを設定する。
+     * 
+     * @param ignoreCase 大文字・小文字を区別しない場合は{@code true}
+     */
+    public void setEnumIgnoreCase(boolean ignoreCase) {
+        List<ExtensionConverter<?>> extensionConverterList = new ArrayList<>(extensionConverters);
+        extensionConverterList.replaceAll(converter -> converter instanceof EnumExtensionConverter
+                ? new EnumExtensionConverter(ignoreCase) : converter);
+        extensionConverters = Collections.unmodifiableList(extensionConverterList);
+    }
 }
@@ -0,0 +1,422 @@
+package nablarch.core.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import nablarch.core.util.annotation.Published;
+
+/**
+ * 2つのJava Beansもしくはレコードのプロパティの差分。
+ * <p>
+ * 値が異なるプロパティのプロパティ名と変更前・変更後の値を、インデックスで参照する。
+ * ネストしたBeanやレコード、{@link List}、配列の要素の差分は、
+ * {@code address.city}や{@code items[0].name}のように親プロパティからのパスをプロパティ名とする。
+ * <p>
+ * 本クラスのインスタンスは{@link BeanUtil#diff(Object, Object, CopyOptions)}で生成する。
+ * 循環参照を含むBeanやレコードは比較できず、{@link BeansException}を送出する。
+ *
+ * @author TIS
+ * @see BeanUtil#diff(Object, Object, CopyOptions)
+ */
+@Published
+public final class BeanDiff {
+
+    /**
+     * 比較元と比較先のクラスの組み合わせごとの比較対象のプロパティ。
+     * <p>
+     * 比較元のクラスごとに、比較先のクラスをキーとする{@link ClassValue}を保持する。
+     * 比較先のクラスを強参照で保持しないため、クラスローダのアンロードを妨げない。
+     * また、プロパティの解決はロックの外で行う。
+     */
+    private static final ClassValue<ClassValue<Plan>> PLANS = new ClassValue<ClassValue<Plan>>() {
+        @Override
+        protected ClassValue<Plan> computeValue(final Class<?> oldClass) {
+            return new ClassValue<Plan>() {
+                @Override
+                protected Plan computeValue(final Class<?> newClass) {
+                    return new Plan(oldClass, newClass);
+                }
+            };
+        }
+    };
+
+    /** 値が異なるプロパティ名 */
+    private final String[] propertyNames;
+
+    /** 変更前の値 */
+    private final Object[] oldValues;
+
+    /** 変更後の値 */
+    private final Object[] newValues;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param propertyNames 値が異なるプロパティ名
+     * @param oldValues 変更前の値
+     * @param newValues 変更後の値
+     */
+    private BeanDiff(final String[] propertyNames, final Object[] oldValues, final Object[] newValues) {
+        this.propertyNames = propertyNames;
+        this.oldValues = oldValues;
+        this.newValues = newValues;
+    }
+
+    /**
+     * 値が異なるプロパティの数を返す。
+     *
+     * @return 値が異なるプロパティの数
+     */
+    public int size() {
+        return propertyNames.length;
+    }
+
+    /**
+     * 値が異なるプロパティが存在しないかどうかを返す。
+     *
+     * @return 値が異なるプロパティが存在しない場合は{@code true}
+     */
+    public boolean isEmpty() {
+        return propertyNames.length == 0;
+    }
+
+    /**
+     * 値が異なるプロパティ名を返す。
+     *
+     * @param index インデックス
+     * @return プロパティ名
+     */
+    public String getPropertyName(final int index) {
+        return propertyNames[index];
+    }
+
+    /**
+     * 変更前の値を返す。
+     *
+     * @param index インデックス
+     * @return 変更前の値
+     */
+    public Object getOldValue(final int index) {
+        return oldValues[index];
+    }
+
+    /**
+     * 変更後の値を返す。
+     *
+     * @param index インデックス
+     * @return 変更後の値
+     */
+    public Object getNewValue(final int index) {
+        return newValues[index];
+    }
+
+    /**
+     * 値が異なるプロパティ名の一覧を返す。
+     *
+     * @return 値が異なるプロパティ名の一覧
+     */
+    public List<String> getPropertyNames() {
+        return Collections.unmodifiableList(Arrays.asList(propertyNames));
+    }
+
+    /**
+     * 指定されたプロパティの値が異なるかどうかを返す。
+     *
+     * @param propertyName プロパティ名
+     * @return 値が異なる場合は{@code true}
+     */
+    public boolean isChanged(final String propertyName) {
+        for (String name : propertyNames) {
+            if (name.equals(propertyName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("BeanDiff[");
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(propertyNames[i]).append(": ").append(oldValues[i]).append(" -> ").append(newValues[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * 2つのJava Beansもしくはレコードの差分を作成する。
+     *
+     * @param oldBean 変更前のBeanもしくはレコード
+     * @param newBean 変更後のBeanもしくはレコード
+     * @param copyOptions 比較対象のプロパティを指定した設定
+     * @return 差分
+     * @throws BeansException 循環参照が存在する場合
+     */
+    static BeanDiff of(final Object oldBean, final Object newBean, final CopyOptions copyOptions) {
+        final Builder builder = new Builder();
+        diffBeans("", oldBean, newBean, copyOptions, builder);
+        return builder.build();
+    }
+
+    /**
+     * Beanもしくはレコードのプロパティを比較する。
+     *
+     * @param path 親プロパティのパス(トップレベルの場合は空文字列)
+     * @param oldBean 変更前のBeanもしくはレコード
+     * @param newBean 変更後のBeanもしくはレコード
+     * @param copyOptions 比較対象のプロパティを指定した設定
+     * @param builder 差分の格納先
+     */
+    private static void diffBeans(final String path, final Object oldBean, final Object newBean,
+            final CopyOptions copyOptions, final Builder builder) {
+        final Plan plan = PLANS.get(oldBean.getClass()).get(newBean.getClass());
+        // パスの末尾の区切り文字を除いたものをプロパティ名とする
+        builder.enter(path.isEmpty() ? path : path.substring(0, path.length() - 1), oldBean);
+        for (int i = 0; i < plan.names.length; i++) {
+            final String name = plan.names[i];
+            if (!copyOptions.isTargetProperty(name)) {
+                continue;
+            }
+            final Object oldValue = read(plan.oldReaders[i], oldBean);
+            final Object newValue = read(plan.newReaders[i], newBean);
+            diffValues(path + name, name, oldValue, newValue, copyOptions, builder);
+        }
+        builder.exit(oldBean);
+    }
+
+    /**
+     * プロパティの値を比較する。
+     *
+     * @param path プロパティのパス
+     * @param name 設定の絞り込みに使用するプロパティ名
+     * @param oldValue 変更前の値
+     * @param newValue 変更後の値
+     * @param copyOptions 比較対象のプロパティを指定した設定
+     * @param builder 差分の格納先
+     */
+    private static void diffValues(final String path, final String name, final Object oldValue,
+            final Object newValue, final CopyOptions copyOptions, final Builder builder) {
+        if (oldValue == newValue) {
+            return;
+        }
+        if (oldValue == null || newValue == null) {
+            builder.add(path, oldValue, newValue);
+            return;
+        }
+        if (oldValue instanceof List<?> oldList && newValue instanceof List<?> newList) {
+            if (oldList.size() != newList.size()) {
+                builder.add(path, oldValue, newValue);
+                return;
+            }
+            builder.enter(path, oldList);
+            for (int i = 0; i < oldList.size(); i++) {
+                diffValues(path + '[' + i + ']', name, oldList.get(i), newList.get(i), copyOptions, builder);
+            }
+            builder.exit(oldList);
+            return;
+        }
+        if (oldValue instanceof Object[] oldArray && newValue instanceof Object[] newArray) {
+            if (oldArray.length != newArray.length) {
+                builder.add(path, oldValue, newValue);
+                return;
+            }
+            builder.enter(path, oldArray);
+            for (int i = 0; i < oldArray.length; i++) {
+                diffValues(path + '[' + i + ']', name, oldArray[i], newArray[i], copyOptions, builder);
+            }
+            builder.exit(oldArray);
+            return;
+        }
+        if (isBean(oldValue.getClass()) && isBean(newValue.getClass())) {
+            diffBeans(path + '.', oldValue, newValue, copyOptions.reduce(name), builder);
+            return;
+        }
+        if (!Objects.deepEquals(oldValue, newValue)) {
+            builder.add(path, oldValue, newValue);
+        }
+    }
+
+    /**
+     * ネストしたプロパティとして比較するBeanもしくはレコードのクラスかどうかを判定する。
+     * <p>
+     * JDKのクラスや列挙型、配列、プロパティを持たないクラスは、値として{@link Object#equals(Object)}で比較する。
+     *
+     * @param type クラス
+     * @return ネストしたプロパティとして比較する場合は{@code true}
+     */
+    private static boolean isBean(final Class<?> type) {
+        if (type.isArray() || type.isEnum() || type.isPrimitive() || type.getName().startsWith("java.")) {
+            return false;
+        }
+        try {
+            return PLANS.get(type).get(type).names.length > 0;
+        } catch (BeansException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 読み取りメソッドでプロパティの値を読み取る。
+     *
+     * @param reader 読み取りメソッド
+     * @param bean Beanもしくはレコード
+     * @return プロパティの値
+     * @throws BeansException 読み取りに失敗した場合
+     */
+    private static Object read(final Method reader, final Object bean) {
+        try {
+            return reader.invoke(bean);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new BeansException("Failed to read property. method name: " + reader.getName(), e);
+        }
+    }
+
+    /**
+     * 比較元と比較先のクラスの組み合わせに対して、比較対象のプロパティと読み取りメソッドを解決した結果。
+     * <p>
+     * 両方のクラスに存在し、読み取りメソッドを持つプロパティを、比較元のクラスのプロパティの順序で保持する。
+     */
+    private static final class Plan {
+
+        /** プロパティ名 */
+        private final String[] names;
+
+        /** 比較元の読み取りメソッド */
+        private final Method[] oldReaders;
+
+        /** 比較先の読み取りメソッド */
+        private final Method[] newReaders;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param oldClass 比較元のクラス
+         * @param newClass 比較先のクラス
+         */
+        Plan(final Class<?> oldClass, final Class<?> newClass) {
+            final List<String> nameList = new ArrayList<>();
+            final List<Method> oldReaderList = new ArrayList<>();
+            final List<Method> newReaderList = new ArrayList<>();
+            for (String name : getOrderedPropertyNames(oldClass)) {
+                final Method oldReader = findReadMethod(oldClass, name);
+                final Method newReader = findReadMethod(newClass, name);
+                if (oldReader != null && newReader != null) {
+                    nameList.add(name);
+                    oldReaderList.add(oldReader);
+                    newReaderList.add(newReader);
+                }
+            }
+            this.names = nameList.toArray(new String[0]);
+            this.oldReaders = oldReaderList.toArray(new Method[0]);
+            this.newReaders = newReaderList.toArray(new Method[0]);
+        }
+
+        /**
+         * クラスのプロパティ名を定義順で取得する。
+         *
+         * @param type クラス
+         * @return プロパティ名
+         */
+        private static List<String> getOrderedPropertyNames(final Class<?> type) {
+            final List<String> names = new ArrayList<>();
+            if (type.isRecord()) {
+                for (RecordComponent component : BeanUtil.getRecordComponents(type)) {
+                    names.add(component.getName());
+                }
+            } else {
+                for (PropertyDescriptor pd : BeanUtil.getPropertyDescriptors(type)) {
+                    names.add(pd.getName());
+                }
+            }
+            return names;
+        }
+
+        /**
+         * プロパティの読み取りメソッドを取得する。
+         *
+         * @param type クラス
+         * @param name プロパティ名
+         * @return 読み取りメソッド。プロパティもしくは読み取りメソッドが存在しない場合は{@code null}
+         */
+        private static Method findReadMethod(final Class<?> type, final String name) {
+            if (!BeanUtil.getPropertyNames(type).contains(name)) {
+                return null;
+            }
+            return BeanUtil.getReadMethod(type, name);
+        }
+    }
+
+    /**
+     * 差分を格納するビルダー。
+     */
+    private static final class Builder {
+
+        /** 値が異なるプロパティ名 */
+        private final List<String> propertyNames = new ArrayList<>();
+
+        /** 変更前の値 */
+        private final List<Object> oldValues = new ArrayList<>();
+
+        /** 変更後の値 */
+        private final List<Object> newValues = new ArrayList<>();
+
+        /** 比較中の変更前のBeanやレコード、{@link List}、配列(循環参照の検出に使用する) */
+        private final Set<Object> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /**
+         * 変更前のオブジェクトの比較を開始する。
+         *
+         * @param path オブジェクトのパス
+         * @param oldValue 変更前のオブジェクト
+         * @throws BeansException 比較中のオブジェクトを再び比較しようとした場合(循環参照が存在する場合)
+         */
+        void enter(final String path, final Object oldValue) {
+            if (!visiting.add(oldValue)) {
+                throw new BeansException("Cyclic reference detected. property name: " + path);
+            }
+        }
+
+        /**
+         * 変更前のオブジェクトの比較を終了する。
+         *
+         * @param oldValue 変更前のオブジェクト
+         */
+        void exit(final Object oldValue) {
+            visiting.remove(oldValue);
+        }
+
+        /**
+         * 差分を追加する。
+         *
+         * @param propertyName プロパティ名
+         * @param oldValue 変更前の値
+         * @param newValue 変更後の値
+         */
+        void add(final String propertyName, final Object oldValue, final Object newValue) {
+            propertyNames.add(propertyName);
+            oldValues.add(oldValue);
+            newValues.add(newValue);
+        }
+
+        /**
+         * 差分を作成する。
+         *
+         * @return 差分
+         */
+        BeanDiff build() {
+            return new BeanDiff(propertyNames.toArray(new String[0]), oldValues.toArray(), newValues.toArray());
+        }
+    }
+}
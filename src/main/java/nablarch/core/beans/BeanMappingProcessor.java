@@ -0,0 +1,363 @@
+package nablarch.core.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+
+import nablarch.core.ThreadContext;
+import nablarch.core.util.annotation.Published;
+
+/**
+ * {@link Map}をBeanもしくはレコードに変換する{@link Flow.Processor}。
+ * <p>
+ * 上流から受け取った{@link Map}を{@link #BeanMappingProcessor(Class, CopyOptions, int, int, Executor) batchSize}件ごとにまとめ、
+ * {@link BeanUtil#mapMapper(Class, CopyOptions)}で作成した関数で変換して下流に送信する。
+ * ただし、変換中のバッチが存在しない場合は、{@code batchSize}件に満たなくても受け取った要素を変換する。
+ * このため、上流が完了せずに要素の送信を停止した場合や、上流への要求を使い切った場合も、受け取った要素は下流に送信される。
+ * 変換結果は、{@link BeanUtil#createAndCopy(Class, Map, CopyOptions)}でコピーした場合と同じとなる。
+ * <p>
+ * 上流への要求は、{@code batchSize}と{@code parallelism}の積を上限とする。
+ * 変換したバッチを下流に送信するたびに、同じ件数を上流に要求する。
+ * このため、同時に変換するバッチの数は{@code parallelism}を超えず、
+ * 下流の要求が追いつかない場合は下流への送信({@link SubmissionPublisher#submit(Object)})を待機することで上流への要求も停止する。
+ * <p>
+ * 変換結果は上流から受け取った順序で送信する。
+ * 変換に失敗した要素はストリームを中断せず、例外を保持した{@link Result}として送信する。
+ * ここで変換に失敗するのは、{@link BeanUtil#createAndCopy(Class, Map, CopyOptions)}が例外を送出する場合
+ * (レコードのコンストラクタの実行に失敗した場合など)である。
+ * {@link BeanUtil#createAndCopy(Class, Map, CopyOptions)}と同様に、プロパティごとの値の変換に失敗した場合は
+ * そのプロパティを設定せずに変換に成功した{@link Result}として送信する。
+ * <p>
+ * 下流への送信は{@link SubmissionPublisher}と同様に、送信時点で購読している{@link Flow.Subscriber}に対して行うため、
+ * 下流の{@link Flow.Subscriber}は上流を購読する前に登録すること。
+ * <p>
+ * 上流が完了すると、変換中のバッチを全て送信した後に下流を完了する。
+ * 上流でエラーが発生した場合は、変換中のバッチを全て送信した後に下流にエラーを通知する。
+ * ただし、{@link SubmissionPublisher#closeExceptionally(Throwable)}と同様に、下流が受信していない変換結果は破棄される場合がある。
+ * <p>
+ * 上流の完了前に{@link #close()}もしくは{@link #closeExceptionally(Throwable)}を呼び出した場合や、
+ * 下流の{@link Flow.Subscriber}が全て購読を取り消した場合は、上流の購読を取り消す。
+ * 下流の購読の取り消しは、バッチを下流に送信する際に検知する。
+ * <p>
+ * 日付のフォーマットなどで使用する言語({@link ThreadContext#getLanguage()})は、
+ * 本クラスのインスタンスを生成したスレッドの値を変換を実行するスレッドに引き継ぐ。
+ *
+ * @param <T> 変換先のBeanもしくはレコードの型
+ * @author TIS
+ */
+@Published
+public class BeanMappingProcessor<T> extends SubmissionPublisher<BeanMappingProcessor.Result<T>>
+        implements Flow.Processor<Map<String, ?>, BeanMappingProcessor.Result<T>> {
+
+    /** デフォルトのバッチサイズ */
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    /** {@link Map}をBeanもしくはレコードに変換する関数 */
+    private final Function<Map<String, ?>, T> mapper;
+
+    /** バッチサイズ */
+    private final int batchSize;
+
+    /** 同時に変換するバッチ数の上限 */
+    private final int parallelism;
+
+    /** 変換を実行する{@link Executor} */
+    private final Executor executor;
+
+    /** 変換を実行するスレッドに引き継ぐ言語 */
+    private final Locale language;
+
+    /** 上流の{@link Flow.Subscription} */
+    private volatile Flow.Subscription upstream;
+
+    /** 上流が完了もしくはエラーを通知したかどうか */
+    private volatile boolean upstreamTerminated;
+
+    /** 上流の購読を取り消したかどうか */
+    private volatile boolean upstreamCancelled;
+
+    /** {@link #batch}、{@link #inFlight}、{@link #tail}を保護するロック */
+    private final Object lock = new Object();
+
+    /** 変換前の要素 */
+    private List<Map<String, ?>> batch;
+
+    /** 変換もしくは送信が完了していないバッチの数 */
+    private int inFlight;
+
+    /** 直前に受け取ったバッチの送信完了 */
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+    /**
+     * {@link ForkJoinPool#commonPool()}で、バッチサイズ256件、並列度1で変換するインスタンスを生成する。
+     *
+     * @param beanClass 変換先のBeanクラスもしくはレコードクラス
+     * @param copyOptions コピーの設定
+     */
+    public BeanMappingProcessor(final Class<T> beanClass, final CopyOptions copyOptions) {
+        this(beanClass, copyOptions, DEFAULT_BATCH_SIZE, 1, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * インスタンスを生成する。
+     *
+     * @param beanClass 変換先のBeanクラスもしくはレコードクラス
+     * @param copyOptions コピーの設定
+     * @param batchSize まとめて変換する要素数
+     * @param parallelism 同時に変換するバッチ数の上限
+     * @param executor 変換と下流への送信を実行する{@link Executor}
+     * @throws IllegalArgumentException {@code batchSize}もしくは{@code parallelism}が1未満の場合
+     */
+    public BeanMappingProcessor(final Class<T> beanClass, final CopyOptions copyOptions, final int batchSize,
+            final int parallelism, final Executor executor) {
+        super(executor, Math.max(batchSize * parallelism, Flow.defaultBufferSize()));
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("batchSize and parallelism must be positive. batchSize: " + batchSize
+                    + ", parallelism: " + parallelism);
+        }
+        this.mapper = BeanUtil.mapMapper(beanClass, copyOptions);
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.executor = executor;
+        this.language = ThreadContext.getLanguage();
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        if (upstream != null || isClosed()) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        subscription.request((long) batchSize * parallelism);
+    }
+
+    @Override
+    public void onNext(final Map<String, ?> item) {
+        if (upstreamCancelled) {
+            return;
+        }
+        synchronized (lock) {
+            batch.add(item);
+            // 変換中のバッチがない場合は、後続の要素を待たずに変換する
+            if (batch.size() >= batchSize || inFlight == 0) {
+                dispatch();
+            }
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        upstreamTerminated = true;
+        final CompletableFuture<Void> last;
+        synchronized (lock) {
+            dispatch();
+            last = tail;
+        }
+        last.whenComplete((v, e) -> closeExceptionally(throwable));
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamTerminated = true;
+        final CompletableFuture<Void> last;
+        synchronized (lock) {
+            dispatch();
+            last = tail;
+        }
+        last.whenComplete((v, e) -> {
+            if (e != null) {
+                closeExceptionally(e);
+            } else {
+                close();
+            }
+        });
+    }
+
+    /**
+     * 変換前の要素をバッチとして変換し、前のバッチの送信後に下流に送信する。
+     * <p>
+     * {@link #lock}を取得した状態で呼び出すこと。
+     */
+    private void dispatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final List<Map<String, ?>> current = batch;
+        batch = new ArrayList<>(batchSize);
+        inFlight++;
+        final CompletableFuture<List<Result<T>>> converted = CompletableFuture.supplyAsync(() -> convert(current), executor);
+        tail = tail.thenCombine(converted, (v, results) -> {
+            try {
+                send(results);
+            } finally {
+                onSent();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 変換結果を下流に送信し、送信した件数を上流に要求する。
+     *
+     * @param results 変換結果
+     */
+    private void send(final List<Result<T>> results) {
+        if (upstreamCancelled || isClosed()) {
+            return;
+        }
+        if (!hasSubscribers()) {
+            // 下流が全て購読を取り消した場合は、受信する購読者がいないため上流の購読も取り消す
+            cancelUpstream();
+            return;
+        }
+        for (Result<T> result : results) {
+            submit(result);
+        }
+        upstream.request(results.size());
+    }
+
+    /**
+     * バッチの送信後に、変換中のバッチがなくなった場合は{@code batchSize}件に満たない要素も変換する。
+     */
+    private void onSent() {
+        synchronized (lock) {
+            inFlight--;
+            if (inFlight == 0 && !upstreamCancelled && !isClosed()) {
+                dispatch();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 上流が完了していない場合は、上流の購読を取り消す。
+     */
+    @Override
+    public void close() {
+        cancelUpstream();
+        super.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 上流が完了していない場合は、上流の購読を取り消す。
+     */
+    @Override
+    public void closeExceptionally(final Throwable error) {
+        cancelUpstream();
+        super.closeExceptionally(error);
+    }
+
+    /**
+     * 上流が完了しておらず、購読を取り消していない場合は、上流の購読を取り消す。
+     */
+    private void cancelUpstream() {
+        final Flow.Subscription subscription = upstream;
+        if (subscription != null && !upstreamTerminated && !upstreamCancelled) {
+            upstreamCancelled = true;
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * バッチを変換する。
+     *
+     * @param items 変換前の要素
+     * @return 変換結果
+     */
+    private List<Result<T>> convert(final List<Map<String, ?>> items) {
+        final Locale original = ThreadContext.getLanguage();
+        ThreadContext.setLanguage(language);
+        try {
+            final List<Result<T>> results = new ArrayList<>(items.size());
+            for (Map<String, ?> item : items) {
+                try {
+                    results.add(new Result<>(item, mapper.apply(item), null));
+                } catch (RuntimeException e) {
+                    results.add(new Result<>(item, null, e));
+                }
+            }
+            return results;
+        } finally {
+            ThreadContext.setLanguage(original);
+        }
+    }
+
+    /**
+     * 要素の変換結果。
+     *
+     * @param <T> 変換先のBeanもしくはレコードの型
+     */
+    @Published
+    public static final class Result<T> {
+
+        /** 変換前の要素 */
+        private final Map<String, ?> source;
+
+        /** 変換後の値 */
+        private final T value;
+
+        /** 変換時に発生した例外 */
+        private final RuntimeException error;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param source 変換前の要素
+         * @param value 変換後の値
+         * @param error 変換時に発生した例外
+         */
+        Result(final Map<String, ?> source, final T value, final RuntimeException error) {
+            this.source = source;
+            this.value = value;
+            this.error = error;
+        }
+
+        /**
+         * 変換に成功したかどうかを返す。
+         *
+         * @return 変換に成功した場合は{@code true}
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * 変換前の要素を返す。
+         *
+         * @return 変換前の要素
+         */
+        public Map<String, ?> getSource() {
+            return source;
+        }
+
+        /**
+         * 変換後の値を返す。
+         *
+         * @return 変換後の値(変換に失敗した場合は{@code null})
+         */
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * 変換時に発生した例外を返す。
+         *
+         * @return 変換時に発生した例外(変換に成功した場合は{@code null})
+         */
+        public RuntimeException getError() {
+            return error;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -13,6 +14,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -21,8 +23,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import nablarch.core.log.Logger;
@@ -486,23 +490,57 @@ public final class BeanUtil {
      * @throws BeansException プロパティの設定に失敗した場合。
      */
     private static void setPropertyValue(Object bean, String propertyName, Object propertyValue, CopyOptions copyOptions) {
+        final PropertyConverters converters;
+        final int index;
         try {
-            final Method setter = getPropertyDescriptor(bean.getClass(), propertyName).getWriteMethod();
+            converters = copyOptions.getPropertyConverters(bean.getClass());
+            index = converters.getIndex(propertyName);
+        } catch (Exception e) {
+            throw new BeansException("Failed to convert property. property name: " + propertyName, e);
+        }
+        setPropertyValue(bean, converters, index, propertyValue);
+    }
+
+    /**
+     * 解決済みの{@link Converter}を使用して、プロパティに値を設定する。
+     *
+     * @param bean Beanオブジェクト
+     * @param converters Beanのクラスに対して解決された{@link Converter}
+     * @param index 値を設定するプロパティのインデックス
+     * @param propertyValue プロパティに設定する値
+     * @throws BeansException プロパティの設定に失敗した場合。
+     */
+    private static void setPropertyValue(Object bean, PropertyConverters converters, int index, Object propertyValue) {
+        try {
+            final Method setter = converters.getWriteMethod(index);
             if (setter == null) {
                 return;
             }
-            final Object value;
-            Class<?> clazz = getPropertyType(bean.getClass(), propertyName);
-            if (copyOptions.hasNamedConverter(propertyName, clazz)) {
-                value = copyOptions.convertByName(propertyName, clazz, propertyValue);
-            } else if (copyOptions.hasTypedConverter(clazz)) {
-                value = copyOptions.convertByType(clazz, propertyValue);
-            } else {
-                value = ConversionUtil.convert(clazz, propertyValue);
+            setter.invoke(bean, converters.convert(index, propertyValue));
+        } catch (Exception e) {
+            throw new BeansException("Failed to convert property. property name: " + converters.getPropertyName(index), e);
+        }
+    }
+
+    /**
+     * {@link PropertyConverters#convertAll(int, Object[])}で変換済みの値を、変換せずにプロパティに設定する。
+     *
+     * @param bean Beanオブジェクト
+     * @param converters Beanのクラスに対して解決された{@link Converter}
+     * @param index 値を設定するプロパティのインデックス
+     * @param convertedValue 変換済みの値
+     * @throws BeansException プロパティの設定に失敗した場合。
+     */
+    private static void setConvertedPropertyValue(Object bean, PropertyConverters converters, int index,
+            Object convertedValue) {
+        try {
+            final Method setter = converters.getWriteMethod(index);
+            if (setter == null) {
+                return;
             }
-            setter.invoke(bean, value);
+            setter.invoke(bean, convertedValue);
         } catch (Exception e) {
-            throw new BeansException("Failed to convert property. property name: " + propertyName, e);
+            throw new BeansException("Failed to convert property. property name: " + converters.getPropertyName(index), e);
         }
     }
 
@@ -758,19 +796,32 @@ public final class BeanUtil {
 
         final CopyOptions mergedCopyOptions = copyOptions
                 .merge(CopyOptions.fromAnnotation(beanClass));
-        final Map<String, PropertyDescriptor> pdMap = PropertyDescriptors.get(beanClass).map;
+        copyMap(bean, map, copyOptions, mergedCopyOptions, mergedCopyOptions.getPropertyConverters(beanClass),
+                new HashMap<>());
+    }
 
-        Map<String, Object> srcMap = new HashMap<>();
+    /**
+     * 解決済みのプロパティを使用して、{@link Map}からBeanインスタンスへコピーを行う。
+     *
+     * @param bean 移送先Beanインスタンス
+     * @param map JavaBeansのプロパティ名をエントリーのキー、プロパティの値をエントリーの値とする、移送元のMap
+     * @param copyOptions コピーの設定
+     * @param mergedCopyOptions アノテーションから構築した設定をマージしたコピーの設定
+     * @param converters 移送先Beanのプロパティ
+     * @param srcMap {@link Converter}が存在しないプロパティを格納する作業用のMap(空であること)
+     */
+    private static void copyMap(final Object bean, final Map<String, ?> map, final CopyOptions copyOptions,
+            final CopyOptions mergedCopyOptions, final PropertyConverters converters, final Map<String, Object> srcMap) {
         for (Map.Entry<String, ?> entry : map.entrySet()) {
             final String propertyName = entry.getKey();
             if (!mergedCopyOptions.isTargetProperty(propertyName)) {
                 continue;
             }
-            PropertyDescriptor pd = pdMap.get(propertyName);
+            final int index = converters.indexOf(propertyName);
             try {
                 final Object value = entry.getValue();
-                if (pd != null && hasConverter(beanClass, propertyName, mergedCopyOptions)) {
-                    setPropertyValue(bean, propertyName, value, mergedCopyOptions);
+                if (index >= 0 && converters.hasConverter(index)) {
+                    setPropertyValue(bean, converters, index, value);
                 } else {
                     srcMap.put(entry.getKey(), entry.getValue());
                 }
@@ -878,43 +929,70 @@ public final class BeanUtil {
      * @throws BeansException レコードの生成に失敗した場合
      */
     private static <T> T createRecord(Class<? extends T> beanClass, Object srcBean, CopyOptions copyOptions) {
-        CopyOptions copyOptionsFromSrc = CopyOptions.fromAnnotation(srcBean.getClass());
-        CopyOptions copyOptionsFromDest = CopyOptions.fromAnnotation(beanClass);
-        CopyOptions mergedCopyOptions = copyOptions.merge(copyOptionsFromSrc).merge(copyOptionsFromDest);
-
-        final RecordComponent[] destRcs = getRecordComponents(beanClass);
-        final Class<?>[] parameterTypes = new Class<?>[destRcs.length];
-        final Object[] args = new Object[destRcs.length];
-
-        for (int i = 0; i < destRcs.length; i++) {
-            final String propertyName = destRcs[i].getName();
-            parameterTypes[i] = destRcs[i].getType();
+        final CopyOptions mergedCopyOptions = mergeCopyOptions(copyOptions, srcBean.getClass(), beanClass);
+        final PropertyConverters converters = mergedCopyOptions.getPropertyConverters(beanClass);
+        return createRecord(beanClass, srcBean, mergedCopyOptions, converters,
+                resolveReadMethods(srcBean.getClass(), converters, mergedCopyOptions));
+    }
 
-            if (!mergedCopyOptions.isTargetProperty(propertyName)) {
-                continue;
-            }
+    /**
+     * 解決済みのプロパティと読み取りメソッドを使用して、JavaBeansもしくはレコードからレコードを生成する。
+     *
+     * @param beanClass 生成するレコードのClass
+     * @param srcBean 生成元のJavaBeansもしくはレコード
+     * @param mergedCopyOptions マージされたコピーの設定
+     * @param converters レコードのプロパティ
+     * @param readMethods コピー元の読み取りメソッド
+     * @param <T> 型引数
+     * @return レコード
+     * @throws BeansException レコードの生成に失敗した場合
+     */
+    private static <T> T createRecord(Class<? extends T> beanClass, Object srcBean, CopyOptions mergedCopyOptions,
+            PropertyConverters converters, Method[] readMethods) {
+        return createRecord(beanClass, srcBean, mergedCopyOptions, converters, readMethods, null, 0);
+    }
 
-            // srcBeanに対応するプロパティが存在しないか、アクセサが存在しない場合はスキップ
-            final Method accessor;
-            try {
-                accessor = getReadMethod(srcBean.getClass(), propertyName);
-                if (accessor == null) {
-                    if (parameterTypes[i].isPrimitive()) {
-                        args[i] = PRIM_DEFAULT_VALUES.get(parameterTypes[i]);
-                    }
-                    continue;
-                }
-            } catch (BeansException bex) {
-                if (parameterTypes[i].isPrimitive()) {
+    /**
+     * 解決済みのプロパティと読み取りメソッド、列単位で読み取り変換済みの値を使用して、
+     * JavaBeansもしくはレコードからレコードを生成する。
+     *
+     * @param beanClass 生成するレコードのClass
+     * @param srcBean 生成元のJavaBeansもしくはレコード
+     * @param mergedCopyOptions マージされたコピーの設定
+     * @param converters レコードのプロパティ
+     * @param readMethods コピー元の読み取りメソッド
+     * @param columns 列単位で読み取り変換済みの値(存在しない場合は{@code null})
+     * @param row {@code columns}における{@code srcBean}の行
+     * @param <T> 型引数
+     * @return レコード
+     * @throws BeansException レコードの生成に失敗した場合
+     */
+    private static <T> T createRecord(Class<? extends T> beanClass, Object srcBean, CopyOptions mergedCopyOptions,
+            PropertyConverters converters, Method[] readMethods, PropertyColumns columns, int row) {
+        final Class<?>[] parameterTypes = new Class<?>[converters.size()];
+        final Object[] args = new Object[converters.size()];
+
+        for (int i = 0; i < converters.size(); i++) {
+            final String propertyName = converters.getPropertyName(i);
+            parameterTypes[i] = converters.getPropertyType(i);
+
+            // コピー対象外か、srcBeanに対応するプロパティもしくはアクセサが存在しない場合はスキップ
+            final Method accessor = readMethods[i];
+            if (accessor == null) {
+                if (parameterTypes[i].isPrimitive() && mergedCopyOptions.isTargetProperty(propertyName)) {
                     args[i] = PRIM_DEFAULT_VALUES.get(parameterTypes[i]);
                 }
                 continue;
             }
 
             try {
-                Object val = accessor.invoke(srcBean);
-                if (hasConverter(beanClass, propertyName, mergedCopyOptions)) {
-                    args[i] = createPropertyValue(beanClass, propertyName, val, mergedCopyOptions);
+                if (columns != null && columns.isConverted(i)) {
+                    args[i] = columns.converted[i][row];
+                    continue;
+                }
+                Object val = columns != null && columns.isRead(i) ? columns.values[i][row] : accessor.invoke(srcBean);
+                if (converters.hasConverter(i)) {
+                    args[i] = createPropertyValue(converters, i, val);
                 } else {
                     if (val != null) {
                         if (parameterTypes[i].isRecord()) {
@@ -961,7 +1039,19 @@ public final class BeanUtil {
      * @throws BeansException レコードの生成に失敗した場合
      */
     private static <T> T createRecord(Class<? extends T> beanClass, Map<String, ?> map, CopyOptions copyOptions) {
-        Map<String, ?> propertyMap = createPropertyMap(beanClass, map, copyOptions);
+        return createRecordFromPropertyMap(beanClass, createPropertyMap(beanClass, map, copyOptions));
+    }
+
+    /**
+     * プロパティ値を格納したマップからレコードを生成する。
+     *
+     * @param beanClass レコードのClass
+     * @param propertyMap レコードを生成するためのプロパティ値を格納したマップ
+     * @param <T> 型引数
+     * @return レコード
+     * @throws BeansException レコードの生成に失敗した場合
+     */
+    private static <T> T createRecordFromPropertyMap(Class<? extends T> beanClass, Map<String, ?> propertyMap) {
 
         final RecordComponent[] recordComponents = getRecordComponents(beanClass);
         final Class<?>[] parameterTypes = new Class<?>[recordComponents.length];
@@ -1014,15 +1104,26 @@ public final class BeanUtil {
      * @return レコードを生成するためのプロパティ値を格納したマップ
      */
     private static Map<String, ?> createPropertyMap(Class<?> beanClass, Map<String, ?> map, CopyOptions copyOptions) {
+        return createPropertyMap(beanClass, map, copyOptions, copyOptions.merge(CopyOptions.fromAnnotation(beanClass)));
+    }
+
+    /**
+     * レコードを生成するためのプロパティ値を格納したマップを生成する。
+     *
+     * @param beanClass レコードのClass
+     * @param map JavaBeansのプロパティ名をエントリーのキー、プロパティの値をエントリーの値とする、移送元のMap
+     * @param copyOptions コピーの設定
+     * @param mergedCopyOptions アノテーションから構築した設定をマージしたコピーの設定
+     * @return レコードを生成するためのプロパティ値を格納したマップ
+     */
+    private static Map<String, ?> createPropertyMap(Class<?> beanClass, Map<String, ?> map, CopyOptions copyOptions,
+            CopyOptions mergedCopyOptions) {
         if (map == null) {
             return Collections.emptyMap();
         }
 
         Map<String, Object> propertyMap = new HashMap<>();
 
-        final CopyOptions mergedCopyOptions = copyOptions
-                .merge(CopyOptions.fromAnnotation(beanClass));
-
         // ネストしたプロパティはmapのキー単位ではなくグルーピングして一括して操作して処理効率を向上させるため、
         // 1度中間Mapに格納する
         Map<String, Map<String, Object>> nestedMap = new HashMap<>();
@@ -1266,28 +1367,57 @@ public final class BeanUtil {
      * @throws BeansException プロパティ値の変換に失敗した場合
      */
     private static Object createPropertyValue(Class<?> beanClass, String propertyName, Object propertyValue, CopyOptions copyOptions) {
-
+        final PropertyConverters converters;
+        final int index;
         try {
-            Class<?> clazz = getPropertyType(beanClass, propertyName);
-
-            if (copyOptions.hasNamedConverter(propertyName, clazz)) {
-                return copyOptions.convertByName(propertyName, clazz, propertyValue);
-            }
-
-            if (copyOptions.hasTypedConverter(clazz)) {
-                return copyOptions.convertByType(clazz, propertyValue);
-            }
-
-            return ConversionUtil.convert(clazz, propertyValue);
+            converters = copyOptions.getPropertyConverters(beanClass);
+            index = converters.getIndex(propertyName);
         } catch (Exception e) {
             throw new BeansException("Failed to convert property. property name: " + propertyName, e);
         }
+        return createPropertyValue(converters, index, propertyValue);
+    }
+
+    /**
+     * 解決済みの{@link Converter}を使用して、プロパティ値を変換して生成する。
+     *
+     * @param converters レコードのクラスに対して解決された{@link Converter}
+     * @param index プロパティのインデックス
+     * @param propertyValue プロパティ値
+     * @return 変換済みのプロパティ値
+     * @throws BeansException プロパティ値の変換に失敗した場合
+     */
+    private static Object createPropertyValue(PropertyConverters converters, int index, Object propertyValue) {
+        try {
+            return converters.convert(index, propertyValue);
+        } catch (Exception e) {
+            throw new BeansException("Failed to convert property. property name: " + converters.getPropertyName(index), e);
+        }
+    }
+
+    /**
+     * 解決済みの{@link Converter}を使用して、同じプロパティに設定する値を列単位でまとめて変換する。
+     * <p>
+     * 変換に失敗する値が含まれる場合は{@code null}を返す。
+     * 呼び出し元は値ごとに変換し直して、失敗した値のみをスキップする。
+     *
+     * @param converters 変換先のクラスに対して解決された{@link Converter}
+     * @param index プロパティのインデックス
+     * @param values 変換前の値
+     * @return 変換後の値。変換に失敗する値が含まれる場合は{@code null}
+     */
+    private static Object[] convertColumn(PropertyConverters converters, int index, Object[] values) {
+        try {
+            return converters.convertAll(index, values);
+        } catch (RuntimeException e) {
+            return null;
+        }
     }
 
     /**
      * プリミティブ型に対応するデフォルト値
      */
-    private static final Map<Class<?>, Object> PRIM_DEFAULT_VALUES = Map.of(
+    static final Map<Class<?>, Object> PRIM_DEFAULT_VALUES = Map.of(
             boolean.class, false,
             byte.class, (byte) 0,
             short.class, (short) 0,
@@ -1298,6 +1428,11 @@ public final class BeanUtil {
             char.class, '\u0000'
     );
 
+    /**
+     * ネストしたプロパティのコピーで使用する、コピー元プロパティが{@code null}の場合にコピーしない設定
+     */
+    private static final CopyOptions EXCLUDES_NULL = CopyOptions.options().excludesNull().build();
+
     /**
      * {@link Map}からBeanもしくはレコードを生成する。
      *
@@ -1469,6 +1604,674 @@ public final class BeanUtil {
         return createAndCopy(beanClass, srcBean, copyOptions);
     }
 
+    /**
+     * 複数のJava Beansもしくはレコードからプロパティをコピーして、別のBeanもしくはレコードのリストを作成する。
+     * <p/>
+     * 各要素を{@link #createAndCopy(Class, Object, CopyOptions)}でコピーした場合と同じ結果となる。
+     * アノテーションから構築したコピーの設定のマージや、プロパティと{@link Converter}の解決はコピー元のクラスごとに1度だけ行い、
+     * 同じクラスの要素のコピーではその結果を再利用する。
+     * また、同じクラスの要素が連続する範囲では、{@link Converter}を持つプロパティの値を列単位で
+     * {@link Converter#convertAll(Object[], Object[])}によりまとめて変換する。
+     * <p/>
+     * {@code srcBeans}の要素がnullである場合は、{@link #createAndCopy(Class, Object, CopyOptions)}と同様に
+     * デフォルトコンストラクタで生成したBean、もしくは各コンポーネントにnullもしくはプリミティブ型のデフォルト値を設定したレコードを要素とする。
+     *
+     * @param <T> 型引数
+     * @param beanClass コピー先のBeanクラスもしくはレコードクラス
+     * @param srcBeans コピー元のBeanもしくはレコード
+     * @param copyOptions コピーの設定
+     * @return コピーされたBeanもしくはレコードのリスト({@code srcBeans}と同じ順序)
+     * @throws BeansException
+     *   {@code beanClass}にデフォルトコンストラクタが定義されていない場合や、
+     *   {@code beanClass}のコンストラクタの実行中に問題が発生した場合。
+     */
+    public static <T> List<T> createAndCopyAll(final Class<T> beanClass, final Iterable<?> srcBeans,
+            final CopyOptions copyOptions) {
+        final List<T> result = new ArrayList<>(sizeOf(srcBeans));
+
+        // 同じクラスの要素が連続する範囲ごとに、解決済みの設定、プロパティ、読み取りメソッドを共有してコピーする
+        final List<Object> segment = new ArrayList<>();
+        for (Object srcBean : srcBeans) {
+            if (!segment.isEmpty() && (srcBean == null || srcBean.getClass() != segment.get(0).getClass())) {
+                copySegment(beanClass, segment, copyOptions, result);
+                segment.clear();
+            }
+            if (srcBean == null) {
+                result.add(createAndCopy(beanClass, (Object) null, copyOptions));
+            } else {
+                segment.add(srcBean);
+            }
+        }
+        if (!segment.isEmpty()) {
+            copySegment(beanClass, segment, copyOptions, result);
+        }
+        return result;
+    }
+
+    /**
+     * 同じクラスのコピー元から、Beanもしくはレコードを作成して結果に追加する。
+     * <p/>
+     * {@link Converter}を持つプロパティは、コピー元の値を列単位で読み取ってまとめて変換する。
+     *
+     * @param <T> 型引数
+     * @param beanClass コピー先のBeanクラスもしくはレコードクラス
+     * @param srcBeans 同じクラスのコピー元のBeanもしくはレコード
+     * @param copyOptions コピーの設定
+     * @param result コピーしたBeanもしくはレコードを追加するリスト
+     */
+    private static <T> void copySegment(final Class<T> beanClass, final List<Object> srcBeans,
+            final CopyOptions copyOptions, final List<T> result) {
+        final Class<?> srcClass = srcBeans.get(0).getClass();
+        final CopyOptions mergedCopyOptions = mergeCopyOptions(copyOptions, srcClass, beanClass);
+        final PropertyConverters converters = mergedCopyOptions.getPropertyConverters(beanClass);
+        final Method[] readMethods = resolveReadMethods(srcClass, converters, mergedCopyOptions);
+        final PropertyColumns columns = readColumns(srcBeans, converters, readMethods);
+        final boolean isRecord = beanClass.isRecord();
+
+        for (int row = 0; row < srcBeans.size(); row++) {
+            final Object srcBean = srcBeans.get(row);
+            result.add(isRecord
+                    ? createRecord(beanClass, srcBean, mergedCopyOptions, converters, readMethods, columns, row)
+                    : copyProperties(srcBean, createInstance(beanClass), mergedCopyOptions, converters, readMethods,
+                            columns, row));
+        }
+    }
+
+    /**
+     * 同じクラスのコピー元から{@link Converter}を持つプロパティの値を列単位で読み取り、まとめて変換する。
+     * <p/>
+     * 読み取りに失敗した列は読み取らなかったものとして扱い、コピー時に行ごとに読み取って例外を送出させる。
+     *
+     * @param srcBeans 同じクラスのコピー元のBeanもしくはレコード
+     * @param converters コピー先のプロパティ
+     * @param readMethods コピー元の読み取りメソッド
+     * @return 列単位で読み取り、変換した値
+     */
+    private static PropertyColumns readColumns(final List<Object> srcBeans, final PropertyConverters converters,
+            final Method[] readMethods) {
+        final PropertyColumns columns = new PropertyColumns(converters.size());
+        for (int i = 0; i < converters.size(); i++) {
+            if (readMethods[i] == null || !converters.hasConverter(i)) {
+                continue;
+            }
+            final Object[] values = new Object[srcBeans.size()];
+            try {
+                for (int row = 0; row < values.length; row++) {
+                    values[row] = readMethods[i].invoke(srcBeans.get(row));
+                }
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                continue;
+            }
+            columns.values[i] = values;
+            columns.converted[i] = convertColumn(converters, i, values);
+        }
+        return columns;
+    }
+
+    /**
+     * 複数の{@link Map}から、Beanもしくはレコードのリストを作成する。
+     * <p/>
+     * 各要素を{@link #createAndCopy(Class, Map, CopyOptions)}でコピーした場合と同じ結果となる。
+     * アノテーションから構築したコピーの設定のマージや、プロパティと{@link Converter}の解決は1度だけ行い、
+     * 全ての要素のコピーでその結果を再利用する。
+     *
+     * @param <T> 型引数
+     * @param beanClass 生成したいBeanクラスもしくはレコードクラス
+     * @param maps
+     *   JavaBeansのプロパティ名をエントリーのキー
+     *   プロパティの値をエントリーの値とするMap
+     * @param copyOptions コピーの設定
+     * @return プロパティに値が登録されたBeanもしくはレコードのリスト({@code maps}と同じ順序)
+     * @throws BeansException
+     *   {@code beanClass}にデフォルトコンストラクタが定義されていない場合や、
+     *   {@code beanClass}のコンストラクタ実行時に問題が発生した場合。
+     */
+    public static <T> List<T> createAndCopyAllFromMaps(final Class<T> beanClass,
+            final Iterable<? extends Map<String, ?>> maps, final CopyOptions copyOptions) {
+        final List<T> result = new ArrayList<>(sizeOf(maps));
+        final CopyOptions mergedCopyOptions = copyOptions.merge(CopyOptions.fromAnnotation(beanClass));
+
+        if (beanClass.isRecord()) {
+            for (Map<String, ?> map : maps) {
+                result.add(createRecordFromPropertyMap(beanClass,
+                        createPropertyMap(beanClass, map, copyOptions, mergedCopyOptions)));
+            }
+            return result;
+        }
+
+        final PropertyConverters converters = mergedCopyOptions.getPropertyConverters(beanClass);
+        final Map<String, Object> srcMap = new HashMap<>();
+        for (Map<String, ?> map : maps) {
+            final T bean = createInstance(beanClass);
+            if (map != null) {
+                srcMap.clear();
+                copyMap(bean, map, copyOptions, mergedCopyOptions, converters, srcMap);
+            }
+            result.add(bean);
+        }
+        return result;
+    }
+
+    /**
+     * 列ごとに値を保持した{@link Map}から、Beanもしくはレコードのリストを作成する。
+     * <p/>
+     * {@code columns}は、JavaBeansのプロパティ名をキー、各行の値を格納した配列もしくは{@link List}を値とする。
+     * 結果は、各行の値を格納した{@link Map}のリストを{@link #createAndCopyAllFromMaps(Class, Iterable, CopyOptions)}で
+     * コピーした場合と同じとなる。
+     * <p/>
+     * 行ごとの{@link Map}を生成せず、列ごとにプロパティと{@link Converter}を1度だけ解決して、全ての行に値を設定する。
+     * ただし、ネストしたプロパティなど列単位で設定できないプロパティが含まれる場合は、行ごとの{@link Map}を生成してコピーする。
+     * <pre>
+     * {@code
+     *     Map<String, Object> columns = new HashMap<>();
+     *     columns.put("id", new Object[] {"1", "2"});
+     *     columns.put("name", Arrays.asList("Alice", "Bob"));
+     *
+     *     List<SampleBean> beans = BeanUtil.createAndCopyAllFromColumns(SampleBean.class, columns, CopyOptions.empty());
+     * }
+     * </pre>
+     *
+     * @param <T> 型引数
+     * @param beanClass 生成したいBeanクラスもしくはレコードクラス
+     * @param columns JavaBeansのプロパティ名をキー、各行の値を格納した配列もしくは{@link List}を値とするMap
+     * @param copyOptions コピーの設定
+     * @return プロパティに値が登録されたBeanもしくはレコードのリスト(行の順序)。{@code columns}が空の場合は空のリスト
+     * @throws IllegalArgumentException
+     *   {@code columns}の値が配列もしくは{@link List}でない場合や、列ごとの行数が異なる場合
+     * @throws BeansException
+     *   {@code beanClass}にデフォルトコンストラクタが定義されていない場合や、
+     *   {@code beanClass}のコンストラクタ実行時に問題が発生した場合。
+     */
+    public static <T> List<T> createAndCopyAllFromColumns(final Class<T> beanClass, final Map<String, ?> columns,
+            final CopyOptions copyOptions) {
+        final Map<String, Object[]> columnArrays = new LinkedHashMap<>();
+        int rowCount = -1;
+        for (Map.Entry<String, ?> entry : columns.entrySet()) {
+            final Object[] values = toColumnArray(entry.getKey(), entry.getValue());
+            if (rowCount >= 0 && values.length != rowCount) {
+                throw new IllegalArgumentException("All columns must have the same number of rows. column name: "
+                        + entry.getKey() + ", rows: " + values.length + ", expected: " + rowCount);
+            }
+            rowCount = values.length;
+            columnArrays.put(entry.getKey(), values);
+        }
+        if (rowCount < 0) {
+            return new ArrayList<>();
+        }
+
+        final CopyOptions mergedCopyOptions = copyOptions.merge(CopyOptions.fromAnnotation(beanClass));
+        final boolean isRecord = beanClass.isRecord();
+        // Mapからレコードを生成する場合は、引数のコピーの設定で値を変換する(createPropertyMapと同じ)
+        final PropertyConverters converters = isRecord
+                ? copyOptions.getPropertyConverters(beanClass)
+                : mergedCopyOptions.getPropertyConverters(beanClass);
+
+        // 列ごとに設定先のプロパティを解決する
+        final List<Integer> indexes = new ArrayList<>();
+        final List<Object[]> targetColumns = new ArrayList<>();
+        for (Map.Entry<String, Object[]> entry : columnArrays.entrySet()) {
+            final String propertyName = entry.getKey();
+            if (!mergedCopyOptions.isTargetProperty(propertyName)) {
+                continue;
+            }
+            final PropertyExpression expression = new PropertyExpression(propertyName);
+            if (!expression.isNode() || !expression.isSimpleProperty()) {
+                return createAndCopyAllFromMaps(beanClass, toRows(columnArrays, rowCount), copyOptions);
+            }
+            final int index = converters.indexOf(propertyName);
+            if (index < 0) {
+                LOGGER.logDebug("An error occurred while writing to the property :" + propertyName);
+                continue;
+            }
+            if (!isRecord && !converters.hasConverter(index)) {
+                return createAndCopyAllFromMaps(beanClass, toRows(columnArrays, rowCount), copyOptions);
+            }
+            indexes.add(index);
+            targetColumns.add(entry.getValue());
+        }
+
+        return isRecord
+                ? createRecordsFromColumns(beanClass, converters, indexes, targetColumns, rowCount)
+                : createBeansFromColumns(beanClass, converters, indexes, targetColumns, rowCount);
+    }
+
+    /**
+     * 列ごとに値を設定して、Beanのリストを作成する。
+     *
+     * @param <T> 型引数
+     * @param beanClass Beanクラス
+     * @param converters Beanのプロパティ
+     * @param indexes 列ごとのプロパティのインデックス
+     * @param columns 列ごとの値
+     * @param rowCount 行数
+     * @return Beanのリスト
+     */
+    private static <T> List<T> createBeansFromColumns(final Class<T> beanClass, final PropertyConverters converters,
+            final List<Integer> indexes, final List<Object[]> columns, final int rowCount) {
+        final List<T> result = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            result.add(createInstance(beanClass));
+        }
+        for (int column = 0; column < columns.size(); column++) {
+            final int index = indexes.get(column);
+            final Object[] values = columns.get(column);
+            final Object[] converted = convertColumn(converters, index, values);
+            for (int row = 0; row < rowCount; row++) {
+                try {
+                    if (converted != null) {
+                        setConvertedPropertyValue(result.get(row), converters, index, converted[row]);
+                    } else {
+                        setPropertyValue(result.get(row), converters, index, values[row]);
+                    }
+                } catch (BeansException bex) {
+                    LOGGER.logDebug("An error occurred while writing to the property :" + converters.getPropertyName(index));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 列ごとに値を変換して、レコードのリストを作成する。
+     *
+     * @param <T> 型引数
+     * @param beanClass レコードクラス
+     * @param converters レコードのプロパティ
+     * @param indexes 列ごとのプロパティのインデックス
+     * @param columns 列ごとの値
+     * @param rowCount 行数
+     * @return レコードのリスト
+     * @throws BeansException レコードの生成に失敗した場合
+     */
+    private static <T> List<T> createRecordsFromColumns(final Class<T> beanClass, final PropertyConverters converters,
+            final List<Integer> indexes, final List<Object[]> columns, final int rowCount) {
+        final Class<?>[] parameterTypes = new Class<?>[converters.size()];
+        final Object[] defaults = new Object[converters.size()];
+        for (int i = 0; i < converters.size(); i++) {
+            parameterTypes[i] = converters.getPropertyType(i);
+            if (parameterTypes[i].isPrimitive()) {
+                defaults[i] = PRIM_DEFAULT_VALUES.get(parameterTypes[i]);
+            }
+        }
+
+        final Object[][] args = new Object[rowCount][];
+        for (int row = 0; row < rowCount; row++) {
+            args[row] = defaults.clone();
+        }
+        for (int column = 0; column < columns.size(); column++) {
+            final int index = indexes.get(column);
+            final Object[] values = columns.get(column);
+            final Object[] converted = convertColumn(converters, index, values);
+            if (converted != null) {
+                for (int row = 0; row < rowCount; row++) {
+                    args[row][index] = converted[row];
+                }
+                continue;
+            }
+            for (int row = 0; row < rowCount; row++) {
+                try {
+                    args[row][index] = createPropertyValue(converters, index, values[row]);
+                } catch (BeansException bex) {
+                    LOGGER.logDebug("An error occurred while copying the property :" + converters.getPropertyName(index)
+                            + " original exception: " + bex);
+                }
+            }
+        }
+
+        final Constructor<T> constructor;
+        try {
+            constructor = beanClass.getConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new BeansException("An error occurred while creating the record: " + beanClass.getName(), e);
+        }
+        final List<T> result = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            try {
+                result.add(constructor.newInstance(args[row]));
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new BeansException("An error occurred while creating the record: " + beanClass.getName(), e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 列の値を配列に変換する。
+     *
+     * @param columnName 列名
+     * @param column 列の値(配列もしくは{@link List})
+     * @return 列の値の配列
+     * @throws IllegalArgumentException 列の値が配列もしくは{@link List}でない場合
+     */
+    private static Object[] toColumnArray(final String columnName, final Object column) {
+        if (column instanceof Object[] array) {
+            return array;
+        }
+        if (column instanceof List<?> list) {
+            return list.toArray();
+        }
+        if (column != null && column.getClass().isArray()) {
+            final Object[] array = new Object[Array.getLength(column)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = Array.get(column, i);
+            }
+            return array;
+        }
+        throw new IllegalArgumentException("The column must be an array or a List. column name: " + columnName);
+    }
+
+    /**
+     * 列ごとの値を、行ごとの{@link Map}に変換する。
+     *
+     * @param columns 列ごとの値
+     * @param rowCount 行数
+     * @return 行ごとの{@link Map}
+     */
+    private static List<Map<String, Object>> toRows(final Map<String, Object[]> columns, final int rowCount) {
+        final List<Map<String, Object>> rows = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            final Map<String, Object> map = new HashMap<>();
+            for (Map.Entry<String, Object[]> entry : columns.entrySet()) {
+                map.put(entry.getKey(), entry.getValue()[row]);
+            }
+            rows.add(map);
+        }
+        return rows;
+    }
+
+    /**
+     * 複数のJava Beansもしくはレコードから、別のBeanもしくはレコードのリストを並列に作成する。
+     * <p/>
+     * {@link ForkJoinPool#commonPool()}を使用して、
+     * {@link #createAndCopyAllParallel(Class, List, CopyOptions, Executor)}を実行する。
+     *
+     * @param <T> 型引数
+     * @param beanClass コピー先のBeanクラスもしくはレコードクラス
+     * @param srcBeans コピー元のBeanもしくはレコード
+     * @param copyOptions コピーの設定
+     * @return コピーされたBeanもしくはレコードのリスト({@code srcBeans}と同じ順序)
+     * @throws BulkCopyException コピーに失敗した要素が存在する場合
+     */
+    public static <T> List<T> createAndCopyAllParallel(final Class<T> beanClass, final List<?> srcBeans,
+            final CopyOptions copyOptions) {
+        return createAndCopyAllParallel(beanClass, srcBeans, copyOptions, null);
+    }
+
+    /**
+     * 複数のJava Beansもしくはレコードから、別のBeanもしくはレコードのリストを並列に作成する。
+     * <p/>
+     * {@code srcBeans}をチャンクに分割し、チャンクごとに{@link #createAndCopyAll(Class, Iterable, CopyOptions)}で
+     * コピーする。結果は{@code srcBeans}と同じ順序となる。
+     * 要素数が少ない場合は、並列化のコストの方が大きくなるため、呼び出し元のスレッドで逐次にコピーする。
+     * <p/>
+     * 一部の要素のコピーに失敗した場合も残りの要素のコピーを続け、全ての要素を処理した後に{@link BulkCopyException}を送出する。
+     * 失敗した要素とその例外、失敗しなかった要素のコピー結果は{@link BulkCopyException}から取得できる。
+     * <p/>
+     * {@link Converter}やコピー先のクラスは、複数のスレッドから同時に使用できること。
+     *
+     * @param <T> 型引数
+     * @param beanClass コピー先のBeanクラスもしくはレコードクラス
+     * @param srcBeans コピー元のBeanもしくはレコード
+     * @param copyOptions コピーの設定
+     * @param executor コピーを実行する{@link Executor}({@code null}の場合は{@link ForkJoinPool#commonPool()})
+     * @return コピーされたBeanもしくはレコードのリスト({@code srcBeans}と同じ順序)
+     * @throws BulkCopyException コピーに失敗した要素が存在する場合
+     */
+    public static <T> List<T> createAndCopyAllParallel(final Class<T> beanClass, final List<?> srcBeans,
+            final CopyOptions copyOptions, final Executor executor) {
+        final ParallelCopier<Object, T> copier = new ParallelCopier<>(
+                (options, chunk) -> createAndCopyAll(beanClass, chunk, options),
+                (options, srcBean) -> createAndCopy(beanClass, srcBean, options));
+        return copier.copy(srcBeans, copyOptions, executor);
+    }
+
+    /**
+     * 複数の{@link Map}から、Beanもしくはレコードのリストを並列に作成する。
+     * <p/>
+     * {@link ForkJoinPool#commonPool()}を使用して、
+     * {@link #createAndCopyAllFromMapsParallel(Class, List, CopyOptions, Executor)}を実行する。
+     *
+     * @param <T> 型引数
+     * @param beanClass 生成したいBeanクラスもしくはレコードクラス
+     * @param maps
+     *   JavaBeansのプロパティ名をエントリーのキー
+     *   プロパティの値をエントリーの値とするMap
+     * @param copyOptions コピーの設定
+     * @return プロパティに値が登録されたBeanもしくはレコードのリスト({@code maps}と同じ順序)
+     * @throws BulkCopyException コピーに失敗した要素が存在する場合
+     */
+    public static <T> List<T> createAndCopyAllFromMapsParallel(final Class<T> beanClass,
+            final List<? extends Map<String, ?>> maps, final CopyOptions copyOptions) {
+        return createAndCopyAllFromMapsParallel(beanClass, maps, copyOptions, null);
+    }
+
+    /**
+     * 複数の{@link Map}から、Beanもしくはレコードのリストを並列に作成する。
+     * <p/>
+     * {@code maps}をチャンクに分割し、チャンクごとに{@link #createAndCopyAllFromMaps(Class, Iterable, CopyOptions)}で
+     * コピーする。失敗した要素の扱いなどは{@link #createAndCopyAllParallel(Class, List, CopyOptions, Executor)}と同じである。
+     *
+     * @param <T> 型引数
+     * @param beanClass 生成したいBeanクラスもしくはレコードクラス
+     * @param maps
+     *   JavaBeansのプロパティ名をエントリーのキー
+     *   プロパティの値をエントリーの値とするMap
+     * @param copyOptions コピーの設定
+     * @param executor コピーを実行する{@link Executor}({@code null}の場合は{@link ForkJoinPool#commonPool()})
+     * @return プロパティに値が登録されたBeanもしくはレコードのリスト({@code maps}と同じ順序)
+     * @throws BulkCopyException コピーに失敗した要素が存在する場合
+     */
+    public static <T> List<T> createAndCopyAllFromMapsParallel(final Class<T> beanClass,
+            final List<? extends Map<String, ?>> maps, final CopyOptions copyOptions, final Executor executor) {
+        final ParallelCopier<Map<String, ?>, T> copier = new ParallelCopier<>(
+                (options, chunk) -> createAndCopyAllFromMaps(beanClass, chunk, options),
+                (options, map) -> createAndCopy(beanClass, map, options));
+        return copier.copy(maps, copyOptions, executor);
+    }
+
+    /**
+     * Java Beansもしくはレコードから、別のBeanもしくはレコードを作成する関数を返す。
+     * <p/>
+     * 返される関数は、{@link #createAndCopy(Class, Object, CopyOptions)}と同じ結果を返す。
+     * アノテーションから構築したコピーの設定のマージや、プロパティと{@link Converter}の解決は本メソッドの呼び出し時に1度だけ行うため、
+     * {@link java.util.stream.Stream#map(Function)}などで要素ごとに{@link #createAndCopy(Class, Object, CopyOptions)}を呼び出すよりも効率が良い。
+     * <p/>
+     * 返される関数はスレッドセーフであるため、static変数などに保持して使い回すことができる。
+     * 関数に{@code srcClass}のサブクラスのインスタンスが渡された場合は、そのクラスをもとにコピーする。
+     * <pre>
+     * {@code
+     *     private static final Function<SrcBean, DestBean> MAPPER =
+     *             BeanUtil.mapper(SrcBean.class, DestBean.class, CopyOptions.empty());
+     *
+     *     List<DestBean> destBeans = srcBeans.stream()
+     *             .map(MAPPER)
+     *             .collect(BeanUtil.toList(srcBeans.size()));
+     * }
+     * </pre>
+     *
+     * @param <S> コピー元の型
+     * @param <T> コピー先の型
+     * @param srcClass コピー元のBeanクラスもしくはレコードクラス
+     * @param beanClass コピー先のBeanクラスもしくはレコードクラス
+     * @param copyOptions コピーの設定
+     * @return コピー元からコピー先を作成する関数
+     */
+    public static <S, T> Function<S, T> mapper(final Class<S> srcClass, final Class<T> beanClass,
+            final CopyOptions copyOptions) {
+        final CopyOptions mergedCopyOptions = mergeCopyOptions(copyOptions, srcClass, beanClass);
+        final PropertyConverters converters = mergedCopyOptions.getPropertyConverters(beanClass);
+        final Method[] readMethods = resolveReadMethods(srcClass, converters, mergedCopyOptions);
+        final boolean isRecord = beanClass.isRecord();
+
+        return srcBean -> {
+            if (srcBean == null || srcBean.getClass() != srcClass) {
+                return createAndCopy(beanClass, srcBean, copyOptions);
+            }
+            return isRecord
+                    ? createRecord(beanClass, srcBean, mergedCopyOptions, converters, readMethods)
+                    : copyProperties(srcBean, createInstance(beanClass), mergedCopyOptions, converters, readMethods);
+        };
+    }
+
+    /**
+     * {@link Map}から、Beanもしくはレコードを作成する関数を返す。
+     * <p/>
+     * 返される関数は、{@link #createAndCopy(Class, Map, CopyOptions)}と同じ結果を返す。
+     * アノテーションから構築したコピーの設定のマージや、プロパティと{@link Converter}の解決は本メソッドの呼び出し時に1度だけ行う。
+     * <p/>
+     * 返される関数はスレッドセーフであるため、static変数などに保持して使い回すことができる。
+     *
+     * @param <T> 型引数
+     * @param beanClass 生成したいBeanクラスもしくはレコードクラス
+     * @param copyOptions コピーの設定
+     * @return {@link Map}からBeanもしくはレコードを作成する関数
+     */
+    public static <T> Function<Map<String, ?>, T> mapMapper(final Class<T> beanClass, final CopyOptions copyOptions) {
+        final CopyOptions mergedCopyOptions = copyOptions.merge(CopyOptions.fromAnnotation(beanClass));
+
+        if (beanClass.isRecord()) {
+            return map -> createRecordFromPropertyMap(beanClass,
+                    createPropertyMap(beanClass, map, copyOptions, mergedCopyOptions));
+        }
+
+        final PropertyConverters converters = mergedCopyOptions.getPropertyConverters(beanClass);
+        return map -> {
+            final T bean = createInstance(beanClass);
+            if (map != null) {
+                copyMap(bean, map, copyOptions, mergedCopyOptions, converters, new HashMap<>());
+            }
+            return bean;
+        };
+    }
+
+    /**
+     * 2つのJava Beansもしくはレコードのプロパティを比較し、値が異なるプロパティの差分を返す。
+     * <p/>
+     * 両方のクラスに存在し、読み取りメソッドを持つプロパティを比較する。
+     * 比較対象のプロパティと読み取りメソッドは、クラスの組み合わせごとに1度だけ解決してキャッシュする。
+     * <p/>
+     * 値がネストしたBeanもしくはレコードの場合は、そのプロパティを再帰的に比較する。
+     * {@link List}と配列は、要素数が同じ場合は要素ごとに比較し、要素数が異なる場合はプロパティ全体を差分とする。
+     * それ以外の値は{@link Objects#deepEquals(Object, Object)}で比較する。
+     * 循環参照を持つBeanは比較できず、{@link BeansException}を送出する。
+     * <p/>
+     * {@code copyOptions}のコピー対象のプロパティ(includes)とコピー対象外のプロパティ(excludes)に従って、比較対象のプロパティを絞り込む。
+     * ネストしたプロパティは、{@code "address.city"}のように親プロパティ名を付けて指定する。
+     * ただし、コピー対象のプロパティにネストしたプロパティを指定する場合は、親プロパティ({@code "address"})も指定すること。
+     * <pre>
+     * {@code
+     *     BeanDiff diff = BeanUtil.diff(before, after, CopyOptions.options().excludes("updatedAt").build());
+     *     for (int i = 0; i < diff.size(); i++) {
+     *         System.out.println(diff.getPropertyName(i) + ": " + diff.getOldValue(i) + " -> " + diff.getNewValue(i));
+     *     }
+     * }
+     * </pre>
+     *
+     * @param oldBean 変更前のBeanもしくはレコード
+     * @param newBean 変更後のBeanもしくはレコード
+     * @param copyOptions 比較対象のプロパティを指定した設定
+     * @return 値が異なるプロパティの差分
+     * @throws IllegalArgumentException {@code oldBean}もしくは{@code newBean}がnullの場合
+     * @throws BeansException プロパティの読み取りに失敗した場合や、循環参照が存在する場合
+     */
+    public static BeanDiff diff(final Object oldBean, final Object newBean, final CopyOptions copyOptions) {
+        if (oldBean == null || newBean == null) {
+            throw new IllegalArgumentException("The beans to compare must not be null.");
+        }
+        return BeanDiff.of(oldBean, newBean, copyOptions);
+    }
+
+    /**
+     * Java Beansもしくはレコードを再帰的に複製する。
+     * <p/>
+     * {@link #deepClone(Object, boolean)}を、同一インスタンスへの参照を保持しない設定で呼び出す。
+     *
+     * @param <T> 型引数
+     * @param bean 複製元のBeanもしくはレコード
+     * @return 複製したBeanもしくはレコード({@code bean}がnullの場合はnull)
+     * @throws BeansException 複製に失敗した場合
+     */
+    public static <T> T deepClone(final T bean) {
+        return deepClone(bean, false);
+    }
+
+    /**
+     * Java Beansもしくはレコードを再帰的に複製する。
+     * <p/>
+     * 防御的コピーを目的としたメソッドであり、{@link #createAndCopy(Class, Object)}と異なりプロパティの変換処理を行わない。
+     * 複製の方法はクラスごとに1度だけ解決してキャッシュする。値は、型ごとに以下のように複製する。
+     * <ul>
+     *     <li>プリミティブ型、列挙型、{@link String}や{@link java.math.BigDecimal}、{@link java.time.LocalDate}などの
+     *     不変であることが分かっているJDKのクラス: 複製せずにそのまま使用する</li>
+     *     <li>{@link java.util.Date}、{@link java.util.Calendar}: {@code clone()}で複製する</li>
+     *     <li>配列: {@link Arrays#copyOf(Object[], int)}などで複製し、要素も再帰的に複製する</li>
+     *     <li>{@link java.util.Collection}: 複製元と同じクラスに要素を再帰的に複製する。
+     *     {@link java.util.SortedSet}などを受け取るコピーコンストラクタがあれば、{@link java.util.Comparator}などの設定も引き継ぐ。
+     *     変更不可能なコレクションなど同じクラスを生成できない場合、{@link List}は{@link ArrayList}に、
+     *     {@link Set}は{@link java.util.LinkedHashSet}({@link java.util.SortedSet}の場合は同じ{@link java.util.Comparator}の
+     *     {@link java.util.TreeSet})に複製する</li>
+     *     <li>{@link Map}: 複製元と同じクラスに値を再帰的に複製する。キーは複製しない。
+     *     同じクラスを生成できない場合は{@link LinkedHashMap}({@link java.util.SortedMap}の場合は
+     *     同じ{@link java.util.Comparator}の{@link java.util.TreeMap})に複製する</li>
+     *     <li>上記以外のJDKのクラス: {@code clone()}を公開していれば{@code clone()}で、
+     *     コピーコンストラクタがあればコピーコンストラクタで複製する。いずれも無いクラス
+     *     ({@link java.util.concurrent.atomic.AtomicInteger}など)は複製できない</li>
+     *     <li>レコード: コンポーネントを再帰的に複製し、カノニカルコンストラクタで生成する</li>
+     *     <li>Bean: デフォルトコンストラクタで生成し、読み取りメソッドと書き込みメソッドの両方を持つプロパティを再帰的に複製して設定する。
+     *     書き込み可能なプロパティを持たないクラスは、不変なクラスとみなして複製せずにそのまま使用する</li>
+     * </ul>
+     * <p/>
+     * {@code preserveIdentity}に{@code true}を指定した場合、複製元で同一のインスタンスを参照していた箇所は、
+     * 複製後も同一のインスタンスを参照する。このため、循環参照を持つBeanも複製できる。
+     * ただし、レコードはコンポーネントを複製した後に生成するため、レコード自身を経由する循環参照は複製できない。
+     * {@code false}を指定した場合は参照ごとに別のインスタンスに複製するため、循環参照を持つBeanは複製できない
+     * (循環参照を検出した場合は{@link BeansException}を送出する)。
+     *
+     * @param <T> 型引数
+     * @param bean 複製元のBeanもしくはレコード
+     * @param preserveIdentity 同一インスタンスへの参照と循環参照を保持する場合は{@code true}
+     * @return 複製したBeanもしくはレコード({@code bean}がnullの場合はnull)
+     * @throws BeansException
+     *   Beanにデフォルトコンストラクタが定義されていない場合や、プロパティの読み書きに失敗した場合、
+     *   複製できないJDKのクラスの値を持つ場合、レコード自身を経由する循環参照を複製しようとした場合、
+     *   {@code preserveIdentity}が{@code false}で循環参照を複製しようとした場合。
+     */
+    public static <T> T deepClone(final T bean, final boolean preserveIdentity) {
+        return DeepCloner.deepClone(bean, preserveIdentity);
+    }
+
+    /**
+     * 指定された要素数で初期化した{@link ArrayList}に要素を格納する{@link Collector}を返す。
+     * <p/>
+     * {@link Collectors#toList()}と異なり、リストの拡張による配列の再確保とコピーが発生しない。
+     * {@link #mapper(Class, Class, CopyOptions)}で作成した関数でコピーした結果を格納する場合などに使用する。
+     * <p/>
+     * 並列ストリームでは分割した単位ごとに指定された要素数のリストを生成するため、逐次ストリームで使用すること。
+     *
+     * @param <T> 要素の型
+     * @param expectedSize 想定される要素数
+     * @return 要素をリストに格納する{@link Collector}
+     */
+    public static <T> Collector<T, ?, List<T>> toList(final int expectedSize) {
+        return Collector.of(
+                () -> new ArrayList<>(expectedSize),
+                List::add,
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
+    }
+
+    /**
+     * コピー結果のリストの初期容量として、コピー元の要素数を返す。
+     *
+     * @param src コピー元
+     * @return コピー元が{@link Collection}の場合は要素数、それ以外の場合は{@code 10}
+     */
+    private static int sizeOf(final Iterable<?> src) {
+        return src instanceof Collection<?> collection ? collection.size() : 10;
+    }
+
     /**
      * BeanもしくはレコードからBeanに値をコピーする。
      * <p/>
@@ -1489,51 +2292,117 @@ public final class BeanUtil {
             throw new IllegalArgumentException("The destination bean must not be a record.");
         }
 
-        CopyOptions copyOptionsFromSrc = CopyOptions.fromAnnotation(srcBean.getClass());
-        CopyOptions copyOptionsFromDest = CopyOptions.fromAnnotation(destBean.getClass());
-        CopyOptions mergedCopyOptions = copyOptions.merge(copyOptionsFromSrc).merge(copyOptionsFromDest);
+        final CopyOptions mergedCopyOptions = mergeCopyOptions(copyOptions, srcBean.getClass(), destBean.getClass());
+        final PropertyConverters converters = mergedCopyOptions.getPropertyConverters(destBean.getClass());
+        return copyProperties(srcBean, destBean, mergedCopyOptions, converters,
+                resolveReadMethods(srcBean.getClass(), converters, mergedCopyOptions));
+    }
 
-        final PropertyDescriptor[] destPds = getPropertyDescriptors(destBean.getClass());
+    /**
+     * コピーの設定に、コピー元とコピー先のクラスのアノテーションから構築した設定をマージする。
+     *
+     * @param copyOptions コピーの設定
+     * @param srcClass コピー元のクラス
+     * @param destClass コピー先のクラス
+     * @return マージされたコピーの設定
+     */
+    private static CopyOptions mergeCopyOptions(final CopyOptions copyOptions, final Class<?> srcClass,
+            final Class<?> destClass) {
+        return copyOptions.merge(CopyOptions.fromAnnotation(srcClass)).merge(CopyOptions.fromAnnotation(destClass));
+    }
 
-        for (PropertyDescriptor pd : destPds) {
-            final String propertyName = pd.getName();
+    /**
+     * コピー先のプロパティごとに、コピー元から値を読み取るメソッドを解決する。
+     *
+     * @param srcClass コピー元のクラス
+     * @param converters コピー先のプロパティ
+     * @param mergedCopyOptions マージされたコピーの設定
+     * @return プロパティのインデックスに対応する読み取りメソッド。
+     *   コピー対象外のプロパティや、コピー元に対応するプロパティもしくはgetterが存在しない場合は{@code null}
+     */
+    private static Method[] resolveReadMethods(final Class<?> srcClass, final PropertyConverters converters,
+            final CopyOptions mergedCopyOptions) {
+        final Method[] readMethods = new Method[converters.size()];
+        for (int i = 0; i < readMethods.length; i++) {
+            final String propertyName = converters.getPropertyName(i);
             if (!mergedCopyOptions.isTargetProperty(propertyName)) {
                 continue;
             }
-
-            // srcBeanに対応するプロパティが存在しないか、getterが存在しない場合はスキップ
-            final Method getter;
             try {
-                getter = getReadMethod(srcBean.getClass(), propertyName);
-                if (getter == null) {
-                    continue;
-                }
+                readMethods[i] = getReadMethod(srcClass, propertyName);
             } catch (BeansException bex) {
+                // srcBeanに対応するプロパティが存在しない場合はコピーしない
+            }
+        }
+        return readMethods;
+    }
+
+    /**
+     * 解決済みのプロパティと読み取りメソッドを使用して、BeanもしくはレコードからBeanに値をコピーする。
+     *
+     * @param srcBean コピー元のBeanオブジェクトもしくはレコード
+     * @param destBean コピー先のBeanオブジェクト
+     * @param mergedCopyOptions マージされたコピーの設定
+     * @param converters コピー先のプロパティ
+     * @param readMethods コピー元の読み取りメソッド
+     * @param <DEST> コピー先のBeanの型
+     * @return コピー先のBeanオブジェクト
+     * @throws BeansException Beanのコピーに失敗した場合
+     */
+    private static <DEST> DEST copyProperties(final Object srcBean, final DEST destBean,
+            final CopyOptions mergedCopyOptions, final PropertyConverters converters, final Method[] readMethods) {
+        return copyProperties(srcBean, destBean, mergedCopyOptions, converters, readMethods, null, 0);
+    }
+
+    /**
+     * 解決済みのプロパティと読み取りメソッド、列単位で読み取り変換済みの値を使用して、
+     * BeanもしくはレコードからBeanに値をコピーする。
+     *
+     * @param srcBean コピー元のBeanオブジェクトもしくはレコード
+     * @param destBean コピー先のBeanオブジェクト
+     * @param mergedCopyOptions マージされたコピーの設定
+     * @param converters コピー先のプロパティ
+     * @param readMethods コピー元の読み取りメソッド
+     * @param columns 列単位で読み取り変換済みの値(存在しない場合は{@code null})
+     * @param row {@code columns}における{@code srcBean}の行
+     * @param <DEST> コピー先のBeanの型
+     * @return コピー先のBeanオブジェクト
+     * @throws BeansException Beanのコピーに失敗した場合
+     */
+    private static <DEST> DEST copyProperties(final Object srcBean, final DEST destBean,
+            final CopyOptions mergedCopyOptions, final PropertyConverters converters, final Method[] readMethods,
+            final PropertyColumns columns, final int row) {
+
+        for (int i = 0; i < converters.size(); i++) {
+            final String propertyName = converters.getPropertyName(i);
+            // コピー対象外か、srcBeanに対応するプロパティもしくはgetterが存在しない場合はスキップ
+            final Method getter = readMethods[i];
+            if (getter == null) {
                 continue;
             }
 
             try {
-                final Object val = getter.invoke(srcBean);
+                final Object val = columns != null && columns.isRead(i) ? columns.values[i][row] : getter.invoke(srcBean);
                 if (!(mergedCopyOptions.isExcludesNull() && val == null)) {
-                    if (hasConverter(destBean.getClass(), propertyName, mergedCopyOptions)) {
-                        setPropertyValue(destBean, propertyName, val, mergedCopyOptions);
+                    if (columns != null && columns.isConverted(i)) {
+                        setConvertedPropertyValue(destBean, converters, i, columns.converted[i][row]);
+                    } else if (converters.hasConverter(i)) {
+                        setPropertyValue(destBean, converters, i, val);
                     } else {
                         if (val != null) {
-                            Class<?> propertyType = pd.getPropertyType();
-                            CopyOptions.Builder builder = CopyOptions.options();
-                            if (mergedCopyOptions.isExcludesNull()) {
-                                builder.excludesNull();
-                            }
+                            Class<?> propertyType = converters.getPropertyType(i);
+                            CopyOptions nestedCopyOptions = mergedCopyOptions.isExcludesNull()
+                                    ? EXCLUDES_NULL : CopyOptions.empty();
 
                             if (propertyType.isRecord()) {
-                                setPropertyValue(destBean, propertyName, createRecord(propertyType, val, builder.build()), CopyOptions.empty());
+                                setPropertyValue(destBean, propertyName, createRecord(propertyType, val, nestedCopyOptions), CopyOptions.empty());
 
                             } else {
                                 Object innerDestBean = getProperty(destBean, propertyName);
                                 if (innerDestBean == null) {
                                     innerDestBean = createInstance(propertyType);
                                 }
-                                setPropertyValue(destBean, propertyName, copyInner(val, innerDestBean, builder.build()), CopyOptions.empty());
+                                setPropertyValue(destBean, propertyName, copyInner(val, innerDestBean, nestedCopyOptions), CopyOptions.empty());
                             }
                         }
                     }
@@ -1559,21 +2428,6 @@ public final class BeanUtil {
         return destBean;
     }
 
-    /**
-     * 指定されたプロパティの情報をもとに有効な{@link Converter}または{@link ExtensionConverter}が存在するか判定する。
-     *
-     * @param beanClass コピー先のbeanクラス
-     * @param propertyName コピー先のプロパティ名
-     * @param copyOptions コピーの設定
-     * @return 有効な{@link Converter}または{@link ExtensionConverter}が存在する場合は{@code true}
-     */
-    private static boolean hasConverter(Class<?> beanClass, String propertyName, CopyOptions copyOptions) {
-        Class<?> clazz = getPropertyType(beanClass, propertyName);
-        return copyOptions.hasNamedConverter(propertyName, clazz)
-                || copyOptions.hasTypedConverter(clazz)
-                || ConversionUtil.hasConverter(clazz);
-    }
-
     /**
      * BeanもしくはレコードからBeanに値をコピーする。
      * <p/>
@@ -1804,7 +2658,7 @@ public final class BeanUtil {
      * @return インスタンス
      * @throws BeansException インスタンスの生成に失敗した場合
      */
-    private static <T> T createInstance(Class<T> clazz) {
+    static <T> T createInstance(Class<T> clazz) {
         try {
             return clazz.getConstructor().newInstance();
         } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
@@ -1819,6 +2673,49 @@ public final class BeanUtil {
     static void clearCache() {
         PropertyDescriptors.clearCache();
         RecordComponents.clearCache();
+        CopyOptions.clearCache();
+    }
+
+    /**
+     * 同じクラスの複数のコピー元から、プロパティごとに列単位で読み取った値と変換後の値。
+     */
+    private static final class PropertyColumns {
+
+        /** プロパティのインデックスごとの読み取った値(読み取っていない場合は{@code null}) */
+        private final Object[][] values;
+
+        /** プロパティのインデックスごとの変換後の値(列単位で変換できなかった場合は{@code null}) */
+        private final Object[][] converted;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param size プロパティの数
+         */
+        private PropertyColumns(final int size) {
+            values = new Object[size][];
+            converted = new Object[size][];
+        }
+
+        /**
+         * プロパティの値を列単位で読み取ったかどうかを返す。
+         *
+         * @param index プロパティのインデックス
+         * @return 読み取った場合は{@code true}
+         */
+        private boolean isRead(final int index) {
+            return values[index] != null;
+        }
+
+        /**
+         * プロパティの値を列単位で変換したかどうかを返す。
+         *
+         * @param index プロパティのインデックス
+         * @return 変換した場合は{@code true}
+         */
+        private boolean isConverted(final int index) {
+            return converted[index] != null;
+        }
     }
 
     /**
@@ -1831,8 +2728,14 @@ public final class BeanUtil {
      */
     private static final class PropertyDescriptors {
 
-        /** キャッシュ本体 */
-        private static final WeakHashMap<Class<?>, PropertyDescriptors> CACHE = new WeakHashMap<>();
+        /**
+         * キャッシュ本体。
+         * <p>
+         * 取得時にロックを獲得せず、{@link Introspector}による解析もロックの外で行うため、
+         * 仮想スレッドから使用してもキャリアスレッドを固定(pinning)しない。
+         * </p>
+         */
+        private static volatile ClassValue<PropertyDescriptors> cache = newCache();
         /** {@link PropertyDescriptor}の配列表現 */
         final PropertyDescriptor[] array;
         /** {@link PropertyDescriptor}の{@link Map}表現 */
@@ -1868,8 +2771,26 @@ public final class BeanUtil {
          * 主にテストコードからの利用を想定している。
          * </p>
          */
-        static synchronized void clearCache() {
-            CACHE.clear();
+        static void clearCache() {
+            cache = newCache();
+        }
+
+        /**
+         * キャッシュを生成する。
+         *
+         * @return キャッシュ
+         */
+        private static ClassValue<PropertyDescriptors> newCache() {
+            return new ClassValue<PropertyDescriptors>() {
+                @Override
+                protected PropertyDescriptors computeValue(Class<?> type) {
+                    try {
+                        return new PropertyDescriptors(type);
+                    } catch (IntrospectionException e) {
+                        throw new BeansException("Failed to introspect bean class. class name: " + type.getName(), e);
+                    }
+                }
+            };
         }
 
         /**
@@ -1897,18 +2818,12 @@ public final class BeanUtil {
          * @return キャッシュ
          * @throws BeansException {@link Introspector} によるBeanの解析に失敗した場合
          */
-        static synchronized PropertyDescriptors get(final Class<?> beanClass) {
+        static PropertyDescriptors get(final Class<?> beanClass) {
             if(beanClass.isRecord()) {
                 throw new IllegalArgumentException("The target bean class must not be a record class.");
             }
 
-            return CACHE.computeIfAbsent(beanClass, k -> {
-                try {
-                    return new PropertyDescriptors(beanClass);
-                } catch (IntrospectionException e) {
-                    throw new BeansException("Failed to introspect bean class. class name: " + beanClass.getName(), e);
-                }
-            });
+            return cache.get(beanClass);
         }
     }
 
@@ -1920,8 +2835,8 @@ public final class BeanUtil {
      */
     private static final class RecordComponents {
 
-        /** キャッシュ本体 */
-        private static final WeakHashMap<Class<?>, RecordComponents> CACHE = new WeakHashMap<>();
+        /** キャッシュ本体(取得時にロックを獲得しない) */
+        private static volatile ClassValue<RecordComponents> cache = newCache();
         /** {@link RecordComponent}の配列表現 */
         final RecordComponent[] array;
         /** {@link RecordComponent}の{@link Map}表現 */
@@ -1952,8 +2867,22 @@ public final class BeanUtil {
          * 主にテストコードからの利用を想定している。
          * </p>
          */
-        static synchronized void clearCache() {
-            CACHE.clear();
+        static void clearCache() {
+            cache = newCache();
+        }
+
+        /**
+         * キャッシュを生成する。
+         *
+         * @return キャッシュ
+         */
+        private static ClassValue<RecordComponents> newCache() {
+            return new ClassValue<RecordComponents>() {
+                @Override
+                protected RecordComponents computeValue(Class<?> type) {
+                    return new RecordComponents(type);
+                }
+            };
         }
 
         /**
@@ -1979,13 +2908,12 @@ public final class BeanUtil {
          * @param recordClass クラス
          * @return キャッシュ
          */
-        static synchronized RecordComponents get(Class<?> recordClass) {
+        static RecordComponents get(Class<?> recordClass) {
             if(!recordClass.isRecord()) {
                 throw new IllegalArgumentException("The target bean class must be a record class.");
             }
 
-            return CACHE.computeIfAbsent(recordClass, k -> new RecordComponents(recordClass));
-
+            return cache.get(recordClass);
         }
     }
 }
@@ -0,0 +1,66 @@
+package nablarch.core.beans;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+
+import nablarch.core.util.annotation.Published;
+
+/**
+ * 複数の要素のコピー中に、一部の要素のコピーに失敗したことを表す例外。
+ * <p>
+ * 失敗した要素のインデックスと発生した例外、および失敗しなかった要素のコピー結果を保持する。
+ * 最初に失敗した要素で発生した例外を起因例外とする。
+ * <p>
+ * 失敗した要素の例外とコピー結果はシリアライズ可能とは限らないため、シリアライズの対象としない。
+ * デシリアライズした例外では、{@link #getFailures()}と{@link #getResults()}は空のコレクションを返す。
+ * 起因例外とメッセージはデシリアライズ後も参照できる。
+ *
+ * @author TIS
+ */
+@Published(tag = "architect")
+public class BulkCopyException extends BeansException {
+
+    /** serialVersionUID */
+    private static final long serialVersionUID = 1L;
+
+    /** 失敗した要素のインデックスと発生した例外 */
+    private final transient SortedMap<Integer, RuntimeException> failures;
+
+    /** コピー結果(失敗した要素はnull) */
+    private final transient List<?> results;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param failures 失敗した要素のインデックスと発生した例外(1件以上)
+     * @param results コピー結果(失敗した要素はnull)
+     */
+    BulkCopyException(final SortedMap<Integer, RuntimeException> failures, final List<?> results) {
+        super("Failed to copy " + failures.size() + " of " + results.size()
+                + " element(s). first failed index = " + failures.firstKey(),
+                failures.get(failures.firstKey()));
+        this.failures = Collections.unmodifiableSortedMap(failures);
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    /**
+     * 失敗した要素のインデックスと発生した例外を返す。
+     *
+     * @return 失敗した要素のインデックスと発生した例外(インデックスの昇順)。デシリアライズした例外の場合は空
+     */
+    public SortedMap<Integer, RuntimeException> getFailures() {
+        return failures != null ? failures : Collections.emptySortedMap();
+    }
+
+    /**
+     * コピー結果を返す。
+     * <p>
+     * コピー元と同じ順序で、コピーに失敗した要素はnullとなる。
+     *
+     * @return コピー結果。デシリアライズした例外の場合は空
+     */
+    public List<?> getResults() {
+        return results != null ? results : Collections.emptyList();
+    }
+}
@@ -1,10 +1,15 @@
 package nablarch.core.beans;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
 import nablarch.core.util.annotation.Published;
 
 /**
  * BeanUtilsが提供するJavaBeansの処理において何らかの問題が
  * 発生した場合に送出される実行時例外。
+ * <p>
+ * 入力値の検証などで大量に送出される場合を考慮し、メッセージは{@link #getMessage()}が呼び出された時点で生成する。
  *
  * @author kawasima
  * @author tajima
@@ -14,6 +19,15 @@ public class ConversionException extends RuntimeException {
     /** serialVersionUID */
     private static final long serialVersionUID = 1L;
 
+    /** 変換先の型 */
+    private final Class<?> type;
+
+    /** 変換対象の値 */
+    private final transient Object value;
+
+    /** メッセージ */
+    private String message;
+
     /**
      * コンストラクタ。
      *
@@ -21,6 +35,29 @@ public class ConversionException extends RuntimeException {
      * @param value 変換対象の値
      */
     public ConversionException(Class<?> type, Object value) {
-        super(String.format("Can't convert %s to %s.", value, type.getSimpleName()));
+        super();
+        this.type = type;
+        this.value = value;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = String.format("Can't convert %s to %s.", value, type.getSimpleName());
+        }
+        return message;
+    }
+
+    /**
+     * シリアライズする。
+     * <p>
+     * 変換対象の値はシリアライズできるとは限らないため、メッセージを生成してからシリアライズする。
+     *
+     * @param out 出力先
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
     }
 }
@@ -1,8 +1,12 @@
 package nablarch.core.beans;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import nablarch.core.beans.converter.CollectionExtensionConverterSupport;
 import nablarch.core.repository.SystemRepository;
 import nablarch.core.util.annotation.Published;
 
@@ -50,11 +54,42 @@ public final class ConversionUtil {
         if (converter != null) {
             return converter.convert(value);
         } else {
-            final ExtensionConverter<T> extensionConverter = (ExtensionConverter<T>) getExtensionConverter(type);
+            final ExtensionConverter<T> extensionConverter =
+                    (ExtensionConverter<T>) getExtensionConverter(getConversionManager(), type);
             return extensionConverter != null ? extensionConverter.convert(type, value) : (T) value;
         }
     }
 
+    /**
+     * {@link Converter}を用いて複数の値をまとめて型変換する。
+     * <p/>
+     * 使用する{@link Converter}は最初に1度だけ決定し、全ての要素の変換に使用する。
+     * 各要素の変換結果は{@link #convert(Class, Object)}で1つずつ変換した場合と同じとなる。
+     *
+     * @param type 変換する型
+     * @param src 変換元のオブジェクト
+     * @param dest 変換後のオブジェクトを格納する配列({@code src}以上の長さであること)
+     * @param <T> 変換する型
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void convertAll(final Class<T> type, final Object[] src, final T[] dest) {
+        final ConversionManager manager = getConversionManager();
+        final Converter<T> converter = (Converter<T>) manager.getConverters().get(type);
+        if (converter != null) {
+            converter.convertAll(src, dest);
+            return;
+        }
+        final ExtensionConverter<T> extensionConverter = (ExtensionConverter<T>) getExtensionConverter(manager, type);
+        for (int i = 0; i < src.length; i++) {
+            final Object value = src[i];
+            if (value == null || extensionConverter == null) {
+                dest[i] = (T) value;
+            } else {
+                dest[i] = extensionConverter.convert(type, value);
+            }
+        }
+    }
+
     /**
      * 指定された型に対応する{@link Converter}または、{@link ExtensionConverter}が存在するか判定する。
      *
@@ -63,7 +98,31 @@ public final class ConversionUtil {
      */
     public static boolean hasConverter(final Class<?> type) {
         final boolean result = getConverters().containsKey(type);
-        return result || getExtensionConverter(type) != null;
+        return result || getExtensionConverter(getConversionManager(), type) != null;
+    }
+
+    /**
+     * 指定された型に対応する{@link Converter}または、{@link ExtensionConverter}を取得する。
+     * <p/>
+     * 取得した{@link Converter}は{@link #convert(Class, Object)}と同じく、
+     * 変換元のオブジェクトが{@code null}だった場合は{@code null}を返す。
+     *
+     * @param manager {@link ConversionManager}
+     * @param type 変換したい型
+     * @return {@link Converter}。{@link Converter}も{@link ExtensionConverter}も存在しない場合は{@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static Converter<?> findConverter(final ConversionManager manager, final Class<?> type) {
+        final Converter<?> converter = manager.getConverters().get(type);
+        if (converter != null) {
+            return new NullSafeConverter<>(converter);
+        }
+        final ExtensionConverter<Object> extensionConverter =
+                (ExtensionConverter<Object>) getExtensionConverter(manager, type);
+        if (extensionConverter != null) {
+            return value -> value != null ? extensionConverter.convert(type, value) : null;
+        }
+        return null;
     }
 
     /** デフォルトの{@link ConversionManager} */
@@ -80,11 +139,12 @@ public final class ConversionUtil {
     /**
      * 指定の型に変換する拡張コンバータを取得する。
      *
+     * @param manager {@link ConversionManager}
      * @param type 型
      * @return 拡張コンバータ(存在しない場合はnull)
      */
-    private static ExtensionConverter<?> getExtensionConverter(final Class<?> type) {
-        final List<ExtensionConverter<?>> convertor = getConversionManager().getExtensionConvertor();
+    private static ExtensionConverter<?> getExtensionConverter(final ConversionManager manager, final Class<?> type) {
+        final List<ExtensionConverter<?>> convertor = manager.getExtensionConvertor();
         if (convertor == null) {
             return null;
         }
@@ -96,13 +156,78 @@ public final class ConversionUtil {
         return null;
     }
 
+    /**
+     * 指定された型に対応する{@link Converter}を、型パラメータを考慮して取得する。
+     * <p/>
+     * 型が{@link Collection}で、型パラメータに指定された要素の型に対応する{@link Converter}が存在する場合は、
+     * 各要素をその{@link Converter}で変換する{@link Converter}を返す。
+     * 要素の{@link Converter}は、{@link CopyOptions}で要素の型に指定された{@link Converter}を優先し、
+     * 指定されていない場合は{@link ConversionManager}から取得する。
+     * それ以外の場合は{@link #findConverter(ConversionManager, Class)}と同じ結果を返す。
+     *
+     * @param manager {@link ConversionManager}
+     * @param copyOptions コピーの設定
+     * @param type 変換したい型
+     * @param genericType 型パラメータを含む型
+     * @return {@link Converter}。{@link Converter}も{@link ExtensionConverter}も存在しない場合は{@code null}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Converter<?> findConverter(final ConversionManager manager, final CopyOptions copyOptions,
+            final Class<?> type, final Type genericType) {
+        if (genericType instanceof ParameterizedType parameterizedType
+                && Collection.class.isAssignableFrom(type)
+                && !manager.getConverters().containsKey(type)
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType
+                && getExtensionConverter(manager, type) instanceof CollectionExtensionConverterSupport support) {
+            final Converter<?> typed = copyOptions.getTypedConverter(elementType);
+            final Converter<?> elementConverter = typed != null ? typed : manager.getConverters().get(elementType);
+            if (elementConverter != null) {
+                return value -> value != null ? support.convert(type, value, elementConverter) : null;
+            }
+        }
+        return findConverter(manager, type);
+    }
+
     /**
      * {@link ConversionManager}を取得する。
      *
      * @return ConversionManager
      */
-    private static ConversionManager getConversionManager() {
+    static ConversionManager getConversionManager() {
         final ConversionManager manager = SystemRepository.get("conversionManager");
         return manager != null ? manager : DEFAULT_CONVERT_MANAGER;
     }
+
+    /**
+     * 変換元のオブジェクトが{@code null}の場合は{@code null}を返す{@link Converter}。
+     * <p/>
+     * {@link #convertAll(Object[], Object[])}は委譲先の{@link Converter}に委譲するため、
+     * 組み込みの{@link Converter}が列単位で最適化した変換をそのまま使用できる。
+     *
+     * @param <T> 変換後の型
+     */
+    private static final class NullSafeConverter<T> implements Converter<T> {
+
+        /** 委譲先の{@link Converter} */
+        private final Converter<T> converter;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param converter 委譲先の{@link Converter}
+         */
+        private NullSafeConverter(final Converter<T> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        public T convert(final Object value) {
+            return value != null ? converter.convert(value) : null;
+        }
+
+        @Override
+        public void convertAll(final Object[] src, final T[] dest) {
+            converter.convertAll(src, dest);
+        }
+    }
 }
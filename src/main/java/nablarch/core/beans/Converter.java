@@ -21,4 +21,22 @@ public interface Converter<T> {
      * @return T
      */
     T convert(Object value);
+
+    /**
+     * 転送先プロパティの型に指定された値をまとめて変換する。
+     * <p/>
+     * {@code src}の各要素を{@link #convert(Object)}で変換し、{@code dest}の同じ位置に格納する。
+     * 要素が{@code null}の場合は変換せずに{@code null}を格納する。
+     * <p/>
+     * 同じ型の値を大量に変換する場合に、変換処理の振り分けを列単位で済ませるために使用する。
+     *
+     * @param src 変換元の値
+     * @param dest 変換後の値を格納する配列({@code src}以上の長さであること)
+     */
+    default void convertAll(Object[] src, T[] dest) {
+        for (int i = 0; i < src.length; i++) {
+            final Object value = src[i];
+            dest[i] = value != null ? convert(value) : null;
+        }
+    }
 }
@@ -28,4 +28,15 @@ public @interface CopyOption {
      * @return 数値パターン
      */
     String[] numberPattern() default {};
+
+    /**
+     * 列挙型の定数に対応するコード値。
+     * <p>
+     * 列挙型の定数に指定し、{@link nablarch.core.beans.converter.EnumExtensionConverter}で
+     * 文字列から列挙型の定数へ変換する際に、定数名に加えて受け付ける値となる。
+     * 列挙型の定数以外に指定した場合は無視される。
+     * 
+     * @return コード値
+     */
+    String[] code() default {};
 }
@@ -15,7 +15,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import nablarch.core.beans.converter.BigDecimalConverter;
@@ -95,8 +96,29 @@ import nablarch.core.util.annotation.Published;
  */
 public final class CopyOptions {
 
-    /** {@link CopyOption}アノテーションから構築される{@link CopyOptions}のキャッシュ */
-    private static final WeakHashMap<Class<?>, CopyOptions> FROM_ANNOTATION_CACHE = new WeakHashMap<>();
+    /**
+     * {@link CopyOption}アノテーションから構築される{@link CopyOptions}のキャッシュ。
+     * 取得時にロックを獲得せず、アノテーションの読み取りもロックの外で行う。
+     */
+    private static final ClassValue<CopyOptions> FROM_ANNOTATION_CACHE = new ClassValue<CopyOptions>() {
+        @Override
+        protected CopyOptions computeValue(Class<?> type) {
+            return readAnnotation(type);
+        }
+    };
+    /**
+     * コピー先のクラスごとに、{@link Converter}の設定内容をキーとして解決された{@link Converter}のキャッシュ。
+     * <p>
+     * キーは{@link Converter}の設定内容のため、{@link #merge(CopyOptions)}や{@link #reduce(String)}で生成された
+     * インスタンスも、設定内容が同じであれば解決結果を共有する。
+     * {@link Builder#converter(Class, Converter)}などで個別に生成された{@link Converter}を持つインスタンスは、
+     * 設定内容が同じでも等価にならないため、このキャッシュを使用せずにインスタンスごとに解決結果を保持する。
+     * </p>
+     */
+    private static volatile ClassValue<Map<ConverterKey, PropertyConverters>> propertyConverters =
+            newPropertyConvertersCache();
+    /** コピー先のクラスごとにキャッシュする解決結果の上限(超えた場合はそのクラスのキャッシュをクリアする) */
+    private static final int MAX_PROPERTY_CONVERTERS_PER_CLASS = 64;
     /** 空の{@link CopyOptions} */
     private static final CopyOptions EMPTY = options().build();
     /** クラスに紐づいたコンバーター */
@@ -105,10 +127,16 @@ public final class CopyOptions {
     private final Map<String, Map<Class<?>, Converter<?>>> namedConverters;
     /** コピー元プロパティが{@code null}の場合にコピーしないかどうかを決定するフラグ */
     private final boolean excludesNull;
+    /** 変更可能な日付型の値を複製せずに共有するかどうかを決定するフラグ */
+    private final boolean sharesDates;
     /** コピー対象外のプロパティ名 */
     private final Collection<String> excludesProperties;
     /** コピー対象のプロパティ名 */
     private final Collection<String> includesProperties;
+    /** {@link Converter}の解決結果のキャッシュのキー(インスタンスごとに解決結果を保持する場合は{@code null}) */
+    private final ConverterKey converterKey;
+    /** インスタンスごとに保持する{@link Converter}の解決結果(キャッシュを共有する場合は{@code null}) */
+    private final LocalPropertyConverters localPropertyConverters;
 
     /**
      * 当クラスは使用者が明示的にコンストラクタを呼び出すのではなく、
@@ -118,20 +146,55 @@ public final class CopyOptions {
      * @param typedConverters クラスに紐づいたコンバーター
      * @param namedConverters プロパティ名とクラスに紐づいたコンバーター
      * @param excludesNull コピー元プロパティが{@code null}の場合にコピーしないかどうかを決定するフラグ
+     * @param sharesDates 変更可能な日付型の値を複製せずに共有するかどうかを決定するフラグ
      * @param excludesProperties コピー対象外のプロパティ名
      * @param includesProperties コピー対象のプロパティ名
+     * @param sharedConverters {@link Converter}が全てインスタンスをまたいで共有されるものかどうか
      */
     private CopyOptions(
             Map<Class<?>, Converter<?>> typedConverters,
             Map<String, Map<Class<?>, Converter<?>>> namedConverters,
             boolean excludesNull,
+            boolean sharesDates,
             Collection<String> excludesProperties,
-            Collection<String> includesProperties) {
+            Collection<String> includesProperties,
+            boolean sharedConverters) {
         this.typedConverters = Collections.unmodifiableMap(typedConverters);
         this.namedConverters = Collections.unmodifiableMap(namedConverters);
         this.excludesNull = excludesNull;
+        this.sharesDates = sharesDates;
+        this.excludesProperties = Collections.unmodifiableCollection(excludesProperties);
+        this.includesProperties = Collections.unmodifiableCollection(includesProperties);
+        if (sharedConverters) {
+            this.converterKey = new ConverterKey(this.typedConverters, this.namedConverters, sharesDates);
+            this.localPropertyConverters = null;
+        } else {
+            this.converterKey = null;
+            this.localPropertyConverters = new LocalPropertyConverters();
+        }
+    }
+
+    /**
+     * {@link #reduce(String)}から呼び出されるコンストラクタ。
+     * 
+     * <p>
+     * {@link Converter}の設定は元の{@link CopyOptions}と同じため、キャッシュのキーもしくは解決結果を引き継ぐ。
+     * </p>
+     * 
+     * @param original 元の{@link CopyOptions}
+     * @param excludesProperties コピー対象外のプロパティ名
+     * @param includesProperties コピー対象のプロパティ名
+     */
+    private CopyOptions(CopyOptions original, Collection<String> excludesProperties,
+            Collection<String> includesProperties) {
+        this.typedConverters = original.typedConverters;
+        this.namedConverters = original.namedConverters;
+        this.excludesNull = original.excludesNull;
+        this.sharesDates = original.sharesDates;
         this.excludesProperties = Collections.unmodifiableCollection(excludesProperties);
         this.includesProperties = Collections.unmodifiableCollection(includesProperties);
+        this.converterKey = original.converterKey;
+        this.localPropertyConverters = original.localPropertyConverters;
     }
 
     /**
@@ -151,16 +214,23 @@ public final class CopyOptions {
      * @param typedConverters クラスに紐づいたコンバーター
      * @param namedConverters プロパティ名とクラスに紐づいたコンバーター
      * @param excludesNull コピー元プロパティが{@code null}の場合にコピーしないかどうかを決定するフラグ
+     * @param sharesDates 変更可能な日付型の値を複製せずに共有するかどうかを決定するフラグ
      * @param excludesProperties コピー対象外のプロパティ名
+     * @param converterKey {@link Converter}の解決結果のキャッシュのキー
+     * @param localPropertyConverters インスタンスごとに保持する{@link Converter}の解決結果
      */
     private CopyOptions(Map<Class<?>, Converter<?>> typedConverters,
             Map<String, Map<Class<?>, Converter<?>>> namedConverters, boolean excludesNull,
-            Collection<String> excludesProperties) {
+            boolean sharesDates, Collection<String> excludesProperties, ConverterKey converterKey,
+            LocalPropertyConverters localPropertyConverters) {
         this.typedConverters = typedConverters;
         this.namedConverters = namedConverters;
         this.excludesNull = excludesNull;
+        this.sharesDates = sharesDates;
         this.excludesProperties = excludesProperties;
         this.includesProperties = Collections.emptyList();
+        this.converterKey = converterKey;
+        this.localPropertyConverters = localPropertyConverters;
     }
 
     /**
@@ -183,7 +253,10 @@ public final class CopyOptions {
                 typedConverters,
                 namedConverters,
                 excludesNull,
-                excludesProperties);
+                sharesDates,
+                excludesProperties,
+                converterKey,
+                localPropertyConverters);
     }
 
     /**
@@ -212,13 +285,18 @@ public final class CopyOptions {
      * @return {@link CopyOption}アノテーションを読み取って構築された{@link CopyOptions}
      */
     public static CopyOptions fromAnnotation(Class<?> clazz) {
-        synchronized (FROM_ANNOTATION_CACHE) {
-            CopyOptions maybeCached = FROM_ANNOTATION_CACHE.get(clazz);
-            if (maybeCached != null) {
-                return maybeCached;
-            }
-        }
+        return FROM_ANNOTATION_CACHE.get(clazz);
+    }
+
+    /**
+     * {@link CopyOption}アノテーションを読み取って{@link CopyOptions}を構築する。
+     *
+     * @param clazz アノテーションを読み取る対象のクラス
+     * @return {@link CopyOption}アノテーションを読み取って構築された{@link CopyOptions}
+     */
+    private static CopyOptions readAnnotation(Class<?> clazz) {
         CopyOptions.Builder builder = CopyOptions.options();
+        boolean annotated = false;
         Map<String, Field> fields = new HashMap<>();
         for (Class<?> c = clazz; c != Object.class; c = c.getSuperclass()) {
             for (Field field : c.getDeclaredFields()) {
@@ -237,6 +315,7 @@ public final class CopyOptions {
             if (copyOption == null) {
                 continue;
             }
+            annotated = true;
             if (copyOption.datePattern().length > 0) {
                 builder.datePatternsByName(propertyName,
                         Arrays.asList(copyOption.datePattern()));
@@ -246,11 +325,8 @@ public final class CopyOptions {
                         Arrays.asList(copyOption.numberPattern()));
             }
         }
-        CopyOptions copyOptions = builder.build();
-        synchronized (FROM_ANNOTATION_CACHE) {
-            FROM_ANNOTATION_CACHE.put(clazz, copyOptions);
-        }
-        return copyOptions;
+        //アノテーションが無い場合はEMPTYを返し、マージによるインスタンスの生成を避ける
+        return annotated ? builder.build() : EMPTY;
     }
 
 
@@ -268,12 +344,7 @@ public final class CopyOptions {
         Collection<String> tmpExcludeProperties = excludesProperties.stream()
                 .map(pn -> pn.replace(propertyName + ".", ""))
                 .collect(Collectors.toCollection(HashSet::new));
-        return new CopyOptions(
-                typedConverters,
-                namedConverters,
-                excludesNull,
-                tmpExcludeProperties,
-                tmpIncludeProperties);
+        return new CopyOptions(this, tmpExcludeProperties, tmpIncludeProperties);
     }
 
 
@@ -291,9 +362,9 @@ public final class CopyOptions {
      */
     public CopyOptions merge(CopyOptions other) {
         //this と other のどちらか片方が EMPTY の場合、マージは不要。
-        //ただし this の性質を優先してマージする仕様のため excludesNull を比較している。
-        //(excludesNull が異なる場合、単純に other を返せない)
-        if (this == EMPTY && excludesNull == other.excludesNull) {
+        //ただし this の性質を優先してマージする仕様のため excludesNull と sharesDates を比較している。
+        //(excludesNull や sharesDates が異なる場合、単純に other を返せない)
+        if (this == EMPTY && excludesNull == other.excludesNull && sharesDates == other.sharesDates) {
             return other;
         } else if (other == EMPTY) {
             return this;
@@ -302,8 +373,10 @@ public final class CopyOptions {
                 merge(typedConverters, other.typedConverters),
                 merge(namedConverters, other.namedConverters),
                 excludesNull,
+                sharesDates,
                 merge(excludesProperties, other.excludesProperties),
-                merge(includesProperties, other.includesProperties));
+                merge(includesProperties, other.includesProperties),
+                converterKey != null && other.converterKey != null);
     }
 
     /**
@@ -366,8 +439,86 @@ public final class CopyOptions {
      * @return 指定されたプロパティ名とクラスに紐づいたコンバーターを保持していれば{@code true}
      */
     public boolean hasNamedConverter(String propertyName, Class<?> clazz) {
-        return namedConverters.containsKey(propertyName)
-                && namedConverters.get(propertyName).containsKey(clazz);
+        return getNamedConverter(propertyName, clazz) != null;
+    }
+
+    /**
+     * クラスに紐づいたコンバーターを取得する。
+     * 
+     * @param clazz クラス
+     * @return クラスに紐づいたコンバーター。存在しない場合は{@code null}
+     */
+    Converter<?> getTypedConverter(Class<?> clazz) {
+        return typedConverters.get(clazz);
+    }
+
+    /**
+     * プロパティ名とクラスに紐づいたコンバーターを取得する。
+     * 
+     * @param propertyName プロパティ名
+     * @param clazz クラス
+     * @return プロパティ名とクラスに紐づいたコンバーター。存在しない場合は{@code null}
+     */
+    Converter<?> getNamedConverter(String propertyName, Class<?> clazz) {
+        Map<Class<?>, Converter<?>> converters = namedConverters.get(propertyName);
+        return converters != null ? converters.get(clazz) : null;
+    }
+
+    /**
+     * コピー先のクラスのプロパティごとに解決された{@link Converter}を取得する。
+     * 
+     * <p>
+     * 解決結果はクラスと{@link Converter}の設定内容ごとに保持し、2回目以降は保持している結果を返す。
+     * このため、{@link #merge(CopyOptions)}や{@link #reduce(String)}でコピーごとに生成されるインスタンスも、
+     * {@link Converter}の設定内容が同じであれば解決結果を共有する。
+     * 個別に生成された{@link Converter}を持つ場合は、インスタンスごとに解決結果を保持する。
+     * ただし、{@link ConversionUtil}が使用する{@link ConversionManager}が変わっている場合や、
+     * {@link #clearCache()}が呼び出された場合は解決し直す。
+     * </p>
+     * 
+     * @param beanClass コピー先のBeanクラスもしくはレコードクラス
+     * @return プロパティごとに解決された{@link Converter}
+     */
+    PropertyConverters getPropertyConverters(Class<?> beanClass) {
+        ConversionManager manager = ConversionUtil.getConversionManager();
+        if (localPropertyConverters != null) {
+            return localPropertyConverters.get(beanClass, this, manager);
+        }
+        Map<ConverterKey, PropertyConverters> cache = propertyConverters.get(beanClass);
+        PropertyConverters converters = cache.get(converterKey);
+        if (converters == null || !converters.isResolvedBy(manager)) {
+            converters = new PropertyConverters(beanClass, this, manager);
+            if (cache.size() >= MAX_PROPERTY_CONVERTERS_PER_CLASS) {
+                cache.clear();
+            }
+            cache.put(converterKey, converters);
+        }
+        return converters;
+    }
+
+    /**
+     * {@link Converter}の解決結果のキャッシュをクリアする。
+     *
+     * <p>
+     * 主にテストコードからの利用を想定している。
+     * </p>
+     */
+    static void clearCache() {
+        propertyConverters = newPropertyConvertersCache();
+    }
+
+    /**
+     * {@link Converter}の解決結果のキャッシュを生成する。
+     *
+     * @return キャッシュ
+     */
+    private static ClassValue<Map<ConverterKey, PropertyConverters>> newPropertyConvertersCache() {
+        return new ClassValue<Map<ConverterKey, PropertyConverters>>() {
+            @Override
+            protected Map<ConverterKey, PropertyConverters> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
     }
 
     /**
@@ -425,6 +576,16 @@ public final class CopyOptions {
         return excludesNull;
     }
 
+    /**
+     * 変更可能な日付型の値を複製せずに共有するかどうかを返す。
+     * 
+     * @return 変更可能な日付型の値を複製せずに共有する場合は{@code true}
+     * @see Builder#sharesDates()
+     */
+    public boolean isSharesDates() {
+        return sharesDates;
+    }
+
     /**
      * 指定されたプロパティがコピー対象かどうかを返す。
      * 
@@ -439,6 +600,99 @@ public final class CopyOptions {
                 || includesProperties.contains(propertyName);
     }
 
+    /**
+     * インスタンスごとに保持する{@link Converter}の解決結果。
+     *
+     * <p>
+     * {@link #reduce(String)}などで生成された、{@link Converter}の設定が同じインスタンスと共有する。
+     * {@link #clearCache()}が呼び出された場合は、保持している解決結果を破棄する。
+     * </p>
+     */
+    private static final class LocalPropertyConverters {
+
+        /** コピー先のクラスごとの解決結果 */
+        private final Map<Class<?>, PropertyConverters> cache = new ConcurrentHashMap<>();
+        /** 解決結果を保持した時点の共有キャッシュ */
+        private volatile ClassValue<?> generation = propertyConverters;
+
+        /**
+         * コピー先のクラスのプロパティごとに解決された{@link Converter}を取得する。
+         *
+         * @param beanClass コピー先のBeanクラスもしくはレコードクラス
+         * @param copyOptions 解決に使用する{@link CopyOptions}
+         * @param manager {@link ConversionManager}
+         * @return プロパティごとに解決された{@link Converter}
+         */
+        PropertyConverters get(Class<?> beanClass, CopyOptions copyOptions, ConversionManager manager) {
+            final ClassValue<?> current = propertyConverters;
+            if (generation != current) {
+                cache.clear();
+                generation = current;
+            }
+            PropertyConverters converters = cache.get(beanClass);
+            if (converters == null || !converters.isResolvedBy(manager)) {
+                converters = new PropertyConverters(beanClass, copyOptions, manager);
+                cache.put(beanClass, converters);
+            }
+            return converters;
+        }
+    }
+
+    /**
+     * {@link Converter}の解決結果のキャッシュのキー。
+     * 
+     * <p>
+     * {@link PropertyConverters}の解決結果に影響する設定(クラスに紐づいたコンバーター、
+     * プロパティ名とクラスに紐づいたコンバーター、変更可能な日付型を共有するかどうか)の内容で等価性を判定する。
+     * </p>
+     */
+    private static final class ConverterKey {
+
+        /** クラスに紐づいたコンバーター */
+        private final Map<Class<?>, Converter<?>> typedConverters;
+        /** プロパティ名とクラスに紐づいたコンバーター */
+        private final Map<String, Map<Class<?>, Converter<?>>> namedConverters;
+        /** 変更可能な日付型の値を複製せずに共有するかどうかを決定するフラグ */
+        private final boolean sharesDates;
+        /** ハッシュコード */
+        private final int hashCode;
+
+        /**
+         * コンストラクタ。
+         * 
+         * @param typedConverters クラスに紐づいたコンバーター
+         * @param namedConverters プロパティ名とクラスに紐づいたコンバーター
+         * @param sharesDates 変更可能な日付型の値を複製せずに共有するかどうかを決定するフラグ
+         */
+        ConverterKey(Map<Class<?>, Converter<?>> typedConverters,
+                Map<String, Map<Class<?>, Converter<?>>> namedConverters, boolean sharesDates) {
+            this.typedConverters = typedConverters;
+            this.namedConverters = namedConverters;
+            this.sharesDates = sharesDates;
+            this.hashCode = Objects.hash(typedConverters, namedConverters, sharesDates);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConverterKey)) {
+                return false;
+            }
+            ConverterKey other = (ConverterKey) o;
+            return hashCode == other.hashCode
+                    && sharesDates == other.sharesDates
+                    && typedConverters.equals(other.typedConverters)
+                    && namedConverters.equals(other.namedConverters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     /**
      * {@link CopyOptions}のビルダー。
      * 
@@ -454,16 +708,24 @@ public final class CopyOptions {
         private static final String CONVERTERS_PROVIDER_NAME = "convertersProvider";
         /** デフォルトの{@link ConvertersProvider} */
         private static final ConvertersProvider DEFAULT_CONVERTERS_PROVIDER = new DefaultConvertersProvider();
+        /** {@link ConvertersProvider}がパターンをもとに提供した{@link Converter}のキャッシュ */
+        private static final AtomicReference<PatternConvertersCache> PATTERN_CONVERTERS = new AtomicReference<>();
         /** クラスに紐づいたコンバーター */
         private final Map<Class<?>, Converter<?>> typedConverters = new HashMap<>();
         /** プロパティ名とクラスに紐づいたコンバーター */
         private final Map<String, Map<Class<?>, Converter<?>>> namedConverters = new HashMap<>();
         /** コピー元プロパティが{@code null}の場合にコピーしないかどうかを決定するフラグ */
         private boolean excludesNull;
+        /** 変更可能な日付型の値を複製せずに共有するかどうかを決定するフラグ */
+        private boolean sharesDates;
         /** コピー対象外のプロパティ名 */
         private final Collection<String> excludesProperties = new HashSet<>();
         /** コピー対象のプロパティ名 */
         private final Collection<String> includesProperties = new HashSet<>();
+        /** 設定された{@link Converter}が全てインスタンスをまたいで共有されるものかどうか */
+        private boolean sharedConverters = true;
+        /** パターンをもとに提供された{@link Converter}のキャッシュ(最初にパターンが設定されるまでは{@code null}) */
+        private PatternConvertersCache patternConverters;
 
         /**
          * {@link CopyOptions#options()}でインスタンス化するためコンストラクタをprivateに設定している。
@@ -497,7 +759,7 @@ public final class CopyOptions {
          */
         public Builder datePatterns(List<String> patterns) {
             addOrMergeConverters(typedConverters,
-                    getConvertersProvider().provideDateConverters(patterns));
+                    patternConverters().getDateConverters(patterns));
             return this;
         }
 
@@ -528,7 +790,7 @@ public final class CopyOptions {
          */
         public Builder datePatternsByName(String propertyName, List<String> patterns) {
             addOrMergeConverters(getOrCreateConverters(propertyName),
-                    getConvertersProvider().provideDateConverters(patterns));
+                    patternConverters().getDateConverters(patterns));
             return this;
         }
 
@@ -557,7 +819,7 @@ public final class CopyOptions {
          */
         public Builder numberPatterns(List<String> patterns) {
             addOrMergeConverters(typedConverters,
-                    getConvertersProvider().provideNumberConverters(patterns));
+                    patternConverters().getNumberConverters(patterns));
             return this;
         }
 
@@ -588,7 +850,7 @@ public final class CopyOptions {
          */
         public Builder numberPatternsByName(String propertyName, List<String> patterns) {
             addOrMergeConverters(getOrCreateConverters(propertyName),
-                    getConvertersProvider().provideNumberConverters(patterns));
+                    patternConverters().getNumberConverters(patterns));
             return this;
         }
 
@@ -600,6 +862,7 @@ public final class CopyOptions {
          * @return 自分自身
          */
         public <T> Builder converter(Class<T> clazz, Converter<T> converter) {
+            sharedConverters = false;
             addOrMergeConverter(typedConverters, clazz, converter);
             return this;
         }
@@ -614,6 +877,7 @@ public final class CopyOptions {
          */
         public <T> Builder converterByName(String propertyName, Class<T> clazz,
                 Converter<T> converter) {
+            sharedConverters = false;
             Map<Class<?>, Converter<?>> converters = getOrCreateConverters(propertyName);
             addOrMergeConverter(converters, clazz, converter);
             return this;
@@ -689,6 +953,22 @@ public final class CopyOptions {
             return this;
         }
 
+        /**
+         * コピー元とコピー先の型が同じ場合に、変更可能な日付型の値を複製せずに共有するよう設定する。
+         * 
+         * <p>
+         * 対象となる型は{@link java.util.Date}と{@link java.sql.Timestamp}である。
+         * コピー元とコピー先で同じインスタンスを参照することになるため、
+         * コピー結果を参照するだけで値を変更しない場合にのみ設定すること。
+         * </p>
+         * 
+         * @return 自分自身
+         */
+        public Builder sharesDates() {
+            this.sharesDates = true;
+            return this;
+        }
+
         /**
          * 指定されたプロパティをコピー対象外に設定する。
          * 
@@ -711,14 +991,31 @@ public final class CopyOptions {
             return this;
         }
 
+        /**
+         * パターンをもとに提供された{@link Converter}のキャッシュを取得する。
+         * <p>
+         * {@link SystemRepository}からの{@link ConvertersProvider}の取得は、ビルダーごとに最初にパターンが設定された時の1度だけ行う。
+         * キャッシュされない{@link Converter}が提供される場合、構築する{@link CopyOptions}は解決結果を共有しない。
+         * </p>
+         *
+         * @return {@link Converter}のキャッシュ
+         */
+        private PatternConvertersCache patternConverters() {
+            if (patternConverters == null) {
+                patternConverters = getPatternConverters();
+                sharedConverters &= patternConverters.isCacheable();
+            }
+            return patternConverters;
+        }
+
         /**
          * {@link CopyOptions}を構築する。
          * 
          * @return {@link CopyOptions}のインスタンス
          */
         public CopyOptions build() {
-            return new CopyOptions(typedConverters, namedConverters, excludesNull,
-                    excludesProperties, includesProperties);
+            return new CopyOptions(typedConverters, namedConverters, excludesNull, sharesDates,
+                    excludesProperties, includesProperties, sharedConverters);
         }
 
         /**
@@ -735,10 +1032,33 @@ public final class CopyOptions {
             ConvertersProvider provider = SystemRepository.get(CONVERTERS_PROVIDER_NAME);
             return Objects.requireNonNullElse(provider, DEFAULT_CONVERTERS_PROVIDER);
         }
+
+        /**
+         * 現在の{@link ConvertersProvider}が提供した{@link Converter}のキャッシュを取得する。
+         * <p>
+         * {@link #getConvertersProvider()}で取得した{@link ConvertersProvider}がキャッシュの提供元と異なる場合は、
+         * キャッシュを作り直す。
+         * </p>
+         *
+         * @return {@link Converter}のキャッシュ
+         */
+        private static PatternConvertersCache getPatternConverters() {
+            final ConvertersProvider provider = getConvertersProvider();
+            PatternConvertersCache cache = PATTERN_CONVERTERS.get();
+            if (cache == null || !cache.isProvidedBy(provider)) {
+                cache = new PatternConvertersCache(provider);
+                PATTERN_CONVERTERS.set(cache);
+            }
+            return cache;
+        }
     }
 
     /**
      * 日付パターン・数値パターンをもとに{@link Converter}を提供するインターフェース。
+     * <p>
+     * {@link #isCacheable()}が{@code true}を返す場合、提供された{@link Converter}は同じパターンのリストに対してキャッシュされ、
+     * 複数の{@link CopyOptions}から並行して使用される。
+     * </p>
      *
      */
     public interface ConvertersProvider {
@@ -758,6 +1078,19 @@ public final class CopyOptions {
          * @return 数値パターンをもとにした{@link Converter}のマップ
          */
         Map<Class<?>, Converter<?>> provideNumberConverters(List<String> patterns);
+
+        /**
+         * 提供した{@link Converter}を、同じパターンのリストに対してキャッシュしてよいかどうかを返す。
+         * <p>
+         * {@code true}を返す場合、提供する{@link Converter}はスレッドセーフでなければならない。
+         * デフォルトでは{@code false}を返し、パターンを指定するたびに{@link Converter}を提供させる。
+         * </p>
+         *
+         * @return キャッシュしてよい場合は{@code true}
+         */
+        default boolean isCacheable() {
+            return false;
+        }
     }
 
     /**
@@ -792,5 +1125,18 @@ public final class CopyOptions {
             converters.put(BigDecimal.class, new BigDecimalConverter(patterns));
             return converters;
         }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * 本クラスが提供する{@link Converter}はスレッドセーフであるため{@code true}を返す。
+         * ただし、サブクラスは提供する{@link Converter}を変更している可能性があるため{@code false}を返す。
+         * サブクラスで提供する{@link Converter}がスレッドセーフな場合は、本メソッドをオーバーライドして{@code true}を返すこと。
+         * </p>
+         */
+        @Override
+        public boolean isCacheable() {
+            return getClass() == DefaultConvertersProvider.class;
+        }
     }
 }
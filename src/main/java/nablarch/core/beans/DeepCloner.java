@@ -0,0 +1,729 @@
+package nablarch.core.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Java Beansやレコードを再帰的に複製するクラス。
+ * <p>
+ * 複製の方法はクラスごとに1度だけ解決してキャッシュし、複製時には変換処理({@link CopyOptions}やコンバータ)を経由しない。
+ * 値の種類ごとの複製方法は{@link BeanUtil#deepClone(Object, boolean)}を参照。
+ *
+ * @author TIS
+ */
+final class DeepCloner {
+
+    /** クラスごとの複製方法 */
+    private static final ClassValue<Plan> PLANS = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return createPlan(type);
+        }
+    };
+
+    /** 複製せずにそのまま使用する、不変であることが分かっているJDKのクラス */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            Object.class, String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class,
+            Long.class, Float.class, Double.class, BigDecimal.class, BigInteger.class, Class.class,
+            LocalDate.class, LocalDateTime.class, LocalTime.class, OffsetDateTime.class, OffsetTime.class,
+            ZonedDateTime.class, Instant.class, Duration.class, Period.class, Year.class, YearMonth.class,
+            MonthDay.class, UUID.class, Locale.class, Currency.class, URI.class, Pattern.class);
+
+    /** 複製せずにそのまま使用する値の複製方法 */
+    private static final Plan AS_IS = (value, clones) -> value;
+
+    /** レコードの複製中であることを表す値 */
+    private static final Object IN_PROGRESS = new Object();
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private DeepCloner() {
+    }
+
+    /**
+     * 値を複製する。
+     *
+     * @param value 複製する値
+     * @param preserveIdentity 同一インスタンスへの参照を複製後も同一インスタンスへの参照とする場合は{@code true}
+     * @param <T> 値の型
+     * @return 複製した値
+     * @throws BeansException 複製に失敗した場合
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T deepClone(final T value, final boolean preserveIdentity) {
+        return (T) cloneValue(value, new Clones(preserveIdentity));
+    }
+
+    /**
+     * 値を複製する。
+     *
+     * @param value 複製する値
+     * @param clones 複製の状態
+     * @return 複製した値
+     * @throws BeansException 同一性を保持しない設定で循環参照を複製しようとした場合
+     */
+    private static Object cloneValue(final Object value, final Clones clones) {
+        if (value == null) {
+            return null;
+        }
+        final Plan plan = PLANS.get(value.getClass());
+        if (plan == AS_IS) {
+            return value;
+        }
+        if (clones.identities != null) {
+            final Object clone = clones.identities.get(value);
+            if (clone == IN_PROGRESS) {
+                throw new BeansException("Failed to clone the cyclic reference through the record. class name: "
+                        + value.getClass().getName());
+            }
+            if (clone != null) {
+                return clone;
+            }
+            return plan.clone(value, clones);
+        }
+        if (!clones.visiting.add(value)) {
+            throw new BeansException("Failed to clone the cyclic reference without preserving identity. class name: "
+                    + value.getClass().getName());
+        }
+        try {
+            return plan.clone(value, clones);
+        } finally {
+            clones.visiting.remove(value);
+        }
+    }
+
+    /**
+     * 複製したインスタンスを記録する。
+     *
+     * @param clones 複製の状態
+     * @param value 複製元のインスタンス
+     * @param clone 複製したインスタンス
+     * @return 複製したインスタンス
+     */
+    private static Object register(final Clones clones, final Object value, final Object clone) {
+        if (clones.identities != null) {
+            clones.identities.put(value, clone);
+        }
+        return clone;
+    }
+
+    /**
+     * クラスの複製方法を作成する。
+     *
+     * @param type クラス
+     * @return 複製方法
+     * @throws BeansException 複製できないクラスの場合
+     */
+    private static Plan createPlan(final Class<?> type) {
+        if (type.isArray()) {
+            return createArrayPlan(type.getComponentType());
+        }
+        if (type.isRecord()) {
+            return new RecordPlan(type);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return createCollectionPlan(type);
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return createMapPlan(type);
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            return (value, clones) -> register(clones, value, ((Date) value).clone());
+        }
+        if (Calendar.class.isAssignableFrom(type)) {
+            return (value, clones) -> register(clones, value, ((Calendar) value).clone());
+        }
+        if (isImmutable(type)) {
+            return AS_IS;
+        }
+        if (isJdkClass(type)) {
+            return createJdkPlan(type);
+        }
+        return BeanPlan.create(type);
+    }
+
+    /**
+     * 複製せずにそのまま使用するクラスかどうかを判定する。
+     * <p>
+     * プリミティブ型、列挙型、および{@link #IMMUTABLE_TYPES}などの不変であることが分かっているJDKのクラスを、
+     * 複製せずにそのまま使用する。
+     *
+     * @param type クラス
+     * @return 複製せずにそのまま使用する場合は{@code true}
+     */
+    private static boolean isImmutable(final Class<?> type) {
+        return type.isPrimitive() || Enum.class.isAssignableFrom(type) || IMMUTABLE_TYPES.contains(type)
+                || ZoneId.class.isAssignableFrom(type) || Charset.class.isAssignableFrom(type);
+    }
+
+    /**
+     * JDKのクラスかどうかを判定する。
+     *
+     * @param type クラス
+     * @return JDKのクラスの場合は{@code true}
+     */
+    private static boolean isJdkClass(final Class<?> type) {
+        return type.getName().startsWith("java.") || type.getName().startsWith("javax.");
+    }
+
+    /**
+     * 要素を複製する必要がないクラスかどうかを判定する。
+     * <p>
+     * finalなクラスで、かつ複製せずにそのまま使用するクラスの場合、値のクラスごとの判定を省略できる。
+     * 自身を参照するクラスの複製方法の作成中に呼び出されるため、{@link #PLANS}は参照しない。
+     *
+     * @param type 要素もしくはプロパティの宣言型
+     * @return 値を複製する必要がない場合は{@code true}
+     */
+    private static boolean isAlwaysAsIs(final Class<?> type) {
+        return type.isPrimitive() || (Modifier.isFinal(type.getModifiers()) && isImmutable(type));
+    }
+
+    /**
+     * 配列の複製方法を作成する。
+     *
+     * @param componentType 配列の要素の型
+     * @return 複製方法
+     */
+    private static Plan createArrayPlan(final Class<?> componentType) {
+        if (componentType.isPrimitive()) {
+            return (value, clones) -> {
+                final int length = Array.getLength(value);
+                final Object clone = Array.newInstance(componentType, length);
+                System.arraycopy(value, 0, clone, 0, length);
+                return register(clones, value, clone);
+            };
+        }
+        final boolean shallow = isAlwaysAsIs(componentType);
+        return (value, clones) -> {
+            final Object[] array = (Object[]) value;
+            final Object[] clone = Arrays.copyOf(array, array.length);
+            register(clones, value, clone);
+            if (!shallow) {
+                for (int i = 0; i < clone.length; i++) {
+                    clone[i] = cloneValue(clone[i], clones);
+                }
+            }
+            return clone;
+        };
+    }
+
+    /**
+     * {@link Collection}の複製方法を作成する。
+     * <p>
+     * 複製元と同じクラスに要素を再帰的に複製する。
+     * {@link Collection}や{@link SortedSet}などを受け取るコピーコンストラクタがある場合は、
+     * {@link Comparator}などの設定を引き継ぐためにコピーコンストラクタで生成し、要素を複製したものに入れ替える。
+     * コピーコンストラクタが無い場合はデフォルトコンストラクタで生成する。
+     * いずれも使用できない場合(変更不可能なコレクションなど)は、{@link List}は{@link ArrayList}に、
+     * {@link Set}は{@link LinkedHashSet}({@link SortedSet}の場合は同じ{@link Comparator}の{@link TreeSet})に複製する。
+     *
+     * @param type {@link Collection}のクラス
+     * @return 複製方法
+     * @throws BeansException 複製できないクラスの場合
+     */
+    @SuppressWarnings("unchecked")
+    private static Plan createCollectionPlan(final Class<?> type) {
+        if (EnumSet.class.isAssignableFrom(type)) {
+            return (value, clones) -> register(clones, value, ((EnumSet<?>) value).clone());
+        }
+        final Constructor<?> copyConstructor = findCopyConstructor(type, Collection.class);
+        if (copyConstructor != null) {
+            return (value, clones) -> {
+                final Collection<Object> clone = (Collection<Object>) newInstance(copyConstructor, value);
+                register(clones, value, clone);
+                final List<Object> elements = cloneElements((Collection<?>) value, clones);
+                clone.clear();
+                clone.addAll(elements);
+                return clone;
+            };
+        }
+        final Constructor<?> defaultConstructor = findDefaultConstructor(type);
+        if (defaultConstructor != null) {
+            return (value, clones) -> {
+                final Collection<Object> clone = (Collection<Object>) newInstance(defaultConstructor);
+                register(clones, value, clone);
+                clone.addAll(cloneElements((Collection<?>) value, clones));
+                return clone;
+            };
+        }
+        if (List.class.isAssignableFrom(type)) {
+            return DeepCloner::cloneList;
+        }
+        if (Set.class.isAssignableFrom(type)) {
+            return DeepCloner::cloneSet;
+        }
+        throw new BeansException("Failed to clone the collection. class name: " + type.getName());
+    }
+
+    /**
+     * {@link Map}の複製方法を作成する。キーは複製せずにそのまま使用する。
+     * <p>
+     * 複製元と同じクラスに値を再帰的に複製する。
+     * {@link Map}や{@link SortedMap}を受け取るコピーコンストラクタがある場合は、
+     * {@link Comparator}などの設定を引き継ぐためにコピーコンストラクタで生成し、値を複製したものに置き換える。
+     * コピーコンストラクタが無い場合はデフォルトコンストラクタで生成する。
+     * いずれも使用できない場合(変更不可能なマップなど)は、{@link LinkedHashMap}
+     * ({@link SortedMap}の場合は同じ{@link Comparator}の{@link TreeMap})に複製する。
+     *
+     * @param type {@link Map}のクラス
+     * @return 複製方法
+     */
+    @SuppressWarnings("unchecked")
+    private static Plan createMapPlan(final Class<?> type) {
+        final Constructor<?> copyConstructor = findCopyConstructor(type, Map.class);
+        if (copyConstructor != null) {
+            return (value, clones) -> {
+                final Map<Object, Object> clone = (Map<Object, Object>) newInstance(copyConstructor, value);
+                register(clones, value, clone);
+                return putAll((Map<?, ?>) value, clone, clones);
+            };
+        }
+        final Constructor<?> defaultConstructor = findDefaultConstructor(type);
+        if (defaultConstructor != null) {
+            return (value, clones) -> {
+                final Map<Object, Object> clone = (Map<Object, Object>) newInstance(defaultConstructor);
+                register(clones, value, clone);
+                return putAll((Map<?, ?>) value, clone, clones);
+            };
+        }
+        return DeepCloner::cloneMap;
+    }
+
+    /**
+     * 不変であることが分からないJDKのクラスの複製方法を作成する。
+     * <p>
+     * {@link Cloneable}を実装して{@code clone()}を公開しているクラスは{@code clone()}で、
+     * 同じクラスを受け取るコピーコンストラクタ({@link CharSequence}の場合は{@link CharSequence}を受け取るコンストラクタ)
+     * があるクラスはコピーコンストラクタで複製する。
+     * {@link java.util.concurrent.atomic.AtomicInteger}のように、いずれの方法でも複製できないクラスは複製できない。
+     *
+     * @param type クラス
+     * @return 複製方法
+     * @throws BeansException 複製できないクラスの場合
+     */
+    private static Plan createJdkPlan(final Class<?> type) {
+        if (isInstantiable(type)) {
+            if (Cloneable.class.isAssignableFrom(type)) {
+                try {
+                    final Method clone = type.getMethod("clone");
+                    return (value, clones) -> register(clones, value, invoke(clone, value));
+                } catch (NoSuchMethodException ignored) {
+                    // cloneが公開されていない場合はコピーコンストラクタを使用する
+                }
+            }
+            final Class<?> parameterType = CharSequence.class.isAssignableFrom(type) ? CharSequence.class : type;
+            try {
+                final Constructor<?> copyConstructor = type.getConstructor(parameterType);
+                return (value, clones) -> register(clones, value, newInstance(copyConstructor, value));
+            } catch (NoSuchMethodException ignored) {
+                // 複製できないクラスとして例外を送出する
+            }
+        }
+        throw new BeansException("Failed to clone the value of the unsupported class. class name: " + type.getName());
+    }
+
+    /**
+     * インスタンスを生成できる公開クラスかどうかを判定する。
+     *
+     * @param type クラス
+     * @return インスタンスを生成できる公開クラスの場合は{@code true}
+     */
+    private static boolean isInstantiable(final Class<?> type) {
+        final int modifiers = type.getModifiers();
+        return Modifier.isPublic(modifiers) && !Modifier.isAbstract(modifiers)
+                && type.getModule().isExported(type.getPackageName());
+    }
+
+    /**
+     * コピーコンストラクタを探す。
+     * <p>
+     * {@code baseType}のサブインタフェースのうち、{@code type}が実装しているもの1つを引数とする公開コンストラクタを、
+     * 最も具体的なインタフェースを引数とするものから探す({@link TreeSet}の場合は{@link SortedSet}を受け取るもの)。
+     * 具象クラスを引数とするコンストラクタ({@link java.util.Properties}のデフォルト値を受け取るものなど)は、
+     * コピーコンストラクタとは限らないため対象外とする。
+     *
+     * @param type クラス
+     * @param baseType 引数の基底となるインタフェース
+     * @return コピーコンストラクタ(見つからない場合は{@code null})
+     */
+    private static Constructor<?> findCopyConstructor(final Class<?> type, final Class<?> baseType) {
+        if (!isInstantiable(type)) {
+            return null;
+        }
+        Constructor<?> found = null;
+        for (Constructor<?> constructor : type.getConstructors()) {
+            if (constructor.getParameterCount() != 1) {
+                continue;
+            }
+            final Class<?> parameterType = constructor.getParameterTypes()[0];
+            if (parameterType.isInterface() && baseType.isAssignableFrom(parameterType)
+                    && parameterType.isAssignableFrom(type)
+                    && (found == null || found.getParameterTypes()[0].isAssignableFrom(parameterType))) {
+                found = constructor;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * デフォルトコンストラクタを探す。
+     *
+     * @param type クラス
+     * @return デフォルトコンストラクタ(見つからない場合は{@code null})
+     */
+    private static Constructor<?> findDefaultConstructor(final Class<?> type) {
+        if (!isInstantiable(type)) {
+            return null;
+        }
+        try {
+            return type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * コンストラクタでインスタンスを生成する。
+     *
+     * @param constructor コンストラクタ
+     * @param args 引数
+     * @return 生成したインスタンス
+     * @throws BeansException インスタンスの生成に失敗した場合
+     */
+    private static Object newInstance(final Constructor<?> constructor, final Object... args) {
+        try {
+            return constructor.newInstance(args);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new BeansException(
+                    "Failed to clone the value. class name: " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    /**
+     * 引数を持たないメソッドを呼び出す。
+     *
+     * @param method メソッド
+     * @param target 呼び出し対象のインスタンス
+     * @return メソッドの戻り値
+     * @throws BeansException メソッドの呼び出しに失敗した場合
+     */
+    private static Object invoke(final Method method, final Object target) {
+        try {
+            return method.invoke(target);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new BeansException("Failed to clone the value. class name: " + target.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * 変更不可能な{@link List}などを{@link ArrayList}に複製する。
+     *
+     * @param value 複製元の{@link List}
+     * @param clones 複製の状態
+     * @return 複製した{@link List}
+     */
+    private static Object cloneList(final Object value, final Clones clones) {
+        final List<?> list = (List<?>) value;
+        final List<Object> clone = new ArrayList<>(list.size());
+        register(clones, value, clone);
+        clone.addAll(cloneElements(list, clones));
+        return clone;
+    }
+
+    /**
+     * 変更不可能な{@link Set}などを{@link LinkedHashSet}
+     * ({@link SortedSet}の場合は同じ{@link Comparator}の{@link TreeSet})に複製する。
+     *
+     * @param value 複製元の{@link Set}
+     * @param clones 複製の状態
+     * @return 複製した{@link Set}
+     */
+    @SuppressWarnings("unchecked")
+    private static Object cloneSet(final Object value, final Clones clones) {
+        final Set<?> set = (Set<?>) value;
+        final Set<Object> clone = set instanceof SortedSet
+                ? new TreeSet<>(((SortedSet<Object>) set).comparator())
+                : new LinkedHashSet<>(set.size() * 4 / 3 + 1);
+        register(clones, value, clone);
+        clone.addAll(cloneElements(set, clones));
+        return clone;
+    }
+
+    /**
+     * 要素を複製する。
+     *
+     * @param src 複製元のコレクション
+     * @param clones 複製の状態
+     * @return 複製した要素
+     */
+    private static List<Object> cloneElements(final Collection<?> src, final Clones clones) {
+        final List<Object> elements = new ArrayList<>(src.size());
+        for (Object element : src) {
+            elements.add(cloneValue(element, clones));
+        }
+        return elements;
+    }
+
+    /**
+     * 変更不可能な{@link Map}などを{@link LinkedHashMap}
+     * ({@link SortedMap}の場合は同じ{@link Comparator}の{@link TreeMap})に複製する。キーは複製せずにそのまま使用する。
+     *
+     * @param value 複製元の{@link Map}
+     * @param clones 複製の状態
+     * @return 複製した{@link Map}
+     */
+    @SuppressWarnings("unchecked")
+    private static Object cloneMap(final Object value, final Clones clones) {
+        final Map<?, ?> map = (Map<?, ?>) value;
+        final Map<Object, Object> clone = map instanceof SortedMap
+                ? new TreeMap<>(((SortedMap<Object, ?>) map).comparator())
+                : new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+        register(clones, value, clone);
+        return putAll(map, clone, clones);
+    }
+
+    /**
+     * 値を複製してマップに設定する。キーは複製せずにそのまま使用する。
+     * <p>
+     * 複製先に同じキーがある場合は、値を複製したものに置き換える。
+     *
+     * @param src 複製元のマップ
+     * @param dest 複製先のマップ
+     * @param clones 複製の状態
+     * @return 複製先のマップ
+     */
+    private static Map<Object, Object> putAll(final Map<?, ?> src, final Map<Object, Object> dest,
+            final Clones clones) {
+        for (Map.Entry<?, ?> entry : src.entrySet()) {
+            dest.put(entry.getKey(), cloneValue(entry.getValue(), clones));
+        }
+        return dest;
+    }
+
+    /**
+     * 複製の状態。
+     * <p>
+     * 同一性を保持する設定の場合は、複製元のインスタンスと複製したインスタンスを記録する。
+     * 同一性を保持しない設定の場合は、循環参照を検出するために複製中のインスタンスを記録する。
+     */
+    private static final class Clones {
+
+        /** 複製元のインスタンスと複製したインスタンス(同一性を保持しない場合は{@code null}) */
+        final Map<Object, Object> identities;
+
+        /** 複製中のインスタンス(同一性を保持する場合は{@code null}) */
+        final Set<Object> visiting;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param preserveIdentity 同一インスタンスへの参照を複製後も同一インスタンスへの参照とする場合は{@code true}
+         */
+        Clones(final boolean preserveIdentity) {
+            this.identities = preserveIdentity ? new IdentityHashMap<>() : null;
+            this.visiting = preserveIdentity ? null : Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+    }
+
+    /**
+     * クラスごとの複製方法。
+     */
+    @FunctionalInterface
+    private interface Plan {
+
+        /**
+         * 値を複製する。
+         *
+         * @param value 複製する値
+         * @param clones 複製の状態
+         * @return 複製した値
+         */
+        Object clone(Object value, Clones clones);
+    }
+
+    /**
+     * Beanの複製方法。
+     * <p>
+     * 読み取りメソッドと書き込みメソッドの両方を持つプロパティを複製する。
+     */
+    private static final class BeanPlan implements Plan {
+
+        /** デフォルトコンストラクタ */
+        private final Constructor<?> constructor;
+
+        /** 読み取りメソッド */
+        private final Method[] readers;
+
+        /** 書き込みメソッド */
+        private final Method[] writers;
+
+        /** 値を複製せずにそのまま設定するかどうか */
+        private final boolean[] asIs;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param constructor デフォルトコンストラクタ
+         * @param properties 複製するプロパティ
+         */
+        private BeanPlan(final Constructor<?> constructor, final List<PropertyDescriptor> properties) {
+            this.constructor = constructor;
+            this.readers = new Method[properties.size()];
+            this.writers = new Method[properties.size()];
+            this.asIs = new boolean[properties.size()];
+            for (int i = 0; i < properties.size(); i++) {
+                final PropertyDescriptor pd = properties.get(i);
+                readers[i] = pd.getReadMethod();
+                writers[i] = pd.getWriteMethod();
+                asIs[i] = isAlwaysAsIs(pd.getPropertyType());
+            }
+        }
+
+        /**
+         * Beanの複製方法を作成する。
+         * <p>
+         * 書き込み可能なプロパティを持たないクラスは、不変なクラスとみなして複製せずにそのまま使用する。
+         *
+         * @param type Beanのクラス
+         * @return 複製方法
+         * @throws BeansException デフォルトコンストラクタが定義されていない場合
+         */
+        static Plan create(final Class<?> type) {
+            final List<PropertyDescriptor> properties = new ArrayList<>();
+            for (PropertyDescriptor pd : BeanUtil.getPropertyDescriptors(type)) {
+                if (pd.getReadMethod() != null && pd.getWriteMethod() != null) {
+                    properties.add(pd);
+                }
+            }
+            if (properties.isEmpty()) {
+                return AS_IS;
+            }
+            try {
+                return new BeanPlan(type.getConstructor(), properties);
+            } catch (NoSuchMethodException e) {
+                throw new BeansException(
+                        "Failed to create instance using default constructor. class name: " + type.getName(), e);
+            }
+        }
+
+        @Override
+        public Object clone(final Object value, final Clones clones) {
+            try {
+                final Object clone = constructor.newInstance();
+                register(clones, value, clone);
+                for (int i = 0; i < readers.length; i++) {
+                    final Object propertyValue = readers[i].invoke(value);
+                    writers[i].invoke(clone, asIs[i] ? propertyValue : cloneValue(propertyValue, clones));
+                }
+                return clone;
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException
+                     | IllegalArgumentException e) {
+                throw new BeansException("Failed to clone the bean. class name: " + value.getClass().getName(), e);
+            }
+        }
+    }
+
+    /**
+     * レコードの複製方法。
+     * <p>
+     * 全てのコンポーネントを複製し、カノニカルコンストラクタでレコードを生成する。
+     * レコードはコンポーネントを複製した後に生成するため、レコード自身を経由する循環参照は複製できない。
+     */
+    private static final class RecordPlan implements Plan {
+
+        /** カノニカルコンストラクタ */
+        private final Constructor<?> constructor;
+
+        /** アクセサ */
+        private final Method[] accessors;
+
+        /** 値を複製せずにそのまま設定するかどうか */
+        private final boolean[] asIs;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param type レコードのクラス
+         * @throws BeansException カノニカルコンストラクタの取得に失敗した場合
+         */
+        RecordPlan(final Class<?> type) {
+            final RecordComponent[] components = BeanUtil.getRecordComponents(type);
+            final Class<?>[] parameterTypes = new Class<?>[components.length];
+            this.accessors = new Method[components.length];
+            this.asIs = new boolean[components.length];
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+                accessors[i] = components[i].getAccessor();
+                asIs[i] = isAlwaysAsIs(parameterTypes[i]);
+            }
+            try {
+                this.constructor = type.getConstructor(parameterTypes);
+            } catch (NoSuchMethodException e) {
+                throw new BeansException("An error occurred while creating the record: " + type.getName(), e);
+            }
+        }
+
+        @Override
+        public Object clone(final Object value, final Clones clones) {
+            register(clones, value, IN_PROGRESS);
+            try {
+                final Object[] args = new Object[accessors.length];
+                for (int i = 0; i < accessors.length; i++) {
+                    final Object component = accessors[i].invoke(value);
+                    args[i] = asIs[i] ? component : cloneValue(component, clones);
+                }
+                final Object clone = constructor.newInstance(args);
+                return register(clones, value, clone);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException
+                     | IllegalArgumentException e) {
+                throw new BeansException("An error occurred while creating the record: " + value.getClass().getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package nablarch.core.beans;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.BiFunction;
+
+import nablarch.core.ThreadContext;
+
+/**
+ * 複数の要素のコピーを、要素をチャンクに分割して並列に実行するクラス。
+ * <p>
+ * 各チャンクは、一括コピー({@link BeanUtil#createAndCopyAll(Class, Iterable, CopyOptions)}など)で
+ * 逐次にコピーするため、コピーの設定やプロパティの解決はチャンクごとに1度だけ行う。
+ * チャンクのコピーに失敗した場合は、そのチャンクの要素を1件ずつコピーし直して失敗した要素を特定する。
+ * <p>
+ * 要素数が{@link #SEQUENTIAL_THRESHOLD}未満の場合は、呼び出し元のスレッドで逐次にコピーする。
+ * チャンクの大きさは、コピーを実行する{@link Executor}の並列度から決定する({@link #parallelismOf(Executor)}を参照)。
+ * <p>
+ * 日付のフォーマットなどで使用する言語({@link ThreadContext#getLanguage()})は、
+ * 呼び出し元のスレッドの値をコピーを実行するスレッドに引き継ぐ。
+ *
+ * @param <S> コピー元の要素の型
+ * @param <T> コピー先の要素の型
+ * @author TIS
+ */
+final class ParallelCopier<S, T> {
+
+    /** 並列にコピーする要素数の下限 */
+    static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    /** 並列度あたりのチャンク数(チャンクごとの処理時間のばらつきを吸収するため、並列度よりも多く分割する) */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /** チャンク内の要素を一括でコピーする関数 */
+    private final BiFunction<CopyOptions, List<S>, List<T>> bulkCopy;
+
+    /** 要素を1件ずつコピーする関数 */
+    private final BiFunction<CopyOptions, S, T> singleCopy;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param bulkCopy チャンク内の要素を一括でコピーする関数
+     * @param singleCopy 要素を1件ずつコピーする関数
+     */
+    ParallelCopier(final BiFunction<CopyOptions, List<S>, List<T>> bulkCopy,
+            final BiFunction<CopyOptions, S, T> singleCopy) {
+        this.bulkCopy = bulkCopy;
+        this.singleCopy = singleCopy;
+    }
+
+    /**
+     * 要素をコピーする。
+     *
+     * @param src コピー元の要素
+     * @param copyOptions コピーの設定
+     * @param executor コピーを実行する{@link Executor}({@code null}の場合は{@link ForkJoinPool#commonPool()})
+     * @return コピー結果({@code src}と同じ順序で、要素の追加や削除ができるリスト)
+     * @throws BulkCopyException コピーに失敗した要素が存在する場合
+     */
+    @SuppressWarnings("unchecked")
+    List<T> copy(final List<? extends S> src, final CopyOptions copyOptions, final Executor executor) {
+        final List<S> elements = src instanceof RandomAccess ? (List<S>) src : new ArrayList<>(src);
+        final int size = elements.size();
+        final Object[] results = new Object[size];
+        final SortedMap<Integer, RuntimeException> failures = new TreeMap<>();
+
+        if (size < SEQUENTIAL_THRESHOLD) {
+            failures.putAll(copyChunk(elements, 0, size, copyOptions, results));
+        } else {
+            final int parallelism = parallelismOf(executor);
+            final int chunkSize = Math.max(SEQUENTIAL_THRESHOLD / 2,
+                    (size + parallelism * CHUNKS_PER_THREAD - 1) / (parallelism * CHUNKS_PER_THREAD));
+            final Executor actualExecutor = executor == null ? ForkJoinPool.commonPool() : executor;
+            final Locale language = ThreadContext.getLanguage();
+
+            final List<CompletableFuture<SortedMap<Integer, RuntimeException>>> futures = new ArrayList<>();
+            for (int from = 0; from < size; from += chunkSize) {
+                final int chunkFrom = from;
+                final int chunkTo = Math.min(size, from + chunkSize);
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> copyChunkWithLanguage(elements, chunkFrom, chunkTo, copyOptions, results, language),
+                        actualExecutor));
+            }
+            for (CompletableFuture<SortedMap<Integer, RuntimeException>> future : futures) {
+                failures.putAll(join(future));
+            }
+        }
+
+        final List<T> result = new ArrayList<>((List<T>) Arrays.asList(results));
+        if (!failures.isEmpty()) {
+            throw new BulkCopyException(failures, result);
+        }
+        return result;
+    }
+
+    /**
+     * コピーを実行する{@link Executor}の並列度を返す。
+     * <p>
+     * {@link ForkJoinPool}の場合は{@link ForkJoinPool#getParallelism()}、
+     * {@link ThreadPoolExecutor}の場合は最大スレッド数(利用可能なプロセッサ数を上限とする)を並列度とする。
+     * それ以外の{@link Executor}は並列度を取得できないため、利用可能なプロセッサ数を並列度とする。
+     *
+     * @param executor コピーを実行する{@link Executor}({@code null}の場合は{@link ForkJoinPool#commonPool()})
+     * @return 並列度
+     */
+    static int parallelismOf(final Executor executor) {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        if (executor == null) {
+            return ForkJoinPool.getCommonPoolParallelism();
+        } else if (executor instanceof ForkJoinPool forkJoinPool) {
+            return forkJoinPool.getParallelism();
+        } else if (executor instanceof ThreadPoolExecutor threadPoolExecutor) {
+            return Math.max(1, Math.min(threadPoolExecutor.getMaximumPoolSize(), processors));
+        }
+        return processors;
+    }
+
+    /**
+     * 呼び出し元のスレッドの言語を設定してチャンクをコピーする。
+     *
+     * @param elements コピー元の要素
+     * @param from チャンクの開始位置
+     * @param to チャンクの終了位置(この位置を含まない)
+     * @param copyOptions コピーの設定
+     * @param results コピー結果を格納する配列
+     * @param language 呼び出し元のスレッドの言語
+     * @return 失敗した要素のインデックスと発生した例外
+     */
+    private SortedMap<Integer, RuntimeException> copyChunkWithLanguage(final List<S> elements, final int from,
+            final int to, final CopyOptions copyOptions, final Object[] results, final Locale language) {
+        final Locale original = ThreadContext.getLanguage();
+        ThreadContext.setLanguage(language);
+        try {
+            return copyChunk(elements, from, to, copyOptions, results);
+        } finally {
+            ThreadContext.setLanguage(original);
+        }
+    }
+
+    /**
+     * チャンクをコピーする。
+     * <p>
+     * 一括でのコピーに失敗した場合は、要素を1件ずつコピーし直して失敗した要素を特定する。
+     *
+     * @param elements コピー元の要素
+     * @param from チャンクの開始位置
+     * @param to チャンクの終了位置(この位置を含まない)
+     * @param copyOptions コピーの設定
+     * @param results コピー結果を格納する配列
+     * @return 失敗した要素のインデックスと発生した例外
+     */
+    private SortedMap<Integer, RuntimeException> copyChunk(final List<S> elements, final int from, final int to,
+            final CopyOptions copyOptions, final Object[] results) {
+        final SortedMap<Integer, RuntimeException> failures = new TreeMap<>();
+        try {
+            final List<T> copied = bulkCopy.apply(copyOptions, elements.subList(from, to));
+            for (int i = 0; i < copied.size(); i++) {
+                results[from + i] = copied.get(i);
+            }
+        } catch (RuntimeException bulkFailure) {
+            for (int i = from; i < to; i++) {
+                try {
+                    results[i] = singleCopy.apply(copyOptions, elements.get(i));
+                } catch (RuntimeException e) {
+                    failures.put(i, e);
+                }
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * チャンクのコピーの完了を待つ。
+     *
+     * @param future チャンクのコピー
+     * @return 失敗した要素のインデックスと発生した例外
+     */
+    private static SortedMap<Integer, RuntimeException> join(
+            final CompletableFuture<SortedMap<Integer, RuntimeException>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 要素ごとの例外はチャンク内で捕捉しているため、ここに到達するのはErrorなどの場合のみ
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
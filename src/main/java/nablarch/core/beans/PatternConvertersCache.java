@@ -0,0 +1,125 @@
+package nablarch.core.beans;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import nablarch.core.beans.CopyOptions.ConvertersProvider;
+
+/**
+ * {@link ConvertersProvider}が日付パターン・数値パターンをもとに提供した{@link Converter}をキャッシュするクラス。
+ * <p>
+ * 同じパターンのリストに対しては、{@link CopyOptions}のインスタンスをまたいで同じ{@link Converter}を使用する。
+ * これにより、{@link CopyOptions.Builder}や{@link CopyOptions#fromAnnotation(Class)}で
+ * 同じパターンを指定するたびに、フォーマッタを解析した{@link Converter}が生成されることを防ぐ。
+ * <p>
+ * キャッシュは提供元の{@link ConvertersProvider}ごとに保持する。
+ * {@link ConvertersProvider#isCacheable()}が{@code false}の場合はキャッシュせず、都度{@link ConvertersProvider}から取得する。
+ * <p>
+ * キャッシュした{@link Converter}はプロセスが終了するまで使用されるため、変換時のデフォルトタイムゾーンに依存する処理は
+ * 構築時のタイムゾーンを保持せず、変換のたびにデフォルトタイムゾーンを参照する
+ * (例えば{@link nablarch.core.beans.converter.DateConverter}は、変換時のデフォルトタイムゾーンでパースする)。
+ * <p>
+ * {@link Converter}の生成はキャッシュのロックの外で行う。
+ * 同じパターンのリストに対して同時に生成された場合は、先にキャッシュに登録されたものを使用する。
+ * パターンのリストは任意に指定できるため、キャッシュするパターンのリストの数は種類ごとに
+ * {@link #MAX_CACHED_PATTERNS}までとし、超える場合はキャッシュをクリアする。
+ *
+ * @author TIS
+ */
+final class PatternConvertersCache {
+
+    /** 種類(日付・数値)ごとにキャッシュするパターンのリストの最大数 */
+    static final int MAX_CACHED_PATTERNS = 256;
+
+    /** 提供元の{@link ConvertersProvider} */
+    private final ConvertersProvider provider;
+
+    /** 日付パターンのリストと{@link Converter}の対応 */
+    private final Map<List<String>, Map<Class<?>, Converter<?>>> dateConverters = new ConcurrentHashMap<>();
+
+    /** 数値パターンのリストと{@link Converter}の対応 */
+    private final Map<List<String>, Map<Class<?>, Converter<?>>> numberConverters = new ConcurrentHashMap<>();
+
+    /**
+     * 提供元の{@link ConvertersProvider}を設定してインスタンスを構築する。
+     *
+     * @param provider 提供元の{@link ConvertersProvider}
+     */
+    PatternConvertersCache(final ConvertersProvider provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * 指定された{@link ConvertersProvider}のキャッシュかどうかを返す。
+     *
+     * @param other {@link ConvertersProvider}
+     * @return 指定された{@link ConvertersProvider}のキャッシュであれば{@code true}
+     */
+    boolean isProvidedBy(final ConvertersProvider other) {
+        return provider == other;
+    }
+
+    /**
+     * 提供された{@link Converter}をキャッシュするかどうかを返す。
+     *
+     * @return キャッシュする場合は{@code true}
+     */
+    boolean isCacheable() {
+        return provider.isCacheable();
+    }
+
+    /**
+     * 日付パターンをもとにした{@link Converter}を返す。
+     *
+     * @param patterns 日付パターン
+     * @return 日付パターンをもとにした{@link Converter}のマップ(変更不可)
+     */
+    Map<Class<?>, Converter<?>> getDateConverters(final List<String> patterns) {
+        return get(dateConverters, patterns, ConvertersProvider::provideDateConverters);
+    }
+
+    /**
+     * 数値パターンをもとにした{@link Converter}を返す。
+     *
+     * @param patterns 数値パターン
+     * @return 数値パターンをもとにした{@link Converter}のマップ(変更不可)
+     */
+    Map<Class<?>, Converter<?>> getNumberConverters(final List<String> patterns) {
+        return get(numberConverters, patterns, ConvertersProvider::provideNumberConverters);
+    }
+
+    /**
+     * キャッシュから{@link Converter}を取得する。存在しない場合は{@link ConvertersProvider}から取得してキャッシュする。
+     * <p>
+     * {@link ConvertersProvider#isCacheable()}が{@code false}の場合は、キャッシュせずに{@link ConvertersProvider}から取得する。
+     *
+     * @param cache キャッシュ
+     * @param patterns パターン
+     * @param factory {@link ConvertersProvider}から{@link Converter}を取得する関数
+     * @return パターンをもとにした{@link Converter}のマップ(変更不可)
+     */
+    private Map<Class<?>, Converter<?>> get(final Map<List<String>, Map<Class<?>, Converter<?>>> cache,
+            final List<String> patterns,
+            final BiFunction<ConvertersProvider, List<String>, Map<Class<?>, Converter<?>>> factory) {
+        if (!provider.isCacheable()) {
+            return Collections.unmodifiableMap(factory.apply(provider, patterns));
+        }
+        final Map<Class<?>, Converter<?>> cached = cache.get(patterns);
+        if (cached != null) {
+            return cached;
+        }
+        // 呼び出し元のリストが変更されてもキャッシュのキーが変わらないよう、複製したリストをキーとする
+        final List<String> key = Collections.unmodifiableList(new ArrayList<>(patterns));
+        // ConvertersProviderの処理をキャッシュのロックの中で実行しないよう、ロックの外で生成してから登録する
+        final Map<Class<?>, Converter<?>> created = Collections.unmodifiableMap(factory.apply(provider, key));
+        if (cache.size() >= MAX_CACHED_PATTERNS) {
+            cache.clear();
+        }
+        final Map<Class<?>, Converter<?>> registered = cache.putIfAbsent(key, created);
+        return registered != null ? registered : created;
+    }
+}
@@ -0,0 +1,409 @@
+package nablarch.core.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nablarch.core.beans.converter.BigDecimalConverter;
+import nablarch.core.beans.converter.BooleanConverter;
+import nablarch.core.beans.converter.DateConverter;
+import nablarch.core.beans.converter.IntegerConverter;
+import nablarch.core.beans.converter.LocalDateConverter;
+import nablarch.core.beans.converter.LocalDateTimeConverter;
+import nablarch.core.beans.converter.LongConverter;
+import nablarch.core.beans.converter.OffsetDateTimeConverter;
+import nablarch.core.beans.converter.ShortConverter;
+import nablarch.core.beans.converter.SqlTimestampConverter;
+import nablarch.core.beans.converter.StringConverter;
+
+/**
+ * クラスのプロパティごとに、{@link CopyOptions}で使用する{@link Converter}を解決した結果を保持するクラス。
+ * <p>
+ * プロパティに対する{@link Converter}は次の優先順位で解決する。
+ * <ol>
+ * <li>{@link CopyOptions}にプロパティ名とクラスで登録された{@link Converter}</li>
+ * <li>{@link CopyOptions}にクラスで登録された{@link Converter}</li>
+ * <li>{@link ConversionManager}が提供する{@link Converter}または{@link ExtensionConverter}</li>
+ * </ol>
+ * {@link java.util.List}や{@link java.util.Set}など{@link java.util.Collection}型のプロパティで、
+ * 型パラメータに指定された要素の型に対応する{@link Converter}が{@link ConversionManager}に存在する場合は、
+ * 要素も変換する{@link Converter}を解決する。
+ * <p>
+ * {@link String}や数値、日付時刻など不変な型のプロパティで、{@link ConversionManager}が提供する{@link Converter}が
+ * 組み込みの{@link Converter}の場合は、値の型がプロパティの型と同じであれば変換せずにそのまま値を返す。
+ * {@link CopyOptions#isSharesDates()}が{@code true}の場合は、変更可能な日付型も同様に扱う。
+ * プロパティは{@link BeanUtil#getPropertyDescriptors(Class)}もしくはレコードコンポーネントと同じ順序でインデックス付けされる。
+ * コピー処理ではインデックスを指定して、プロパティ名、型、setter、{@link Converter}を取得する。
+ *
+ * @author TIS
+ */
+final class PropertyConverters {
+
+    /** 同じ型の値を変換せずに設定できる不変な型と、その型に対応する組み込みの{@link Converter}の型 */
+    private static final Map<Class<?>, Class<?>> IMMUTABLE_TYPES = Map.ofEntries(
+            Map.entry(String.class, StringConverter.class),
+            Map.entry(Boolean.class, BooleanConverter.class),
+            Map.entry(boolean.class, BooleanConverter.class),
+            Map.entry(Short.class, ShortConverter.class),
+            Map.entry(short.class, ShortConverter.class),
+            Map.entry(Integer.class, IntegerConverter.class),
+            Map.entry(int.class, IntegerConverter.class),
+            Map.entry(Long.class, LongConverter.class),
+            Map.entry(long.class, LongConverter.class),
+            Map.entry(BigDecimal.class, BigDecimalConverter.class),
+            Map.entry(LocalDate.class, LocalDateConverter.class),
+            Map.entry(LocalDateTime.class, LocalDateTimeConverter.class),
+            Map.entry(OffsetDateTime.class, OffsetDateTimeConverter.class));
+
+    /** 値を共有する設定の場合に変換せずに設定できる変更可能な日付型と、その型に対応する組み込みの{@link Converter}の型 */
+    private static final Map<Class<?>, Class<?>> MUTABLE_DATE_TYPES = Map.of(
+            Date.class, DateConverter.class,
+            Timestamp.class, SqlTimestampConverter.class);
+
+    /** 解決対象のクラス */
+    private final Class<?> beanClass;
+
+    /** 解決に使用した{@link ConversionManager} */
+    private final ConversionManager conversionManager;
+
+    /** 解決に使用した{@link ConversionManager}の{@link Converter} */
+    private final Map<Class<?>, Converter<?>> globalConverters;
+
+    /** 解決に使用した{@link ConversionManager}の{@link ExtensionConverter} */
+    private final List<ExtensionConverter<?>> extensionConverters;
+
+    /** プロパティ名 */
+    private final String[] names;
+
+    /** プロパティの型 */
+    private final Class<?>[] types;
+
+    /** 型パラメータを含むプロパティの型 */
+    private final Type[] genericTypes;
+
+    /** setter(レコードの場合は全て{@code null}) */
+    private final Method[] writeMethods;
+
+    /** 解決された{@link Converter}(存在しない場合は{@code null}) */
+    private final Converter<?>[] converters;
+
+    /** 変換後の値の型(プリミティブ型のプロパティの場合はラッパー型) */
+    private final Class<?>[] valueTypes;
+
+    /** {@link Converter#convertAll(Object[], Object[])}で列単位に変換できるかどうか */
+    private final boolean[] convertibleAll;
+
+    /** プロパティ名とインデックスの対応 */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * クラスのプロパティごとに{@link Converter}を解決してインスタンスを構築する。
+     *
+     * @param beanClass Beanクラスもしくはレコードクラス
+     * @param copyOptions コピーの設定
+     * @param conversionManager 使用する{@link ConversionManager}
+     */
+    PropertyConverters(final Class<?> beanClass, final CopyOptions copyOptions,
+            final ConversionManager conversionManager) {
+        this.beanClass = beanClass;
+        this.conversionManager = conversionManager;
+        this.globalConverters = conversionManager.getConverters();
+        this.extensionConverters = conversionManager.getExtensionConvertor();
+
+        if (beanClass.isRecord()) {
+            final RecordComponent[] rcs = BeanUtil.getRecordComponents(beanClass);
+            names = new String[rcs.length];
+            types = new Class<?>[rcs.length];
+            genericTypes = new Type[rcs.length];
+            writeMethods = new Method[rcs.length];
+            for (int i = 0; i < rcs.length; i++) {
+                names[i] = rcs[i].getName();
+                types[i] = rcs[i].getType();
+                genericTypes[i] = rcs[i].getGenericType();
+            }
+        } else {
+            final PropertyDescriptor[] pds = BeanUtil.getPropertyDescriptors(beanClass);
+            names = new String[pds.length];
+            types = new Class<?>[pds.length];
+            genericTypes = new Type[pds.length];
+            writeMethods = new Method[pds.length];
+            for (int i = 0; i < pds.length; i++) {
+                names[i] = pds[i].getName();
+                types[i] = pds[i].getPropertyType();
+                writeMethods[i] = pds[i].getWriteMethod();
+                genericTypes[i] = writeMethods[i] != null
+                        ? writeMethods[i].getGenericParameterTypes()[0]
+                        : types[i];
+            }
+        }
+
+        converters = new Converter<?>[names.length];
+        valueTypes = new Class<?>[names.length];
+        convertibleAll = new boolean[names.length];
+        indexes = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i], i);
+            valueTypes[i] = wrap(types[i]);
+            converters[i] = resolve(copyOptions, names[i], types[i], genericTypes[i]);
+            // CopyOptionsで指定されたConverterはnullも変換対象とするため、値ごとに変換する
+            convertibleAll[i] = copyOptions.getNamedConverter(names[i], types[i]) == null
+                    && copyOptions.getTypedConverter(types[i]) == null;
+        }
+    }
+
+    /**
+     * プロパティに対する{@link Converter}を解決する。
+     *
+     * @param copyOptions コピーの設定
+     * @param propertyName プロパティ名
+     * @param type プロパティの型
+     * @param genericType 型パラメータを含むプロパティの型
+     * @return 解決された{@link Converter}。存在しない場合は{@code null}
+     */
+    private Converter<?> resolve(final CopyOptions copyOptions, final String propertyName, final Class<?> type,
+            final Type genericType) {
+        final Converter<?> named = copyOptions.getNamedConverter(propertyName, type);
+        if (named != null) {
+            return named;
+        }
+        final Converter<?> typed = copyOptions.getTypedConverter(type);
+        if (typed != null) {
+            return typed;
+        }
+        final Converter<?> converter = ConversionUtil.findConverter(conversionManager, copyOptions, type, genericType);
+        if (converter != null && isTransferableAsIs(copyOptions, type)) {
+            return new AsIsConverter<>(wrap(type), converter);
+        }
+        return converter;
+    }
+
+    /**
+     * プリミティブ型の場合はラッパー型を返す。
+     *
+     * @param type 型
+     * @return プリミティブ型の場合はラッパー型、それ以外の場合は指定された型
+     */
+    private static Class<?> wrap(final Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    /**
+     * プロパティの型と同じ型の値を、変換せずにそのまま設定できるかどうかを判定する。
+     *
+     * @param copyOptions コピーの設定
+     * @param type プロパティの型
+     * @return 変換せずにそのまま設定できる場合は{@code true}
+     */
+    private boolean isTransferableAsIs(final CopyOptions copyOptions, final Class<?> type) {
+        Class<?> builtInConverterType = IMMUTABLE_TYPES.get(type);
+        if (builtInConverterType == null && copyOptions.isSharesDates()) {
+            builtInConverterType = MUTABLE_DATE_TYPES.get(type);
+        }
+        if (builtInConverterType == null) {
+            return false;
+        }
+        final Converter<?> converter = globalConverters.get(type);
+        return converter != null && converter.getClass() == builtInConverterType;
+    }
+
+    /**
+     * 指定された{@link ConversionManager}の現在の状態で解決されたものかどうかを返す。
+     *
+     * @param manager {@link ConversionManager}
+     * @return 指定された{@link ConversionManager}で解決されたものであれば{@code true}
+     */
+    boolean isResolvedBy(final ConversionManager manager) {
+        return conversionManager == manager
+                && globalConverters == manager.getConverters()
+                && extensionConverters == manager.getExtensionConvertor();
+    }
+
+    /**
+     * プロパティの数を返す。
+     *
+     * @return プロパティの数
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * プロパティ名に対応するインデックスを返す。
+     *
+     * @param propertyName プロパティ名
+     * @return インデックス。プロパティが存在しない場合は{@code -1}
+     */
+    int indexOf(final String propertyName) {
+        final Integer index = indexes.get(propertyName);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * プロパティ名に対応するインデックスを返す。
+     *
+     * @param propertyName プロパティ名
+     * @return インデックス
+     * @throws BeansException プロパティが存在しない場合
+     */
+    int getIndex(final String propertyName) {
+        final int index = indexOf(propertyName);
+        if (index < 0) {
+            // 存在しないプロパティの場合は、プロパティの取得時と同じ例外を送出する
+            BeanUtil.getPropertyType(beanClass, propertyName);
+            throw new BeansException("Unknown property: " + propertyName);
+        }
+        return index;
+    }
+
+    /**
+     * プロパティ名を返す。
+     *
+     * @param index インデックス
+     * @return プロパティ名
+     */
+    String getPropertyName(final int index) {
+        return names[index];
+    }
+
+    /**
+     * プロパティの型を返す。
+     *
+     * @param index インデックス
+     * @return プロパティの型
+     */
+    Class<?> getPropertyType(final int index) {
+        return types[index];
+    }
+
+    /**
+     * プロパティのsetterを返す。
+     *
+     * @param index インデックス
+     * @return setter。存在しない場合やレコードの場合は{@code null}
+     */
+    Method getWriteMethod(final int index) {
+        return writeMethods[index];
+    }
+
+    /**
+     * プロパティに対する{@link Converter}が存在するかどうかを返す。
+     *
+     * @param index インデックス
+     * @return {@link Converter}が存在する場合は{@code true}
+     */
+    boolean hasConverter(final int index) {
+        return converters[index] != null;
+    }
+
+    /**
+     * プロパティに対する{@link Converter}を使用して値を変換する。
+     * <p>
+     * {@link Converter}が存在しない場合は値をそのまま返す。
+     *
+     * @param index インデックス
+     * @param value 変換前の値
+     * @return 変換後の値
+     */
+    Object convert(final int index, final Object value) {
+        final Converter<?> converter = converters[index];
+        return converter != null ? converter.convert(value) : value;
+    }
+
+    /**
+     * プロパティに対する{@link Converter}を使用して、同じプロパティに設定する値をまとめて変換する。
+     * <p>
+     * 値の型ごとの変換処理の振り分けは{@link Converter#convertAll(Object[], Object[])}により列単位で行う。
+     * {@link CopyOptions}で指定された{@link Converter}の場合は、{@code null}も含めて値ごとに変換する。
+     * {@link Converter}が存在しない場合は値をそのまま返す。
+     *
+     * @param index インデックス
+     * @param values 変換前の値
+     * @return 変換後の値
+     */
+    @SuppressWarnings("unchecked")
+    Object[] convertAll(final int index, final Object[] values) {
+        final Converter<Object> converter = (Converter<Object>) converters[index];
+        if (converter == null) {
+            return values;
+        }
+        final Object[] converted = (Object[]) Array.newInstance(valueTypes[index], values.length);
+        if (convertibleAll[index]) {
+            converter.convertAll(values, converted);
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                converted[i] = converter.convert(values[i]);
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * プロパティの型と同じ型の値は変換せずにそのまま返す{@link Converter}。
+     *
+     * @param <T> 変換後の型
+     */
+    private static final class AsIsConverter<T> implements Converter<T> {
+
+        /** 変換せずにそのまま返す値の型 */
+        private final Class<?> valueType;
+
+        /** それ以外の値を変換する{@link Converter} */
+        private final Converter<T> converter;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param valueType 変換せずにそのまま返す値の型
+         * @param converter それ以外の値を変換する{@link Converter}
+         */
+        private AsIsConverter(final Class<?> valueType, final Converter<T> converter) {
+            this.valueType = valueType;
+            this.converter = converter;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T convert(final Object value) {
+            return value != null && value.getClass() == valueType ? (T) value : converter.convert(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * 全ての値がプロパティの型と同じ型({@code null}を含む)の場合は、そのまま複写する。
+         * それ以外の場合は委譲先の{@link Converter}でまとめて変換したうえで、同じ型の値をそのまま設定し直す。
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public void convertAll(final Object[] src, final T[] dest) {
+            boolean allAsIs = true;
+            for (final Object value : src) {
+                if (value != null && value.getClass() != valueType) {
+                    allAsIs = false;
+                    break;
+                }
+            }
+            if (!allAsIs) {
+                converter.convertAll(src, dest);
+            }
+            for (int i = 0; i < src.length; i++) {
+                final Object value = src[i];
+                if (allAsIs || value != null && value.getClass() == valueType) {
+                    dest[i] = (T) value;
+                }
+            }
+        }
+    }
+}
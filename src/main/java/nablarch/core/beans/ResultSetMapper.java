@@ -0,0 +1,367 @@
+package nablarch.core.beans;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import nablarch.core.log.Logger;
+import nablarch.core.log.LoggerManager;
+import nablarch.core.util.annotation.Published;
+
+/**
+ * {@link ResultSet}の各行から、Beanもしくはレコードを作成するクラス。
+ * <p>
+ * {@link ResultSetMetaData}をもとに、列とプロパティの対応と値の読み取り方法を{@link #mapAll(ResultSet)}の呼び出しごとに1度だけ解決する。
+ * 行ごとに{@link Map}を生成しないため、{@link ResultSet}の行を{@link Map}に変換して
+ * {@link BeanUtil#createAndCopy(Class, Map, CopyOptions)}でコピーするよりも効率が良い。
+ * <p>
+ * 列は、列ラベル({@link ResultSetMetaData#getColumnLabel(int)})と同じ名前のプロパティに対応付ける。
+ * 同じ名前のプロパティが存在しない場合は、アンダースコアを除いて大文字・小文字を区別せずに比較する
+ * (例えば、{@code USER_ID}列は{@code userId}プロパティに対応付ける)。
+ * 対応するプロパティが存在しない列は無視する。
+ * <p>
+ * 値は、列の型とプロパティの型に応じて{@link ResultSet#getInt(int)}、{@link ResultSet#getLong(int)}、
+ * {@link ResultSet#getTimestamp(int)}、{@link ResultSet#getDate(int)}、{@link ResultSet#getObject(int)}のいずれかで読み取り、
+ * {@link BeanUtil}のコピーと同じ{@link Converter}でプロパティの型に変換する。
+ * 値の変換に失敗したプロパティは、{@link Map}からのコピーと同様に値を設定しない。
+ * {@link CopyOptions#isExcludesNull()}が{@code true}の場合、値が{@code null}の列はプロパティに設定しないため、
+ * Beanのフィールドの初期値が保持される(レコードの場合は{@code null}もしくはプリミティブ型のデフォルト値となる)。
+ * <p>
+ * 本クラスのインスタンスはスレッドセーフであるため、static変数などに保持して使い回すことができる。
+ * <pre>
+ * {@code
+ *     private static final ResultSetMapper<User> MAPPER = ResultSetMapper.of(User.class, CopyOptions.empty());
+ *
+ *     try (ResultSet rs = statement.executeQuery()) {
+ *         List<User> users = MAPPER.mapAll(rs);
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> 作成するBeanもしくはレコードの型
+ * @author TIS
+ */
+@Published
+public final class ResultSetMapper<T> {
+
+    /** ロガー */
+    private static final Logger LOGGER = LoggerManager.get(ResultSetMapper.class);
+
+    /** 作成するBeanクラスもしくはレコードクラス */
+    private final Class<T> beanClass;
+
+    /** アノテーションから構築した設定をマージしたコピーの設定 */
+    private final CopyOptions mergedCopyOptions;
+
+    /** プロパティ名を正規化した名前とプロパティ名の対応 */
+    private final Map<String, String> normalizedNames;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param beanClass 作成するBeanクラスもしくはレコードクラス
+     * @param copyOptions コピーの設定
+     */
+    private ResultSetMapper(final Class<T> beanClass, final CopyOptions copyOptions) {
+        this.beanClass = beanClass;
+        this.mergedCopyOptions = copyOptions.merge(CopyOptions.fromAnnotation(beanClass));
+        this.normalizedNames = new HashMap<>();
+        for (String propertyName : BeanUtil.getPropertyNames(beanClass)) {
+            normalizedNames.putIfAbsent(normalize(propertyName), propertyName);
+        }
+    }
+
+    /**
+     * {@link ResultSetMapper}を作成する。
+     *
+     * @param <T> 作成するBeanもしくはレコードの型
+     * @param beanClass 作成するBeanクラスもしくはレコードクラス
+     * @param copyOptions コピーの設定
+     * @return {@link ResultSetMapper}
+     */
+    public static <T> ResultSetMapper<T> of(final Class<T> beanClass, final CopyOptions copyOptions) {
+        return new ResultSetMapper<>(beanClass, copyOptions);
+    }
+
+    /**
+     * {@link ResultSet}の現在位置から最終行までを読み取り、Beanもしくはレコードのリストを作成する。
+     * <p>
+     * {@link ResultSet}のクローズは呼び出し元で行うこと。
+     *
+     * @param resultSet {@link ResultSet}
+     * @return Beanもしくはレコードのリスト(行の順序)
+     * @throws BeansException
+     *   {@link ResultSet}の読み取りに失敗した場合や、Beanもしくはレコードの生成に失敗した場合
+     */
+    public List<T> mapAll(final ResultSet resultSet) {
+        try {
+            final PropertyConverters converters = mergedCopyOptions.getPropertyConverters(beanClass);
+            final Column[] columns = createColumns(resultSet.getMetaData(), converters);
+            final List<T> result = new ArrayList<>();
+            if (beanClass.isRecord()) {
+                final Constructor<T> constructor = getRecordConstructor(converters);
+                while (resultSet.next()) {
+                    result.add(createRecord(resultSet, columns, converters, constructor));
+                }
+            } else {
+                while (resultSet.next()) {
+                    result.add(createBean(resultSet, columns, converters));
+                }
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new BeansException("Failed to read the result set. class name: " + beanClass.getName(), e);
+        }
+    }
+
+    /**
+     * {@link ResultSetMetaData}をもとに、列とプロパティの対応を解決する。
+     *
+     * @param metaData {@link ResultSetMetaData}
+     * @param converters 作成するクラスのプロパティ
+     * @return プロパティに対応する列
+     * @throws SQLException {@link ResultSetMetaData}の読み取りに失敗した場合
+     */
+    private Column[] createColumns(final ResultSetMetaData metaData, final PropertyConverters converters)
+            throws SQLException {
+        final List<Column> columns = new ArrayList<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            final String label = metaData.getColumnLabel(i);
+            int index = converters.indexOf(label);
+            if (index < 0) {
+                final String propertyName = normalizedNames.get(normalize(label));
+                index = propertyName != null ? converters.indexOf(propertyName) : -1;
+            }
+            if (index < 0 || !mergedCopyOptions.isTargetProperty(converters.getPropertyName(index))) {
+                continue;
+            }
+            if (!beanClass.isRecord() && converters.getWriteMethod(index) == null) {
+                continue;
+            }
+            columns.add(new Column(i, index, ColumnReader.of(metaData.getColumnType(i), converters.getPropertyType(index))));
+        }
+        return columns.toArray(new Column[0]);
+    }
+
+    /**
+     * 現在の行からBeanを作成する。
+     *
+     * @param resultSet {@link ResultSet}
+     * @param columns プロパティに対応する列
+     * @param converters Beanのプロパティ
+     * @return Bean
+     * @throws SQLException {@link ResultSet}の読み取りに失敗した場合
+     */
+    private T createBean(final ResultSet resultSet, final Column[] columns, final PropertyConverters converters)
+            throws SQLException {
+        final T bean = BeanUtil.createInstance(beanClass);
+        for (Column column : columns) {
+            final Object value = column.reader.read(resultSet, column.columnIndex);
+            if (value == null && mergedCopyOptions.isExcludesNull()) {
+                continue;
+            }
+            final Method setter = converters.getWriteMethod(column.propertyIndex);
+            try {
+                setter.invoke(bean, converters.convert(column.propertyIndex, value));
+            } catch (Exception e) {
+                LOGGER.logDebug("An error occurred while writing to the property :"
+                        + converters.getPropertyName(column.propertyIndex));
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * 現在の行からレコードを作成する。
+     *
+     * @param resultSet {@link ResultSet}
+     * @param columns プロパティに対応する列
+     * @param converters レコードのプロパティ
+     * @param constructor レコードのコンストラクタ
+     * @return レコード
+     * @throws SQLException {@link ResultSet}の読み取りに失敗した場合
+     */
+    private T createRecord(final ResultSet resultSet, final Column[] columns, final PropertyConverters converters,
+            final Constructor<T> constructor) throws SQLException {
+        final Object[] args = new Object[converters.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = BeanUtil.PRIM_DEFAULT_VALUES.get(converters.getPropertyType(i));
+        }
+        for (Column column : columns) {
+            final Object value = column.reader.read(resultSet, column.columnIndex);
+            if (value == null && mergedCopyOptions.isExcludesNull()) {
+                continue;
+            }
+            try {
+                final Object converted = converters.convert(column.propertyIndex, value);
+                // プリミティブ型のコンポーネントにnullは設定できないため、デフォルト値のままとする
+                if (converted != null || !converters.getPropertyType(column.propertyIndex).isPrimitive()) {
+                    args[column.propertyIndex] = converted;
+                }
+            } catch (Exception e) {
+                LOGGER.logDebug("An error occurred while copying the property :"
+                        + converters.getPropertyName(column.propertyIndex));
+            }
+        }
+        try {
+            return constructor.newInstance(args);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new BeansException("An error occurred while creating the record: " + beanClass.getName(), e);
+        }
+    }
+
+    /**
+     * レコードのコンストラクタを取得する。
+     *
+     * @param converters レコードのプロパティ
+     * @return レコードのコンストラクタ
+     */
+    private Constructor<T> getRecordConstructor(final PropertyConverters converters) {
+        final Class<?>[] parameterTypes = new Class<?>[converters.size()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = converters.getPropertyType(i);
+        }
+        try {
+            return beanClass.getConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new BeansException("An error occurred while creating the record: " + beanClass.getName(), e);
+        }
+    }
+
+    /**
+     * 列ラベルやプロパティ名を、アンダースコアを除いて小文字に正規化する。
+     *
+     * @param name 列ラベルもしくはプロパティ名
+     * @return 正規化した名前
+     */
+    static String normalize(final String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * プロパティに対応する列。
+     */
+    private static final class Column {
+
+        /** 列番号(1から始まる) */
+        private final int columnIndex;
+
+        /** プロパティのインデックス */
+        private final int propertyIndex;
+
+        /** 値の読み取り方法 */
+        private final ColumnReader reader;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param columnIndex 列番号(1から始まる)
+         * @param propertyIndex プロパティのインデックス
+         * @param reader 値の読み取り方法
+         */
+        Column(final int columnIndex, final int propertyIndex, final ColumnReader reader) {
+            this.columnIndex = columnIndex;
+            this.propertyIndex = propertyIndex;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * 列の値の読み取り方法。
+     */
+    private enum ColumnReader {
+
+        /** {@link ResultSet#getInt(int)}で読み取る */
+        INT {
+            @Override
+            Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                final int value = resultSet.getInt(columnIndex);
+                return resultSet.wasNull() ? null : value;
+            }
+        },
+
+        /** {@link ResultSet#getLong(int)}で読み取る */
+        LONG {
+            @Override
+            Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                final long value = resultSet.getLong(columnIndex);
+                return resultSet.wasNull() ? null : value;
+            }
+        },
+
+        /** {@link ResultSet#getTimestamp(int)}で読み取る */
+        TIMESTAMP {
+            @Override
+            Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                return resultSet.getTimestamp(columnIndex);
+            }
+        },
+
+        /** {@link ResultSet#getDate(int)}で読み取る */
+        DATE {
+            @Override
+            Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                return resultSet.getDate(columnIndex);
+            }
+        },
+
+        /** {@link ResultSet#getObject(int)}で読み取る */
+        OBJECT {
+            @Override
+            Object read(final ResultSet resultSet, final int columnIndex) throws SQLException {
+                return resultSet.getObject(columnIndex);
+            }
+        };
+
+        /**
+         * 列の値を読み取る。
+         *
+         * @param resultSet {@link ResultSet}
+         * @param columnIndex 列番号(1から始まる)
+         * @return 列の値
+         * @throws SQLException 読み取りに失敗した場合
+         */
+        abstract Object read(ResultSet resultSet, int columnIndex) throws SQLException;
+
+        /**
+         * 列の型とプロパティの型から、値の読み取り方法を決定する。
+         * <p>
+         * 整数型の列を{@code int}型や{@code long}型のプロパティに設定する場合は、
+         * ドライバによって{@link ResultSet#getObject(int)}が返す型({@link java.math.BigDecimal}など)が異なることによる
+         * 変換を避けるため、型に応じたメソッドで読み取る。
+         * 読み取った値は、{@link CopyOptions}で指定された{@link Converter}を適用するためラッパー型として扱い、
+         * プリミティブ型のプロパティにも{@link Converter}を経由して設定する。
+         * 日付型・日時型の列は、{@link java.sql.Date}もしくは{@link java.sql.Timestamp}として読み取り、
+         * {@link Converter}でプロパティの型に変換する。
+         *
+         * @param sqlType 列の型({@link Types})
+         * @param propertyType プロパティの型
+         * @return 値の読み取り方法
+         */
+        static ColumnReader of(final int sqlType, final Class<?> propertyType) {
+            final boolean isInt = sqlType == Types.INTEGER || sqlType == Types.SMALLINT || sqlType == Types.TINYINT;
+            if (isInt && (propertyType == int.class || propertyType == Integer.class)) {
+                return INT;
+            }
+            if ((isInt || sqlType == Types.BIGINT) && (propertyType == long.class || propertyType == Long.class)) {
+                return LONG;
+            }
+            if (sqlType == Types.TIMESTAMP) {
+                return TIMESTAMP;
+            }
+            if (sqlType == Types.DATE) {
+                return DATE;
+            }
+            return OBJECT;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package nablarch.core.beans.converter;
 
 import java.text.DecimalFormat;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import nablarch.core.beans.Converter;
 
@@ -19,11 +21,15 @@ public abstract class AbstractNumberConverter<T extends Number> implements Conve
     /** 数値パターン */
     private final List<String> patterns;
 
+    /** 数値パターンを解析済みのフォーマット */
+    private final List<ThreadLocalFormat<DecimalFormat>> formats;
+
     /**
      * デフォルトコンストラクタ
      */
     public AbstractNumberConverter() {
         this.patterns = Collections.emptyList();
+        this.formats = Collections.emptyList();
     }
 
     /**
@@ -33,6 +39,9 @@ public abstract class AbstractNumberConverter<T extends Number> implements Conve
      */
     public AbstractNumberConverter(List<String> patterns) {
         this.patterns = patterns;
+        this.formats = patterns.stream()
+                .map(pattern -> new ThreadLocalFormat<>(new DecimalFormat(pattern)))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -53,19 +62,20 @@ public abstract class AbstractNumberConverter<T extends Number> implements Conve
      */
     protected final T convertFromString(String value) {
         if (patterns.isEmpty() == false) {
-            ParseException lastThrownException = null;
-            for (String pattern : patterns) {
-                try {
-                    return this.convert(new DecimalFormat(pattern).parse(value));
-                } catch (ParseException ignore) {
-                    //複数のパターンを順番に試すのでParseExceptionは無視する
-                    lastThrownException = ignore;
+            int errorIndex = -1;
+            for (ThreadLocalFormat<DecimalFormat> format : formats) {
+                //パースに失敗しても例外を生成しないようParsePositionを使用してパースする
+                final ParsePosition position = new ParsePosition(0);
+                final Number number = format.get().parse(value, position);
+                if (position.getIndex() != 0) {
+                    return this.convert(number);
                 }
+                errorIndex = position.getErrorIndex();
             }
             //すべてのパターンが失敗した場合は例外をスロー
             throw new IllegalArgumentException(
                     "the string was not formatted " + patterns + ". number = " + value + ".",
-                    lastThrownException);
+                    new ParseException("Unparseable number: \"" + value + "\"", errorIndex));
         }
         return convertFromStringWithoutPattern(value);
     }
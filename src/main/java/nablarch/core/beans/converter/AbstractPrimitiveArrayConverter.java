@@ -0,0 +1,79 @@
+package nablarch.core.beans.converter;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+import nablarch.core.beans.ConversionException;
+import nablarch.core.beans.Converter;
+
+/**
+ * プリミティブ型の配列への変換を行う{@link Converter}の抽象基底クラス。
+ * <p/>
+ * 変換元の型に応じて、以下のとおり変換を行う。
+ * <p/>
+ * <b>変換先と同じ型の配列</b>：<br>
+ * 配列をコピーして返却する。
+ * <p/>
+ * <b>オブジェクトの配列({@code String[]}を含む)、{@link Collection}</b>：<br>
+ * 各要素を{@link #convertElements(Object[])}で変換した配列を返却する。
+ * <p/>
+ * <b>上記以外のプリミティブ型の配列</b>：<br>
+ * 各要素をラッパークラスに変換したうえで、{@link #convertElements(Object[])}で変換した配列を返却する。
+ * <p/>
+ * <b>上記以外</b>：<br>
+ * {@link ConversionException}を送出する。
+ *
+ * @author TIS
+ * @param <T> 変換後のプリミティブ型の配列の型
+ */
+public abstract class AbstractPrimitiveArrayConverter<T> implements Converter<T> {
+
+    /** 変換後の配列の型 */
+    private final Class<T> type;
+
+    /**
+     * 変換後の配列の型を設定してインスタンスを構築する。
+     *
+     * @param type 変換後の配列の型
+     */
+    protected AbstractPrimitiveArrayConverter(Class<T> type) {
+        this.type = type;
+    }
+
+    @Override
+    public T convert(Object value) {
+        if (type.isInstance(value)) {
+            return copy(type.cast(value));
+        } else if (value instanceof Object[]) {
+            return convertElements((Object[]) value);
+        } else if (value instanceof Collection) {
+            return convertElements(((Collection<?>) value).toArray());
+        } else if (value != null && value.getClass().isArray()) {
+            final Object[] elements = new Object[Array.getLength(value)];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = Array.get(value, i);
+            }
+            return convertElements(elements);
+        } else {
+            throw new ConversionException(type, value);
+        }
+    }
+
+    /**
+     * 変換先と同じ型の配列をコピーする。
+     *
+     * @param src コピー元の配列
+     * @return コピーした配列
+     */
+    protected abstract T copy(T src);
+
+    /**
+     * 各要素を変換してプリミティブ型の配列を生成する。
+     * <p/>
+     * 要素が{@code null}の場合は、その要素はプリミティブ型のデフォルト値とする。
+     *
+     * @param elements 変換元の要素
+     * @return 変換後の配列
+     */
+    protected abstract T convertElements(Object[] elements);
+}
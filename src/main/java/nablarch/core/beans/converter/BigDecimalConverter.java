@@ -84,4 +84,28 @@ public class BigDecimalConverter extends AbstractNumberConverter<BigDecimal> {
     protected BigDecimal convertFromStringWithoutPattern(String value) {
         return new BigDecimal(value);
     }
+
+    @Override
+    public void convertAll(final Object[] src, final BigDecimal[] dest) {
+        BulkConversionSupport.convertAll(src, dest, this::resolve);
+    }
+
+    /**
+     * 変換元の値の型に対応する変換処理を解決する。
+     *
+     * @param sourceType 変換元の値の型
+     * @return 変換処理
+     */
+    private Converter<BigDecimal> resolve(final Class<?> sourceType) {
+        if (BigDecimal.class.isAssignableFrom(sourceType)) {
+            return value -> (BigDecimal) value;
+        } else if (BigInteger.class.isAssignableFrom(sourceType)) {
+            return value -> new BigDecimal((BigInteger) value);
+        } else if (sourceType == Double.class || sourceType == Float.class) {
+            return value -> BigDecimal.valueOf(((Number) value).doubleValue());
+        } else if (Number.class.isAssignableFrom(sourceType)) {
+            return value -> BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return this;
+    }
 }
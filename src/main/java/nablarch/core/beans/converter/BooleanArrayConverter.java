@@ -0,0 +1,41 @@
+package nablarch.core.beans.converter;
+
+import nablarch.core.beans.Converter;
+
+/**
+ * {@code boolean[]}型への変換を行う {@link Converter} 。
+ * <p/>
+ * 変換元の型に応じた変換は{@link AbstractPrimitiveArrayConverter}を参照。
+ * 各要素は{@link BooleanConverter}で変換する。
+ *
+ * @author TIS
+ */
+public class BooleanArrayConverter extends AbstractPrimitiveArrayConverter<boolean[]> {
+
+    /** 要素の変換を行うコンバータ */
+    private final BooleanConverter converter = new BooleanConverter();
+
+    /**
+     * コンストラクタ。
+     */
+    public BooleanArrayConverter() {
+        super(boolean[].class);
+    }
+
+    @Override
+    protected boolean[] copy(final boolean[] src) {
+        return src.clone();
+    }
+
+    @Override
+    protected boolean[] convertElements(final Object[] elements) {
+        final boolean[] result = new boolean[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            final Object element = elements[i];
+            if (element != null) {
+                result[i] = converter.convert(element);
+            }
+        }
+        return result;
+    }
+}
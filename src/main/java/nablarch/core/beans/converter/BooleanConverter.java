@@ -47,4 +47,24 @@ public class BooleanConverter implements Converter<Boolean> {
             throw new ConversionException(Boolean.class, value);
         }
     }
+
+    @Override
+    public void convertAll(final Object[] src, final Boolean[] dest) {
+        BulkConversionSupport.convertAll(src, dest, this::resolve);
+    }
+
+    /**
+     * 変換元の値の型に対応する変換処理を解決する。
+     *
+     * @param sourceType 変換元の値の型
+     * @return 変換処理
+     */
+    private Converter<Boolean> resolve(final Class<?> sourceType) {
+        if (sourceType == Boolean.class) {
+            return value -> (Boolean) value;
+        } else if (Number.class.isAssignableFrom(sourceType)) {
+            return value -> ((Number) value).intValue() != 0;
+        }
+        return this;
+    }
 }
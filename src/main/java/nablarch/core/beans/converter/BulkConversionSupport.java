@@ -0,0 +1,66 @@
+package nablarch.core.beans.converter;
+
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+import nablarch.core.beans.Converter;
+
+/**
+ * 組み込みの{@link Converter}で、{@link Converter#convertAll(Object[], Object[])}を実装するためのユーティリティ。
+ * <p/>
+ * 変換元の値の型ごとの変換処理の振り分けを、値ごとではなく同じ型の値が連続する範囲ごとに1度だけ行う。
+ * 列の値が全て同じ型の場合は、列全体で1度だけ振り分けを行う。
+ *
+ * @author TIS
+ */
+final class BulkConversionSupport {
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private BulkConversionSupport() {
+    }
+
+    /**
+     * 変換元の値の型ごとに解決した変換処理で、値をまとめて変換する。
+     * <p/>
+     * 値が{@code null}の場合は変換せずに{@code null}を格納する。
+     *
+     * @param src 変換元の値
+     * @param dest 変換後の値を格納する配列({@code src}以上の長さであること)
+     * @param resolver 変換元の値の型から、その型の値を変換する処理を解決する関数
+     * @param <T> 変換後の型
+     */
+    static <T> void convertAll(final Object[] src, final T[] dest,
+            final Function<Class<?>, Converter<? extends T>> resolver) {
+        convertEach(src, resolver, (value, index) -> dest[index] = value);
+    }
+
+    /**
+     * 変換元の値の型ごとに解決した変換処理で値を変換し、変換後の値とインデックスを{@code consumer}に渡す。
+     * <p/>
+     * 値が{@code null}の場合は変換せずに{@code null}を渡す。
+     *
+     * @param src 変換元の値
+     * @param resolver 変換元の値の型から、その型の値を変換する処理を解決する関数
+     * @param consumer 変換後の値とインデックスを受け取る処理
+     * @param <T> 変換後の型
+     */
+    static <T> void convertEach(final Object[] src, final Function<Class<?>, Converter<? extends T>> resolver,
+            final ObjIntConsumer<T> consumer) {
+        Class<?> sourceType = null;
+        Converter<? extends T> converter = null;
+        for (int i = 0; i < src.length; i++) {
+            final Object value = src[i];
+            if (value == null) {
+                consumer.accept(null, i);
+                continue;
+            }
+            if (value.getClass() != sourceType) {
+                sourceType = value.getClass();
+                converter = resolver.apply(sourceType);
+            }
+            consumer.accept(converter.convert(value), i);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package nablarch.core.beans.converter;
+
+import nablarch.core.beans.ConversionException;
+import nablarch.core.beans.Converter;
+
+/**
+ * {@code char[]}型への変換を行う {@link Converter} 。
+ * <p/>
+ * 変換元の型に応じた変換は{@link AbstractPrimitiveArrayConverter}を参照。
+ * 各要素は{@link Character}であればその値、長さ1の文字列であればその文字に変換する。
+ * それ以外の要素が含まれる場合は{@link ConversionException}を送出する。
+ *
+ * @author TIS
+ */
+public class CharArrayConverter extends AbstractPrimitiveArrayConverter<char[]> {
+
+    /**
+     * コンストラクタ。
+     */
+    public CharArrayConverter() {
+        super(char[].class);
+    }
+
+    @Override
+    protected char[] copy(final char[] src) {
+        return src.clone();
+    }
+
+    @Override
+    protected char[] convertElements(final Object[] elements) {
+        final char[] result = new char[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            final Object element = elements[i];
+            if (element instanceof Character) {
+                result[i] = (Character) element;
+            } else if (element instanceof String && ((String) element).length() == 1) {
+                result[i] = ((String) element).charAt(0);
+            } else if (element != null) {
+                throw new ConversionException(Character.class, element);
+            }
+        }
+        return result;
+    }
+}
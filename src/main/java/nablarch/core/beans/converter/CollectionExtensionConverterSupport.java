@@ -4,6 +4,7 @@ import java.lang.reflect.Array;
 import java.util.Collection;
 
 import nablarch.core.beans.ConversionException;
+import nablarch.core.beans.Converter;
 import nablarch.core.beans.ExtensionConverter;
 
 /**
@@ -15,22 +16,54 @@ import nablarch.core.beans.ExtensionConverter;
 @SuppressWarnings("rawtypes")
 public abstract class CollectionExtensionConverterSupport<T extends Collection> implements ExtensionConverter<T> {
 
-    @SuppressWarnings("unchecked")
     @Override
     public T convert(final Class<? extends T> type, final Object src) {
-        final T instance = createInstance(type);
+        return convert(type, src, null);
+    }
+
+    /**
+     * 要素を変換しながら{@link Collection}に型変換する。
+     * <p/>
+     * 要素の{@link Converter}が指定されている場合は、{@code null}以外の各要素を変換してから格納する。
+     * 指定されていない場合は、要素をそのまま格納する。
+     *
+     * @param type 変換先の型
+     * @param src 変換元オブジェクト({@link Collection}もしくは配列)
+     * @param elementConverter 要素の{@link Converter}({@code null}の場合は要素を変換しない)
+     * @return 変換後のオブジェクト
+     */
+    @SuppressWarnings("unchecked")
+    public T convert(final Class<? extends T> type, final Object src, final Converter<?> elementConverter) {
         if (src instanceof Collection) {
-            instance.addAll(Collection.class.cast(src));
+            final Collection<?> collection = Collection.class.cast(src);
+            final T instance = createInstance(type, collection.size());
+            if (elementConverter == null) {
+                instance.addAll(collection);
+            } else {
+                for (Object element : collection) {
+                    instance.add(element != null ? elementConverter.convert(element) : null);
+                }
+            }
+            return instance;
         } else if (src.getClass()
                       .isArray()) {
             final int length = Array.getLength(src);
-            for (int i = 0; i < length; i++) {
-                instance.add(Array.get(src, i));
+            final T instance = createInstance(type, length);
+            if (src instanceof Object[]) {
+                final Object[] array = (Object[]) src;
+                for (Object element : array) {
+                    instance.add(element != null && elementConverter != null ? elementConverter.convert(element) : element);
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    final Object element = Array.get(src, i);
+                    instance.add(elementConverter != null ? elementConverter.convert(element) : element);
+                }
             }
+            return instance;
         } else {
             throw new ConversionException(type, src);
         }
-        return instance;
     }
 
     /**
@@ -40,4 +73,18 @@ public abstract class CollectionExtensionConverterSupport<T extends Collection>
      * @return 生成したインスタンス
      */
     protected abstract T createInstance(final Class<? extends T> type);
+
+    /**
+     * 格納する要素数を指定してインスタンスを生成する。
+     * <p/>
+     * デフォルト実装では{@link #createInstance(Class)}に処理を委譲する。
+     * 要素数に応じて初期容量を指定できる場合はオーバーライドする。
+     *
+     * @param type 型
+     * @param size 格納する要素数
+     * @return 生成したインスタンス
+     */
+    protected T createInstance(final Class<? extends T> type, final int size) {
+        return createInstance(type);
+    }
 }
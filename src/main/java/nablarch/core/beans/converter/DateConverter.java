@@ -1,6 +1,7 @@
 package nablarch.core.beans.converter;
 
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -9,6 +10,8 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
 
 import nablarch.core.beans.ConversionException;
 import nablarch.core.beans.Converter;
@@ -44,23 +47,46 @@ import nablarch.core.util.DateUtil;
  */
 public class DateConverter implements Converter<Date> {
 
+    /** 日付パターンが設定されていない場合に使用する日付パターン */
+    private static final String DEFAULT_PATTERN = "yyyyMMdd";
+
     /** 日付パターン */
     private final List<String> patterns;
 
+    /** 日付パターンを解析済みのフォーマット */
+    private final List<ThreadLocalFormat<SimpleDateFormat>> formats;
+
+    /** 日付パターンが設定されていない場合に使用するフォーマット */
+    private final ThreadLocalFormat<SimpleDateFormat> defaultFormat;
+
     /**
      * デフォルトコンストラクタ
+     * <p>
+     * {@literal yyyyMMdd}形式の日付パターンの解析はインスタンス構築時に1度だけ行う。
+     * パースに使用するタイムゾーンは{@link DateUtil#getDate(String)}と同じく変換時のデフォルトタイムゾーンとなり、
+     * ロケールはインスタンス構築時のデフォルト値となる(数値のみのパターンのため結果には影響しない)。
      */
     public DateConverter() {
         this.patterns = Collections.emptyList();
+        this.formats = Collections.emptyList();
+        this.defaultFormat = new ThreadLocalFormat<>(new SimpleDateFormat(DEFAULT_PATTERN));
     }
 
     /**
      * 日付パターンを設定してインスタンスを構築する。
+     * <p>
+     * 日付パターンの解析はインスタンス構築時に1度だけ行う。
+     * このため、パースに使用するロケールはインスタンス構築時のデフォルト値となる。
+     * タイムゾーンは変換時のデフォルトタイムゾーンを使用する。
      * 
      * @param patterns 日付パターン
      */
     public DateConverter(List<String> patterns) {
         this.patterns = patterns;
+        this.formats = patterns.stream()
+                .map(pattern -> new ThreadLocalFormat<>(new SimpleDateFormat(pattern)))
+                .collect(Collectors.toList());
+        this.defaultFormat = new ThreadLocalFormat<>(new SimpleDateFormat(DEFAULT_PATTERN));
     }
 
     @Override
@@ -94,7 +120,7 @@ public class DateConverter implements Converter<Date> {
      * </p>
      * 
      * <p>
-     * 日付パターンが設定されていない場合は{@link DateUtil#getDate(String)}に処理を委譲する。
+     * 日付パターンが設定されていない場合は{@link DateUtil#getDate(String)}と同じく{@literal yyyyMMdd}形式でパースする。
      * </p>
      * 
      * @param value 変換前の値
@@ -102,20 +128,61 @@ public class DateConverter implements Converter<Date> {
      */
     Date convertFromString(String value) {
         if (!patterns.isEmpty()) {
-            ParseException lastThrownException = null;
-            for (String pattern : patterns) {
-                try {
-                    return new SimpleDateFormat(pattern).parse(value);
-                } catch (ParseException ignore) {
-                    //複数のパターンを順番に試すのでParseExceptionは無視する
-                    lastThrownException = ignore;
+            int errorIndex = -1;
+            for (ThreadLocalFormat<SimpleDateFormat> format : formats) {
+                //パースに失敗しても例外を生成しないようParsePositionを使用してパースする
+                final ParsePosition position = new ParsePosition(0);
+                final Date date = withDefaultTimeZone(format).parse(value, position);
+                if (position.getIndex() != 0) {
+                    return date;
                 }
+                errorIndex = position.getErrorIndex();
             }
             //すべてのパターンが失敗した場合は例外をスロー
             throw new IllegalArgumentException(
                     "the string was not formatted " + patterns + ". date = " + value + ".",
-                    lastThrownException);
+                    new ParseException("Unparseable date: \"" + value + "\"", errorIndex));
+        }
+        try {
+            return withDefaultTimeZone(defaultFormat).parse(value);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(
+                    "the string was not formatted " + DEFAULT_PATTERN + ". date = " + value + ".", e);
+        }
+    }
+
+    /**
+     * 現在のスレッドで使用するフォーマットを、デフォルトタイムゾーンを設定して取得する。
+     * <p>
+     * 複製元のフォーマットはインスタンス構築時のデフォルトタイムゾーンを保持しているため、
+     * 変換のたびに{@link SimpleDateFormat}を生成していた場合と同じく、変換時のデフォルトタイムゾーンでパースするよう設定し直す。
+     *
+     * @param format スレッドごとに複製されたフォーマット
+     * @return 現在のスレッド専用のフォーマット
+     */
+    private static SimpleDateFormat withDefaultTimeZone(final ThreadLocalFormat<SimpleDateFormat> format) {
+        final SimpleDateFormat current = format.get();
+        current.setTimeZone(TimeZone.getDefault());
+        return current;
+    }
+
+    @Override
+    public void convertAll(final Object[] src, final Date[] dest) {
+        BulkConversionSupport.convertAll(src, dest, this::resolve);
+    }
+
+    /**
+     * 変換元の値の型に対応する変換処理を解決する。
+     *
+     * @param sourceType 変換元の値の型
+     * @return 変換処理
+     */
+    private Converter<Date> resolve(final Class<?> sourceType) {
+        if (Date.class.isAssignableFrom(sourceType)) {
+            return value -> new Date(((Date) value).getTime());
+        } else if (sourceType == String.class) {
+            return value -> convertFromString((String) value);
         }
-        return DateUtil.getDate(value);
+        return this;
     }
 }
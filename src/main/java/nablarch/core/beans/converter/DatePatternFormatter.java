@@ -0,0 +1,176 @@
+package nablarch.core.beans.converter;
+
+import java.text.DecimalFormatSymbols;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import nablarch.core.ThreadContext;
+import nablarch.core.util.DateUtil;
+
+/**
+ * {@link java.util.Date}を日付パターンに従ってフォーマットするクラス。
+ * <p>
+ * {@link DateUtil#formatDate(Date, String)}と同じ結果を返す。
+ * 日付パターンが数値のみで構成される場合(年、月、日、時、分、秒、ミリ秒)は、
+ * インスタンス構築時に解析した{@link DateTimeFormatter}を使用してフォーマットするため、
+ * 値ごとに{@link java.text.SimpleDateFormat}を生成しない。
+ * <p>
+ * 次の場合は{@link java.text.SimpleDateFormat}と結果が異なる可能性があるため、{@link DateUtil#formatDate(Date, String)}でフォーマットする。
+ * <ul>
+ * <li>日付パターンに曜日や月名、タイムゾーンなど、数値以外の項目が含まれる場合</li>
+ * <li>言語({@link ThreadContext#getLanguage()}、設定されていない場合はデフォルトロケール)の暦がグレゴリオ暦でない場合や、
+ * 数字が{@code 0}から{@code 9}で表されない場合</li>
+ * <li>日付が1900年から9999年の範囲外の場合</li>
+ * </ul>
+ *
+ * @author TIS
+ */
+final class DatePatternFormatter {
+
+    /** {@link DateTimeFormatter}でフォーマットする日付の下限(エポックミリ秒) */
+    private static final long MIN_EPOCH_MILLI = toEpochMilli(LocalDate.of(1900, 1, 2));
+
+    /** {@link DateTimeFormatter}でフォーマットする日付の上限(エポックミリ秒) */
+    private static final long MAX_EPOCH_MILLI = toEpochMilli(LocalDate.of(9999, 12, 30));
+
+    /** 言語ごとの{@link DateTimeFormatter}でフォーマットできるかどうかの判定結果 */
+    private static final Map<Locale, Boolean> SUPPORTED_LOCALES = new ConcurrentHashMap<>();
+
+    /** 日付パターン */
+    private final String pattern;
+
+    /** 解析済みのフォーマッタ(数値以外の項目が含まれる場合は{@code null}) */
+    private final DateTimeFormatter formatter;
+
+    /**
+     * 日付パターンを設定してインスタンスを構築する。
+     *
+     * @param pattern 日付パターン
+     */
+    DatePatternFormatter(final String pattern) {
+        this.pattern = pattern;
+        this.formatter = isNumericPattern(pattern) ? DateTimeFormatter.ofPattern(pattern) : null;
+    }
+
+    /**
+     * 日付をフォーマットする。
+     *
+     * @param date 日付
+     * @return フォーマットした文字列
+     */
+    String format(final Date date) {
+        if (formatter != null) {
+            final long epochMilli = date.getTime();
+            if (epochMilli >= MIN_EPOCH_MILLI && epochMilli < MAX_EPOCH_MILLI && isSupported(getLocale())) {
+                return formatter.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault()));
+            }
+        }
+        return DateUtil.formatDate(date, pattern);
+    }
+
+    /**
+     * {@link DateUtil#formatDate(Date, String)}と同じ規則で言語を取得する。
+     *
+     * @return 言語
+     */
+    private static Locale getLocale() {
+        final Locale language = ThreadContext.getLanguage();
+        return language != null ? language : Locale.getDefault();
+    }
+
+    /**
+     * 言語が{@link DateTimeFormatter}でフォーマットできるものかどうかを判定する。
+     *
+     * @param locale 言語
+     * @return グレゴリオ暦で、数字が{@code 0}から{@code 9}で表される場合は{@code true}
+     */
+    private static boolean isSupported(final Locale locale) {
+        final Boolean cached = SUPPORTED_LOCALES.get(locale);
+        if (cached != null) {
+            return cached;
+        }
+        // Calendarの生成などをキャッシュのロックの中で実行しないよう、ロックの外で判定してから登録する
+        final boolean supported = "gregory".equals(Calendar.getInstance(locale).getCalendarType())
+                && DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0';
+        SUPPORTED_LOCALES.putIfAbsent(locale, supported);
+        return supported;
+    }
+
+    /**
+     * 日付パターンが{@link java.text.SimpleDateFormat}と{@link DateTimeFormatter}で同じ結果となる
+     * 数値の項目のみで構成されているかどうかを判定する。
+     *
+     * @param pattern 日付パターン
+     * @return 数値の項目のみで構成されている場合は{@code true}
+     */
+    static boolean isNumericPattern(final String pattern) {
+        final int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                final int end = pattern.indexOf('\'', i + 1);
+                if (end < 0) {
+                    return false;
+                }
+                i = end + 1;
+                continue;
+            }
+            if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                return false;
+            }
+            int count = 1;
+            while (i + count < length && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            if (((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) && !isNumericField(c, count)) {
+                return false;
+            }
+            i += count;
+        }
+        return true;
+    }
+
+    /**
+     * パターン文字が{@link java.text.SimpleDateFormat}と{@link DateTimeFormatter}で同じ数値を出力するかどうかを判定する。
+     *
+     * @param letter パターン文字
+     * @param count パターン文字の連続数
+     * @return 同じ数値を出力する場合は{@code true}
+     */
+    private static boolean isNumericField(final char letter, final int count) {
+        switch (letter) {
+            case 'y':
+                return true;
+            case 'M':
+            case 'd':
+            case 'H':
+            case 'm':
+            case 's':
+                return count <= 2;
+            case 'S':
+                return count == 3;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 日付のUTCにおける開始日時をエポックミリ秒に変換する。
+     *
+     * @param date 日付
+     * @return エポックミリ秒
+     */
+    private static long toEpochMilli(final LocalDate date) {
+        return date.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+}
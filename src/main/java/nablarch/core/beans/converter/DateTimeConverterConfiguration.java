@@ -7,6 +7,9 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * Date and Time APIに関する共通的なフォーマッタ、タイムゾーンを扱うためのインターフェース。
+ * <p>
+ * 各メソッドの戻り値は{@link DateTimeConverterUtil}がスナップショットとして保持し、値の変換ごとには呼び出されない。
+ * 戻り値が変わる場合は{@link DateTimeConverterUtil#refresh()}を呼び出すこと。
  *
  * @author TIS
  */
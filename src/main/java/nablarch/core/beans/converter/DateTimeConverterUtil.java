@@ -8,7 +8,9 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -18,6 +20,23 @@ import java.util.Date;
  * 本ユーティリティが使用する日付文字列の形式などは、{@link SystemRepository}より取得する。
  * {@link SystemRepository}からキー名:dateTimeConfigurationで{@link DateTimeConverterConfiguration}が取得出来た場合はそのオブジェクトを、
  * 取得出来ない場合は{@link BasicDateTimeConverterConfiguration}を使用する。
+ * <p>
+ * {@link DateTimeConverterConfiguration}から取得したフォーマッタと、タイムゾーンのオフセットのキャッシュは、
+ * 設定オブジェクトとゾーンIDごとにスナップショットとして保持する。
+ * 値を変換するたびに{@link SystemRepository}から設定オブジェクトを、設定オブジェクトからゾーンIDを取得し、
+ * いずれかが変わっていればスナップショットを取り直す。
+ * このため、{@link SystemRepository}の再読み込みや、システムのデフォルトタイムゾーンの変更は、次の変換から反映される。
+ * 同じ設定オブジェクトが返すフォーマッタが変わる場合は、{@link #refresh()}を呼び出してスナップショットを取り直すこと。
+ * <p>
+ * 組み込みの{@link nablarch.core.beans.Converter}は、{@link nablarch.core.beans.Converter#convertAll(Object[], Object[])}で
+ * 複数の値をまとめて変換する場合、スナップショットを最初に1度だけ取得し、全ての値の変換に使用する。
+ * <p>
+ * フォーマッタがJDK標準の{@link DateTimeFormatter#BASIC_ISO_DATE}、{@link DateTimeFormatter#ISO_INSTANT}、
+ * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}の場合は、一般的な形式の文字列をフォーマッタを使用せずにパースする。
+ * パース結果と不正な値の場合に送出される例外は、フォーマッタを使用した場合と同じとなる。
+ * <p>
+ * タイムゾーンのオフセットは、オフセットが変わらない期間とともにキャッシュし、
+ * 同じ期間内の日時を変換する場合はタイムゾーンのルールを参照しない。
  *
  * @author TIS
  * @see DateTimeConverterConfiguration
@@ -28,6 +47,9 @@ public final class DateTimeConverterUtil {
     /** 日付変換に使用する設定 */
     private static final DateTimeConverterConfiguration DEFAULT_DATE_TIME_CONFIGURATION = new BasicDateTimeConverterConfiguration();
 
+    /** 日付変換に使用する設定のスナップショット */
+    private static volatile Settings settings = new Settings(DEFAULT_DATE_TIME_CONFIGURATION);
+
     /**
      * 隠蔽コンストラクタ。
      */
@@ -52,6 +74,35 @@ public final class DateTimeConverterUtil {
         }
     }
 
+    /**
+     * 日付変換に使用する設定のスナップショットを返す。
+     * <p>
+     * {@link #getDateTimeConverterConfiguration()}で取得した設定オブジェクトか、設定オブジェクトが返すゾーンIDが、
+     * 保持しているスナップショットと異なる場合はスナップショットを取り直す。
+     *
+     * @return 日付変換の設定のスナップショット
+     */
+    static Settings getSettings() {
+        final DateTimeConverterConfiguration configuration = getDateTimeConverterConfiguration();
+        final Settings current = settings;
+        if (current.configuration == configuration && current.zoneId.equals(configuration.getSystemZoneId())) {
+            return current;
+        }
+        final Settings created = new Settings(configuration);
+        settings = created;
+        return created;
+    }
+
+    /**
+     * 日付変換に使用する設定のスナップショットを取り直す。
+     * <p>
+     * 設定オブジェクトとゾーンIDの変更は自動的に反映されるため、
+     * 同じ設定オブジェクトが返すフォーマッタが変わった場合にのみ呼び出す必要がある。
+     */
+    public static void refresh() {
+        settings = new Settings(getDateTimeConverterConfiguration());
+    }
+
     /**
      * 日付文字列を{@link LocalDate}に変換する。
      * <p>
@@ -61,7 +112,24 @@ public final class DateTimeConverterUtil {
      * @return 日付文字列をパースして生成した{@code java.time.LocalDate}のインスタンス
      */
     public static LocalDate getLocalDate(final String date) {
-        return LocalDate.parse(date, getDateTimeConverterConfiguration().getDateFormatter());
+        return getLocalDate(getSettings(), date);
+    }
+
+    /**
+     * 指定されたスナップショットを使用して、日付文字列を{@link LocalDate}に変換する。
+     *
+     * @param current 日付変換の設定のスナップショット
+     * @param date 日付文字列
+     * @return 変換後の値
+     */
+    static LocalDate getLocalDate(final Settings current, final String date) {
+        if (current.basicIsoDate) {
+            final LocalDate parsed = IsoDateTimeParser.parseBasicIsoDate(date);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+        return LocalDate.parse(date, current.dateFormatter);
     }
 
     /**
@@ -73,8 +141,18 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.time.LocalDate}のインスタンス
      */
     public static LocalDate getLocalDate(final Date date) {
-        return LocalDateTime.ofInstant(date.toInstant(), getDateTimeConverterConfiguration().getSystemZoneId())
-                            .toLocalDate();
+        return getLocalDate(getSettings(), date);
+    }
+
+    /**
+     * 指定されたスナップショットを使用して、{@code java.util.Date}のインスタンスを{@code java.time.LocalDate}に変換する。
+     *
+     * @param current 日付変換の設定のスナップショット
+     * @param date 変換対象の{@code java.util.Date}のインスタンス
+     * @return 変換後の{@code java.time.LocalDate}のインスタンス
+     */
+    static LocalDate getLocalDate(final Settings current, final Date date) {
+        return current.offsets.toLocalDate(date.toInstant().getEpochSecond());
     }
 
     /**
@@ -106,7 +184,7 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.time.LocalDate}のインスタンス
      */
     public static LocalDate getLocalDate(final OffsetDateTime dateTime) {
-        return dateTime.atZoneSameInstant(getDateTimeConverterConfiguration().getSystemZoneId()).toLocalDate();
+        return getSettings().offsets.toLocalDate(dateTime.toEpochSecond());
     }
 
     /**
@@ -116,12 +194,29 @@ public final class DateTimeConverterUtil {
      * @return 変換後の値
      */
     public static LocalDateTime getLocalDateTime(final String date) {
+        return getLocalDateTime(getSettings(), date);
+    }
+
+    /**
+     * 指定されたスナップショットを使用して、日時文字列を{@link LocalDateTime}に変換する。
+     *
+     * @param current 日付変換の設定のスナップショット
+     * @param date 変換対象の日時文字列
+     * @return 変換後の値
+     */
+    static LocalDateTime getLocalDateTime(final Settings current, final String date) {
+        final DateTimeFormatter formatter = current.dateTimeFormatter;
         if (date.endsWith("Z")) {
-            final Instant instant = Instant.from(
-                    getDateTimeConverterConfiguration().getDateTimeFormatter().parse(date));
+            if (current.isoInstant) {
+                final LocalDateTime parsed = IsoDateTimeParser.parseIsoInstant(date);
+                if (parsed != null) {
+                    return parsed;
+                }
+            }
+            final Instant instant = Instant.from(formatter.parse(date));
             return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
         } else {
-            return LocalDateTime.parse(date, getDateTimeConverterConfiguration().getDateTimeFormatter());
+            return LocalDateTime.parse(date, formatter);
         }
     }
 
@@ -132,7 +227,19 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.time.LocalDate}のインスタンス
      */
     public static LocalDateTime getLocalDateTime(final Date date) {
-        return LocalDateTime.ofInstant(date.toInstant(), getDateTimeConverterConfiguration().getSystemZoneId());
+        return getLocalDateTime(getSettings(), date);
+    }
+
+    /**
+     * 指定されたスナップショットを使用して、{@code java.util.Date}のインスタンスを{@code java.time.LocalDateTime}に変換する。
+     *
+     * @param current 日付変換の設定のスナップショット
+     * @param date 変換対象の{@code java.util.Date}のインスタンス
+     * @return 変換後の{@code java.time.LocalDateTime}のインスタンス
+     */
+    static LocalDateTime getLocalDateTime(final Settings current, final Date date) {
+        final Instant instant = date.toInstant();
+        return current.offsets.toLocalDateTime(instant.getEpochSecond(), instant.getNano());
     }
 
     /**
@@ -165,7 +272,7 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.time.LocalDateTime}のインスタンス
      */
     public static LocalDateTime getLocalDateTime(final OffsetDateTime dateTime) {
-        return dateTime.atZoneSameInstant(getDateTimeConverterConfiguration().getSystemZoneId()).toLocalDateTime();
+        return getSettings().offsets.toLocalDateTime(dateTime.toEpochSecond(), dateTime.getNano());
     }
 
     /**
@@ -175,7 +282,24 @@ public final class DateTimeConverterUtil {
      * @return 変換後の値
      */
     public static OffsetDateTime getOffsetDateTime(String date) {
-        return OffsetDateTime.parse(date, getDateTimeConverterConfiguration().getOffsetDateTimeFormatter());
+        return getOffsetDateTime(getSettings(), date);
+    }
+
+    /**
+     * 指定されたスナップショットを使用して、日時文字列を{@link OffsetDateTime}に変換する。
+     *
+     * @param current 日付変換の設定のスナップショット
+     * @param date 変換対象の日時文字列
+     * @return 変換後の値
+     */
+    static OffsetDateTime getOffsetDateTime(final Settings current, final String date) {
+        if (current.isoOffsetDateTime) {
+            final OffsetDateTime parsed = IsoDateTimeParser.parseIsoOffsetDateTime(date);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+        return OffsetDateTime.parse(date, current.offsetDateTimeFormatter);
     }
 
     /**
@@ -185,7 +309,19 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.time.OffsetDateTime}のインスタンス
      */
     public static OffsetDateTime getOffsetDateTime(Date date) {
-        return OffsetDateTime.ofInstant(date.toInstant(), getDateTimeConverterConfiguration().getSystemZoneId());
+        return getOffsetDateTime(getSettings(), date);
+    }
+
+    /**
+     * 指定されたスナップショットを使用して、{@code java.util.Date}のインスタンスを{@code java.time.OffsetDateTime}に変換する。
+     *
+     * @param current 日付変換の設定のスナップショット
+     * @param date 変換対象の{@code java.util.Date}のインスタンス
+     * @return 変換後の{@code java.time.OffsetDateTime}のインスタンス
+     */
+    static OffsetDateTime getOffsetDateTime(final Settings current, final Date date) {
+        final Instant instant = date.toInstant();
+        return current.offsets.toOffsetDateTime(instant.getEpochSecond(), instant.getNano());
     }
 
     /**
@@ -195,7 +331,7 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.time.OffsetDateTime}のインスタンス
      */
     public static OffsetDateTime getOffsetDateTimeAsSqlDate(java.sql.Date date) {
-        return date.toLocalDate().atStartOfDay(getDateTimeConverterConfiguration().getSystemZoneId()).toOffsetDateTime();
+        return getSettings().offsets.atStartOfDay(date.toLocalDate());
     }
 
     /**
@@ -215,7 +351,7 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.time.OffsetDateTime}のインスタンス
      */
     public static OffsetDateTime getOffsetDateTime(LocalDate date) {
-        return date.atStartOfDay(getDateTimeConverterConfiguration().getSystemZoneId()).toOffsetDateTime();
+        return getSettings().offsets.atStartOfDay(date);
     }
 
     /**
@@ -225,7 +361,7 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.time.OffsetDateTime}のインスタンス
      */
     public static OffsetDateTime getOffsetDateTime(LocalDateTime dateTime) {
-        return dateTime.atZone(getDateTimeConverterConfiguration().getSystemZoneId()).toOffsetDateTime();
+        return getSettings().offsets.toOffsetDateTime(dateTime);
     }
 
     /**
@@ -235,8 +371,7 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.util.Date}のインスタンス
      */
     public static Date getDate(final LocalDateTime dateTime) {
-        return Date.from(dateTime.atZone(getDateTimeConverterConfiguration().getSystemZoneId())
-                                 .toInstant());
+        return Date.from(getSettings().offsets.toInstant(dateTime));
     }
 
     /**
@@ -246,8 +381,7 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code Timestamp}のインスタンス
      */
     public static Timestamp getTimestamp(final LocalDateTime dateTime) {
-        return Timestamp.from(dateTime.atZone(getDateTimeConverterConfiguration().getSystemZoneId())
-                                      .toInstant());
+        return Timestamp.from(getSettings().offsets.toInstant(dateTime));
     }
 
     /**
@@ -257,8 +391,7 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code Timestamp}のインスタンス
      */
     public static Timestamp getTimestamp(final OffsetDateTime dateTime) {
-        return Timestamp.from(dateTime.atZoneSameInstant(getDateTimeConverterConfiguration().getSystemZoneId())
-                                      .toInstant());
+        return Timestamp.from(dateTime.toInstant());
     }
 
     /**
@@ -268,8 +401,7 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.util.Date}のインスタンス
      */
     public static Date getDate(final LocalDate date) {
-        return Date.from(date.atStartOfDay(getDateTimeConverterConfiguration().getSystemZoneId())
-                                      .toInstant());
+        return Date.from(getSettings().offsets.atStartOfDay(date).toInstant());
     }
 
     /**
@@ -279,8 +411,7 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.util.Date}のインスタンス
      */
     public static Date getDate(final OffsetDateTime dateTime) {
-        return Date.from(dateTime.atZoneSameInstant(getDateTimeConverterConfiguration().getSystemZoneId())
-                                 .toInstant());
+        return Date.from(dateTime.toInstant());
     }
 
     /**
@@ -290,7 +421,56 @@ public final class DateTimeConverterUtil {
      * @return 変換後の{@code java.sql.Date}のインスタンス
      */
     public static java.sql.Date getSqlDate(final OffsetDateTime dateTime) {
-        return java.sql.Date.valueOf(dateTime.atZoneSameInstant(getDateTimeConverterConfiguration().getSystemZoneId())
-                .toLocalDate());
+        return java.sql.Date.valueOf(getSettings().offsets.toLocalDate(dateTime.toEpochSecond()));
+    }
+
+    /**
+     * 日付変換に使用する設定のスナップショット。
+     */
+    static final class Settings {
+
+        /** 取得元の設定オブジェクト */
+        final DateTimeConverterConfiguration configuration;
+
+        /** 日付向けのフォーマッタ */
+        final DateTimeFormatter dateFormatter;
+
+        /** 日時向けのフォーマッタ */
+        final DateTimeFormatter dateTimeFormatter;
+
+        /** オフセット付き日時向けのフォーマッタ */
+        final DateTimeFormatter offsetDateTimeFormatter;
+
+        /** システムが依存するゾーンID */
+        final ZoneId zoneId;
+
+        /** システムが依存するゾーンIDのオフセットのキャッシュ */
+        final ZoneOffsetCache offsets;
+
+        /** 日付向けのフォーマッタが{@link DateTimeFormatter#BASIC_ISO_DATE}かどうか */
+        final boolean basicIsoDate;
+
+        /** 日時向けのフォーマッタが{@link DateTimeFormatter#ISO_INSTANT}かどうか */
+        final boolean isoInstant;
+
+        /** オフセット付き日時向けのフォーマッタが{@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}かどうか */
+        final boolean isoOffsetDateTime;
+
+        /**
+         * 設定オブジェクトから値を取得してスナップショットを構築する。
+         *
+         * @param configuration 設定オブジェクト
+         */
+        private Settings(final DateTimeConverterConfiguration configuration) {
+            this.configuration = configuration;
+            this.dateFormatter = configuration.getDateFormatter();
+            this.dateTimeFormatter = configuration.getDateTimeFormatter();
+            this.offsetDateTimeFormatter = configuration.getOffsetDateTimeFormatter();
+            this.zoneId = configuration.getSystemZoneId();
+            this.offsets = new ZoneOffsetCache(zoneId);
+            this.basicIsoDate = dateFormatter == DateTimeFormatter.BASIC_ISO_DATE;
+            this.isoInstant = dateTimeFormatter == DateTimeFormatter.ISO_INSTANT;
+            this.isoOffsetDateTime = offsetDateTimeFormatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+        }
     }
 }
@@ -0,0 +1,77 @@
+package nablarch.core.beans.converter;
+
+import java.text.ParsePosition;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
+import java.util.List;
+
+/**
+ * 複数の{@link DateTimeFormatter}を順番に試して日付文字列をパースするクラス。
+ * <p>
+ * 各フォーマッタでのパースは、まず{@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)}で
+ * 例外を発生させずに書式が一致するかを判定し、一致したフォーマッタでのみ値の解決を行う。
+ * このため、先頭以外のパターンに一致する値であっても、書式が一致しないパターンの数だけ例外が生成されることはない。
+ *
+ * @author TIS
+ */
+final class DateTimePatternParser {
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private DateTimePatternParser() {
+    }
+
+    /**
+     * 日付文字列をパースする。
+     * <p>
+     * フォーマッタは先頭から順に試行し、パースが出来た最初の値を返す。
+     * 全てのフォーマッタでパースに失敗した場合は{@link IllegalArgumentException}をスローする。
+     * この場合、最後のフォーマッタでパースした際の{@link DateTimeParseException}を原因として設定する。
+     *
+     * @param formatters フォーマッタ
+     * @param value 日付文字列
+     * @param query パース結果から値を取得するクエリ
+     * @param <T> 変換後の型
+     * @return パースされた値
+     */
+    static <T> T parse(final List<DateTimeFormatter> formatters, final String value, final TemporalQuery<T> query) {
+        for (DateTimeFormatter formatter : formatters) {
+            if (!matches(formatter, value)) {
+                continue;
+            }
+            try {
+                return formatter.parse(value, query);
+            } catch (DateTimeParseException ignore) {
+                //書式は一致しても値が解決できない場合があるので次のパターンを試す
+            }
+        }
+        //すべてのパターンが失敗した場合は、最後のパターンでの失敗理由を原因として例外をスロー
+        DateTimeParseException lastThrownException = null;
+        try {
+            formatters.get(formatters.size() - 1).parse(value, query);
+        } catch (DateTimeParseException e) {
+            lastThrownException = e;
+        }
+        throw new IllegalArgumentException(
+                "the string was not formatted " + formatters + ". date = " + value + ".",
+                lastThrownException);
+    }
+
+    /**
+     * 日付文字列がフォーマッタの書式に一致するか判定する。
+     * <p>
+     * 値の解決は行わないため、書式が一致しても存在しない日付などはパースに失敗する場合がある。
+     *
+     * @param formatter フォーマッタ
+     * @param value 日付文字列
+     * @return 文字列全体が書式に一致する場合は{@code true}
+     */
+    static boolean matches(final DateTimeFormatter formatter, final String value) {
+        final ParsePosition position = new ParsePosition(0);
+        return formatter.parseUnresolved(value, position) != null
+                && position.getErrorIndex() < 0
+                && position.getIndex() == value.length();
+    }
+}
@@ -0,0 +1,183 @@
+package nablarch.core.beans.converter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import nablarch.core.beans.ConversionException;
+import nablarch.core.beans.CopyOption;
+import nablarch.core.beans.ExtensionConverter;
+
+/**
+ * 列挙型に型変換するクラス。
+ * <p/>
+ * 変換元の型に応じて、以下のとおり変換を行う。
+ * <p/>
+ * <b>変換先の列挙型</b>：<br>
+ * 何もしない。
+ * <p/>
+ * <b>文字列型</b>：<br>
+ * 次の順に定数を検索し、最初に見つかった定数を返却する。
+ * <ol>
+ * <li>定数名と完全に一致する定数</li>
+ * <li>{@link CopyOption#code()}で指定されたコード値と一致する定数</li>
+ * <li>大文字・小文字を区別しない設定の場合は、大文字・小文字を区別せずに定数名が一致する定数</li>
+ * </ol>
+ * <p/>
+ * <b>数値型</b>：<br>
+ * 序数({@link Enum#ordinal()})が一致する定数を返却する。
+ * <p/>
+ * <b>文字列型の配列</b>：<br>
+ * 要素数が1であれば、その要素を変換して返却する。
+ * 要素数が1以外であれば、{@link ConversionException}を送出する。
+ * <p/>
+ * <b>上記以外、もしくは対応する定数が存在しない場合</b>：<br>
+ * {@link ConversionException}を送出する。
+ * <p/>
+ * 定数の検索に使用する表は列挙型ごとに1度だけ構築し、変換時は例外を発生させずに検索する。
+ *
+ * @author TIS
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class EnumExtensionConverter implements ExtensionConverter<Enum> {
+
+    /** 列挙型ごとの定数の検索表 */
+    private static final ClassValue<Constants> CONSTANTS = new ClassValue<Constants>() {
+        @Override
+        protected Constants computeValue(Class<?> type) {
+            return new Constants((Class<? extends Enum>) type);
+        }
+    };
+
+    /** 大文字・小文字を区別せずに定数名を検索するかどうか */
+    private final boolean ignoreCase;
+
+    /**
+     * 定数名の大文字・小文字を区別するインスタンスを構築する。
+     */
+    public EnumExtensionConverter() {
+        this(false);
+    }
+
+    /**
+     * 定数名の大文字・小文字を区別するかどうかを設定してインスタンスを構築する。
+     *
+     * @param ignoreCase 大文字・小文字を区別せずに定数名を検索する場合は{@code true}
+     */
+    public EnumExtensionConverter(final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+    }
+
+    @Override
+    public Enum convert(final Class<? extends Enum> type, final Object src) {
+        if (type.isInstance(src)) {
+            return (Enum) src;
+        }
+        final Enum result;
+        if (src instanceof String str) {
+            result = CONSTANTS.get(type).find(str, ignoreCase);
+        } else if (src instanceof Number number) {
+            result = CONSTANTS.get(type).find(number.longValue());
+        } else if (src instanceof String[] strArray && strArray.length == 1) {
+            return strArray[0] != null ? convert(type, strArray[0]) : null;
+        } else {
+            result = null;
+        }
+        if (result == null) {
+            throw new ConversionException(type, src);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isConvertible(final Class<?> type) {
+        return type.isEnum();
+    }
+
+    /**
+     * 列挙型の定数の検索表。
+     */
+    private static final class Constants {
+
+        /** 序数順の定数 */
+        private final Enum[] values;
+
+        /** 定数名と定数の対応 */
+        private final Map<String, Enum> byName;
+
+        /** コード値と定数の対応 */
+        private final Map<String, Enum> byCode;
+
+        /** 大文字に変換した定数名と定数の対応 */
+        private final Map<String, Enum> byUpperCaseName;
+
+        /**
+         * 列挙型の定数から検索表を構築する。
+         *
+         * @param type 列挙型
+         */
+        Constants(final Class<? extends Enum> type) {
+            values = type.getEnumConstants();
+            final Map<String, Enum> names = new HashMap<>();
+            final Map<String, Enum> codes = new HashMap<>();
+            final Map<String, Enum> upperCaseNames = new HashMap<>();
+            for (Enum value : values) {
+                names.put(value.name(), value);
+                upperCaseNames.putIfAbsent(value.name().toUpperCase(Locale.ROOT), value);
+                final CopyOption copyOption = getCopyOption(type, value);
+                if (copyOption != null) {
+                    for (String code : copyOption.code()) {
+                        codes.putIfAbsent(code, value);
+                    }
+                }
+            }
+            byName = Collections.unmodifiableMap(names);
+            byCode = Collections.unmodifiableMap(codes);
+            byUpperCaseName = Collections.unmodifiableMap(upperCaseNames);
+        }
+
+        /**
+         * 定数に指定された{@link CopyOption}を取得する。
+         *
+         * @param type 列挙型
+         * @param value 定数
+         * @return {@link CopyOption}。指定されていない場合は{@code null}
+         */
+        private static CopyOption getCopyOption(final Class<? extends Enum> type, final Enum value) {
+            try {
+                return type.getField(value.name()).getAnnotation(CopyOption.class);
+            } catch (NoSuchFieldException e) {
+                return null;
+            }
+        }
+
+        /**
+         * 文字列に対応する定数を検索する。
+         *
+         * @param value 文字列
+         * @param ignoreCase 大文字・小文字を区別せずに定数名を検索するかどうか
+         * @return 定数。存在しない場合は{@code null}
+         */
+        Enum find(final String value, final boolean ignoreCase) {
+            Enum result = byName.get(value);
+            if (result == null) {
+                result = byCode.get(value);
+            }
+            if (result == null && ignoreCase) {
+                result = byUpperCaseName.get(value.toUpperCase(Locale.ROOT));
+            }
+            return result;
+        }
+
+        /**
+         * 序数に対応する定数を検索する。
+         *
+         * @param ordinal 序数
+         * @return 定数。存在しない場合は{@code null}
+         */
+        Enum find(final long ordinal) {
+            return ordinal >= 0 && ordinal < values.length ? values[(int) ordinal] : null;
+        }
+    }
+}
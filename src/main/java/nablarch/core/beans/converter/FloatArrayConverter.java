@@ -0,0 +1,41 @@
+package nablarch.core.beans.converter;
+
+import nablarch.core.beans.Converter;
+
+/**
+ * {@code float[]}型への変換を行う {@link Converter} 。
+ * <p/>
+ * 変換元の型に応じた変換は{@link AbstractPrimitiveArrayConverter}を参照。
+ * 数値の要素はそのまま変換し、それ以外の要素は{@link BigDecimalConverter}で変換する。
+ *
+ * @author TIS
+ */
+public class FloatArrayConverter extends AbstractPrimitiveArrayConverter<float[]> {
+
+    /** 要素の変換を行うコンバータ */
+    private final BigDecimalConverter converter = new BigDecimalConverter();
+
+    /**
+     * コンストラクタ。
+     */
+    public FloatArrayConverter() {
+        super(float[].class);
+    }
+
+    @Override
+    protected float[] copy(final float[] src) {
+        return src.clone();
+    }
+
+    @Override
+    protected float[] convertElements(final Object[] elements) {
+        final float[] result = new float[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            final Object element = elements[i];
+            if (element != null) {
+                result[i] = element instanceof Number ? ((Number) element).floatValue() : converter.convert(element).floatValue();
+            }
+        }
+        return result;
+    }
+}
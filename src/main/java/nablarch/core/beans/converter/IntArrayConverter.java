@@ -0,0 +1,36 @@
+package nablarch.core.beans.converter;
+
+import nablarch.core.beans.Converter;
+
+/**
+ * {@code int[]}型への変換を行う {@link Converter} 。
+ * <p/>
+ * 変換元の型に応じた変換は{@link AbstractPrimitiveArrayConverter}を参照。
+ * 各要素は{@link IntegerConverter}で変換する。
+ *
+ * @author TIS
+ */
+public class IntArrayConverter extends AbstractPrimitiveArrayConverter<int[]> {
+
+    /** 要素の変換を行うコンバータ */
+    private final IntegerConverter converter = new IntegerConverter();
+
+    /**
+     * コンストラクタ。
+     */
+    public IntArrayConverter() {
+        super(int[].class);
+    }
+
+    @Override
+    protected int[] copy(final int[] src) {
+        return src.clone();
+    }
+
+    @Override
+    protected int[] convertElements(final Object[] elements) {
+        final int[] result = new int[elements.length];
+        converter.convertAll(elements, result);
+        return result;
+    }
+}
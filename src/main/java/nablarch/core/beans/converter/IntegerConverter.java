@@ -65,10 +65,46 @@ public class IntegerConverter extends AbstractNumberConverter<Integer> {
 
     @Override
     protected Integer convertFromStringWithoutPattern(String value) {
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException e) {
+        final Integer result = NumberParser.parseInt(value);
+        if (result == null) {
             throw new ConversionException(Integer.class, value);
         }
+        return result;
+    }
+
+    @Override
+    public void convertAll(final Object[] src, final Integer[] dest) {
+        BulkConversionSupport.convertAll(src, dest, this::resolve);
+    }
+
+    /**
+     * {@code int}型の配列に値をまとめて変換する。
+     * <p/>
+     * 各値は{@link #convert(Object)}と同じく変換する。値が{@code null}の場合は、その要素を変更しない。
+     *
+     * @param src 変換元の値
+     * @param dest 変換後の値を格納する配列({@code src}以上の長さであること)
+     */
+    public void convertAll(final Object[] src, final int[] dest) {
+        BulkConversionSupport.<Integer>convertEach(src, this::resolve, (value, index) -> {
+            if (value != null) {
+                dest[index] = value;
+            }
+        });
+    }
+
+    /**
+     * 変換元の値の型に対応する変換処理を解決する。
+     *
+     * @param sourceType 変換元の値の型
+     * @return 変換処理
+     */
+    private Converter<Integer> resolve(final Class<?> sourceType) {
+        if (Number.class.isAssignableFrom(sourceType)) {
+            return value -> ((Number) value).intValue();
+        } else if (sourceType == String.class) {
+            return value -> convertFromString((String) value);
+        }
+        return this;
     }
 }
@@ -0,0 +1,220 @@
+package nablarch.core.beans.converter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * JDK標準のISO形式の日付文字列を、{@link DateTimeFormatter}を使用せずにパースするクラス。
+ * <p>
+ * {@link DateTimeFormatter#BASIC_ISO_DATE}、{@link DateTimeFormatter#ISO_INSTANT}、
+ * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}でパースした場合と同じ結果を返す。
+ * 区切り文字が小文字の場合や年が4桁でない場合など、一般的な形式以外の文字列はパースせずに{@code null}を返すため、
+ * 呼び出し元は{@code null}の場合に{@link DateTimeFormatter}でパースし直すこと。
+ * 不正な値の場合も{@code null}を返すため、送出される例外は{@link DateTimeFormatter}でパースした場合と同じになる。
+ *
+ * @author TIS
+ */
+final class IsoDateTimeParser {
+
+    /** 日付と時分(yyyy-MM-ddTHH:mm)の長さ */
+    private static final int DATE_HOUR_MINUTE_LENGTH = 16;
+
+    /** 日付と時分秒(yyyy-MM-ddTHH:mm:ss)の長さ */
+    private static final int DATE_TIME_LENGTH = 19;
+
+    /** オフセット(+HH:MM)の長さ */
+    private static final int OFFSET_LENGTH = 6;
+
+    /** ナノ秒の最大桁数 */
+    private static final int NANO_DIGITS = 9;
+
+    /** オフセットの時間の最大値 */
+    private static final int MAX_OFFSET_HOURS = 18;
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private IsoDateTimeParser() {
+    }
+
+    /**
+     * yyyyMMdd形式の日付文字列をパースする。
+     *
+     * @param value 日付文字列
+     * @return パースされた日付。パースできない場合は{@code null}
+     * @see DateTimeFormatter#BASIC_ISO_DATE
+     */
+    static LocalDate parseBasicIsoDate(final String value) {
+        if (value == null || value.length() != 8) {
+            return null;
+        }
+        return toLocalDate(digits(value, 0, 4), digits(value, 4, 6), digits(value, 6, 8));
+    }
+
+    /**
+     * yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS]Z形式の日時文字列を、UTCの日時としてパースする。
+     *
+     * @param value 日時文字列
+     * @return パースされた日時。パースできない場合は{@code null}
+     * @see DateTimeFormatter#ISO_INSTANT
+     */
+    static LocalDateTime parseIsoInstant(final String value) {
+        if (value == null) {
+            return null;
+        }
+        final int end = value.length() - 1;
+        if (end < DATE_TIME_LENGTH || value.charAt(end) != 'Z') {
+            return null;
+        }
+        return parseLocalDateTime(value, end);
+    }
+
+    /**
+     * yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]に続けて、Zもしくは+HH:MM形式のオフセットを持つ日時文字列をパースする。
+     *
+     * @param value 日時文字列
+     * @return パースされた日時。パースできない場合は{@code null}
+     * @see DateTimeFormatter#ISO_OFFSET_DATE_TIME
+     */
+    static OffsetDateTime parseIsoOffsetDateTime(final String value) {
+        if (value == null) {
+            return null;
+        }
+        final int length = value.length();
+        final int end;
+        final ZoneOffset offset;
+        if (length > DATE_HOUR_MINUTE_LENGTH && value.charAt(length - 1) == 'Z') {
+            end = length - 1;
+            offset = ZoneOffset.UTC;
+        } else if (length >= DATE_HOUR_MINUTE_LENGTH + OFFSET_LENGTH) {
+            end = length - OFFSET_LENGTH;
+            offset = parseOffset(value, end);
+        } else {
+            return null;
+        }
+        if (offset == null) {
+            return null;
+        }
+        final LocalDateTime dateTime = parseLocalDateTime(value, end);
+        return dateTime != null ? OffsetDateTime.of(dateTime, offset) : null;
+    }
+
+    /**
+     * yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]形式の日時文字列をパースする。
+     *
+     * @param value 日時文字列
+     * @param end 日時の終了位置
+     * @return パースされた日時。パースできない場合は{@code null}
+     */
+    private static LocalDateTime parseLocalDateTime(final String value, final int end) {
+        if (end < DATE_HOUR_MINUTE_LENGTH
+                || value.charAt(4) != '-' || value.charAt(7) != '-'
+                || value.charAt(10) != 'T' || value.charAt(13) != ':') {
+            return null;
+        }
+        final int year = digits(value, 0, 4);
+        final int month = digits(value, 5, 7);
+        final int day = digits(value, 8, 10);
+        if (!isValidDate(year, month, day)) {
+            return null;
+        }
+        final int hour = digits(value, 11, 13);
+        final int minute = digits(value, 14, 16);
+        int second = 0;
+        int nano = 0;
+        if (end > DATE_HOUR_MINUTE_LENGTH) {
+            if (end < DATE_TIME_LENGTH || value.charAt(16) != ':') {
+                return null;
+            }
+            second = digits(value, 17, DATE_TIME_LENGTH);
+            if (end > DATE_TIME_LENGTH) {
+                final int fractionDigits = end - DATE_TIME_LENGTH - 1;
+                if (value.charAt(DATE_TIME_LENGTH) != '.' || fractionDigits < 1 || fractionDigits > NANO_DIGITS) {
+                    return null;
+                }
+                nano = digits(value, DATE_TIME_LENGTH + 1, end);
+                for (int i = fractionDigits; i < NANO_DIGITS && nano > 0; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        // 24時やうるう秒など、フォーマッタ固有の解決が必要な値はパースしない
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || nano < 0) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    /**
+     * +HH:MM形式のオフセットをパースする。
+     *
+     * @param value 日時文字列
+     * @param start オフセットの開始位置
+     * @return パースされたオフセット。パースできない場合は{@code null}
+     */
+    private static ZoneOffset parseOffset(final String value, final int start) {
+        final char sign = value.charAt(start);
+        if ((sign != '+' && sign != '-') || value.charAt(start + 3) != ':') {
+            return null;
+        }
+        final int hours = digits(value, start + 1, start + 3);
+        final int minutes = digits(value, start + 4, start + 6);
+        if (hours < 0 || hours > MAX_OFFSET_HOURS || minutes < 0 || minutes > 59
+                || (hours == MAX_OFFSET_HOURS && minutes > 0)) {
+            return null;
+        }
+        return sign == '+'
+                ? ZoneOffset.ofHoursMinutes(hours, minutes)
+                : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+    }
+
+    /**
+     * 年月日から日付を生成する。
+     *
+     * @param year 年
+     * @param month 月
+     * @param day 日
+     * @return 日付。存在しない日付の場合は{@code null}
+     */
+    private static LocalDate toLocalDate(final int year, final int month, final int day) {
+        return isValidDate(year, month, day) ? LocalDate.of(year, month, day) : null;
+    }
+
+    /**
+     * 年月日が存在する日付かどうかを判定する。
+     *
+     * @param year 年
+     * @param month 月
+     * @param day 日
+     * @return 存在する日付の場合は{@code true}
+     */
+    private static boolean isValidDate(final int year, final int month, final int day) {
+        return year >= 0 && month >= 1 && month <= 12 && day >= 1
+                && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    /**
+     * 指定された範囲のASCII数字を数値として返す。
+     *
+     * @param value 文字列
+     * @param start 開始位置
+     * @param end 終了位置
+     * @return 数値。数字以外が含まれる場合は{@code -1}
+     */
+    private static int digits(final CharSequence value, final int start, final int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + c - '0';
+        }
+        return result;
+    }
+}
@@ -31,5 +31,12 @@ public class ListExtensionConverter extends CollectionExtensionConverterSupport<
             }
         }
     }
-}
 
+    @Override
+    protected List createInstance(final Class<? extends List> type, final int size) {
+        if (type.equals(List.class)) {
+            return new ArrayList(size);
+        }
+        return createInstance(type);
+    }
+}
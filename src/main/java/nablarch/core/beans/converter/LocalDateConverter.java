@@ -3,11 +3,11 @@ package nablarch.core.beans.converter;
 import nablarch.core.beans.ConversionException;
 import nablarch.core.beans.Converter;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
@@ -91,20 +91,40 @@ public class LocalDateConverter implements Converter<LocalDate> {
 
     private LocalDate convertFromString(String value) {
         if (!formatters.isEmpty()) {
-            DateTimeParseException lastThrownException = null;
-            for (DateTimeFormatter formatter : formatters) {
-                try {
-                    return LocalDate.parse(value, formatter);
-                } catch (DateTimeParseException ignore) {
-                    //複数のパターンを順番に試すのでParseExceptionは無視する
-                    lastThrownException = ignore;
-                }
-            }
-            //すべてのパターンが失敗した場合は例外をスロー
-            throw new IllegalArgumentException(
-                    "the string was not formatted " + formatters + ". date = " + value + ".",
-                    lastThrownException);
+            return DateTimePatternParser.parse(formatters, value, LocalDate::from);
         }
         return DateTimeConverterUtil.getLocalDate(value);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * 日付変換の設定のスナップショットは最初に1度だけ取得し、全ての値の変換に使用する。
+     */
+    @Override
+    public void convertAll(final Object[] src, final LocalDate[] dest) {
+        final DateTimeConverterUtil.Settings settings = DateTimeConverterUtil.getSettings();
+        BulkConversionSupport.convertAll(src, dest, sourceType -> resolve(sourceType, settings));
+    }
+
+    /**
+     * 変換元の値の型に対応する変換処理を解決する。
+     *
+     * @param sourceType 変換元の値の型
+     * @param settings 日付変換の設定のスナップショット
+     * @return 変換処理
+     */
+    private Converter<LocalDate> resolve(final Class<?> sourceType, final DateTimeConverterUtil.Settings settings) {
+        if (sourceType == LocalDate.class) {
+            return value -> (LocalDate) value;
+        } else if (sourceType == String.class) {
+            if (!formatters.isEmpty()) {
+                return value -> convertFromString((String) value);
+            }
+            return value -> DateTimeConverterUtil.getLocalDate(settings, (String) value);
+        } else if (sourceType == Date.class || sourceType == Timestamp.class) {
+            return value -> DateTimeConverterUtil.getLocalDate(settings, (Date) value);
+        }
+        return this;
+    }
 }
@@ -0,0 +1,36 @@
+package nablarch.core.beans.converter;
+
+import nablarch.core.beans.Converter;
+
+/**
+ * {@code long[]}型への変換を行う {@link Converter} 。
+ * <p/>
+ * 変換元の型に応じた変換は{@link AbstractPrimitiveArrayConverter}を参照。
+ * 各要素は{@link LongConverter}で変換する。
+ *
+ * @author TIS
+ */
+public class LongArrayConverter extends AbstractPrimitiveArrayConverter<long[]> {
+
+    /** 要素の変換を行うコンバータ */
+    private final LongConverter converter = new LongConverter();
+
+    /**
+     * コンストラクタ。
+     */
+    public LongArrayConverter() {
+        super(long[].class);
+    }
+
+    @Override
+    protected long[] copy(final long[] src) {
+        return src.clone();
+    }
+
+    @Override
+    protected long[] convertElements(final Object[] elements) {
+        final long[] result = new long[elements.length];
+        converter.convertAll(elements, result);
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+package nablarch.core.beans.converter;
+
+/**
+ * 10進数の数値文字列を整数にパースするクラス。
+ * <p>
+ * {@link Integer#parseInt(String)}、{@link Long#parseLong(String)}、{@link Short#parseShort(String)}と同じ形式の文字列を受け付けるが、
+ * パースに失敗した場合は{@link NumberFormatException}を送出せずに{@code null}を返す。
+ * 不正な値が多く入力される場合でも、パースの失敗ごとに例外が生成されることはない。
+ *
+ * @author TIS
+ */
+final class NumberParser {
+
+    /** 基数 */
+    private static final int RADIX = 10;
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private NumberParser() {
+    }
+
+    /**
+     * 数値文字列を{@code int}の範囲の整数にパースする。
+     *
+     * @param value 数値文字列
+     * @return パースされた値。パースできない場合は{@code null}
+     */
+    static Integer parseInt(final CharSequence value) {
+        final int length = value.length();
+        if (length == 0) {
+            return null;
+        }
+        int i = 0;
+        boolean negative = false;
+        int limit = -Integer.MAX_VALUE;
+        final char first = value.charAt(0);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = Integer.MIN_VALUE;
+            } else if (first != '+') {
+                return null;
+            }
+            if (length == 1) {
+                return null;
+            }
+            i++;
+        }
+        final int multmin = limit / RADIX;
+        int result = 0;
+        //オーバーフローを避けるため、負の値として累積する
+        while (i < length) {
+            final int digit = Character.digit(value.charAt(i++), RADIX);
+            if (digit < 0 || result < multmin) {
+                return null;
+            }
+            result *= RADIX;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 数値文字列を{@code long}の範囲の整数にパースする。
+     *
+     * @param value 数値文字列
+     * @return パースされた値。パースできない場合は{@code null}
+     */
+    static Long parseLong(final CharSequence value) {
+        final int length = value.length();
+        if (length == 0) {
+            return null;
+        }
+        int i = 0;
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        final char first = value.charAt(0);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            } else if (first != '+') {
+                return null;
+            }
+            if (length == 1) {
+                return null;
+            }
+            i++;
+        }
+        final long multmin = limit / RADIX;
+        long result = 0;
+        //オーバーフローを避けるため、負の値として累積する
+        while (i < length) {
+            final int digit = Character.digit(value.charAt(i++), RADIX);
+            if (digit < 0 || result < multmin) {
+                return null;
+            }
+            result *= RADIX;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 数値文字列を{@code short}の範囲の整数にパースする。
+     *
+     * @param value 数値文字列
+     * @return パースされた値。パースできない場合は{@code null}
+     */
+    static Short parseShort(final CharSequence value) {
+        final Integer result = parseInt(value);
+        if (result == null || result < Short.MIN_VALUE || result > Short.MAX_VALUE) {
+            return null;
+        }
+        return result.shortValue();
+    }
+}
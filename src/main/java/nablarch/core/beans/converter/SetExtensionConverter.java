@@ -31,4 +31,12 @@ public class SetExtensionConverter extends CollectionExtensionConverterSupport<S
             }
         }
     }
+
+    @Override
+    protected Set createInstance(final Class<? extends Set> type, final int size) {
+        if (type.equals(Set.class)) {
+            return new HashSet(Math.max((int) (size / .75f) + 1, 16));
+        }
+        return createInstance(type);
+    }
 }
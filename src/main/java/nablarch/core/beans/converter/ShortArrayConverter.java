@@ -0,0 +1,36 @@
+package nablarch.core.beans.converter;
+
+import nablarch.core.beans.Converter;
+
+/**
+ * {@code short[]}型への変換を行う {@link Converter} 。
+ * <p/>
+ * 変換元の型に応じた変換は{@link AbstractPrimitiveArrayConverter}を参照。
+ * 各要素は{@link ShortConverter}で変換する。
+ *
+ * @author TIS
+ */
+public class ShortArrayConverter extends AbstractPrimitiveArrayConverter<short[]> {
+
+    /** 要素の変換を行うコンバータ */
+    private final ShortConverter converter = new ShortConverter();
+
+    /**
+     * コンストラクタ。
+     */
+    public ShortArrayConverter() {
+        super(short[].class);
+    }
+
+    @Override
+    protected short[] copy(final short[] src) {
+        return src.clone();
+    }
+
+    @Override
+    protected short[] convertElements(final Object[] elements) {
+        final short[] result = new short[elements.length];
+        converter.convertAll(elements, result);
+        return result;
+    }
+}
@@ -65,10 +65,46 @@ public class ShortConverter extends AbstractNumberConverter<Short> {
 
     @Override
     protected Short convertFromStringWithoutPattern(String value) {
-        try {
-            return Short.parseShort(value);
-        } catch (NumberFormatException e) {
+        final Short result = NumberParser.parseShort(value);
+        if (result == null) {
             throw new ConversionException(Short.class, value);
         }
+        return result;
+    }
+
+    @Override
+    public void convertAll(final Object[] src, final Short[] dest) {
+        BulkConversionSupport.convertAll(src, dest, this::resolve);
+    }
+
+    /**
+     * {@code short}型の配列に値をまとめて変換する。
+     * <p/>
+     * 各値は{@link #convert(Object)}と同じく変換する。値が{@code null}の場合は、その要素を変更しない。
+     *
+     * @param src 変換元の値
+     * @param dest 変換後の値を格納する配列({@code src}以上の長さであること)
+     */
+    public void convertAll(final Object[] src, final short[] dest) {
+        BulkConversionSupport.<Short>convertEach(src, this::resolve, (value, index) -> {
+            if (value != null) {
+                dest[index] = value;
+            }
+        });
+    }
+
+    /**
+     * 変換元の値の型に対応する変換処理を解決する。
+     *
+     * @param sourceType 変換元の値の型
+     * @return 変換処理
+     */
+    private Converter<Short> resolve(final Class<?> sourceType) {
+        if (Number.class.isAssignableFrom(sourceType)) {
+            return value -> ((Number) value).shortValue();
+        } else if (sourceType == String.class) {
+            return value -> convertFromString((String) value);
+        }
+        return this;
     }
 }
@@ -100,4 +100,24 @@ public class SqlDateConverter implements Converter<java.sql.Date> {
         cal.set(Calendar.SECOND, 0);
         cal.set(Calendar.MILLISECOND, 0);
     }
+
+    @Override
+    public void convertAll(final Object[] src, final java.sql.Date[] dest) {
+        BulkConversionSupport.convertAll(src, dest, this::resolve);
+    }
+
+    /**
+     * 変換元の値の型に対応する変換処理を解決する。
+     *
+     * @param sourceType 変換元の値の型
+     * @return 変換処理
+     */
+    private Converter<java.sql.Date> resolve(final Class<?> sourceType) {
+        if (sourceType == LocalDate.class) {
+            return value -> java.sql.Date.valueOf((LocalDate) value);
+        } else if (sourceType == LocalDateTime.class) {
+            return value -> java.sql.Date.valueOf(((LocalDateTime) value).toLocalDate());
+        }
+        return this;
+    }
 }
@@ -17,7 +17,7 @@ import nablarch.core.beans.Converter;
  * 変換元の型に応じて、以下のとおり変換を行う。
  * <p/>
  * <b>Timestamp型</b>：<br>
- * 同一の値となる{@code java.sql.Timestamp}オブジェクトを返却する。
+ * 同一の値となる{@code java.sql.Timestamp}オブジェクトを返却する。(ナノ秒も保持する)
  * <p/>
  * <b>日付型</b>：<br>
  * 同一日付・時刻を表す{@code java.sql.Timestamp}オブジェクトを返却する。
@@ -34,7 +34,10 @@ import nablarch.core.beans.Converter;
  * 同一日付を表す{@code java.sql.Timestamp}オブジェクトを返却する。
  * <p/>
  * <b>日時型({@code java.time.LocalDateTime})</b>：<br>
- * 同一日付・時刻を表す{@code java.sql.Timestamp}オブジェクトを返却する。
+ * 同一日付・時刻を表す{@code java.sql.Timestamp}オブジェクトを返却する。(ナノ秒も保持する)
+ * <p/>
+ * <b>日時型({@code java.time.OffsetDateTime})</b>：<br>
+ * 同一時点を表す{@code java.sql.Timestamp}オブジェクトを返却する。(ナノ秒も保持する)
  * <p/>
  * <b>上記以外</b>：<br>
  * {@link ConversionException}を送出する。
@@ -70,9 +73,7 @@ public class SqlTimestampConverter implements Converter<Timestamp> {
             dest.setNanos(src.getNanos());
             return dest;
         } else if (value instanceof Date date) {
-            Calendar cal = Calendar.getInstance();
-            cal.setTime(date);
-            return new Timestamp(cal.getTimeInMillis());
+            return new Timestamp(date.getTime());
         } else if (value instanceof Calendar cal) {
             return new Timestamp(cal.getTimeInMillis());
         } else if (value instanceof String) {
@@ -91,4 +92,23 @@ public class SqlTimestampConverter implements Converter<Timestamp> {
         }
     }
 
+    @Override
+    public void convertAll(final Object[] src, final Timestamp[] dest) {
+        BulkConversionSupport.convertAll(src, dest, this::resolve);
+    }
+
+    /**
+     * 変換元の値の型に対応する変換処理を解決する。
+     *
+     * @param sourceType 変換元の値の型
+     * @return 変換処理
+     */
+    private Converter<Timestamp> resolve(final Class<?> sourceType) {
+        if (sourceType == LocalDateTime.class) {
+            return value -> Timestamp.valueOf((LocalDateTime) value);
+        } else if (sourceType == LocalDate.class) {
+            return value -> Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+        }
+        return this;
+    }
 }
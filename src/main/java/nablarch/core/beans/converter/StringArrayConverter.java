@@ -33,6 +33,12 @@ public class StringArrayConverter implements Converter<String[]> {
                 result[i] = converter.convert(list.get(i));
             }
 
+        // Object[] to String[]
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            result = new String[array.length];
+            converter.convertAll(array, result);
+
         // Array to String[]
         } else if (value.getClass().isArray()) {
             result = new String[Array.getLength(value)];
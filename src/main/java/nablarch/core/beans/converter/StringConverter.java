@@ -6,11 +6,11 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Objects;
 
 import nablarch.core.beans.ConversionException;
 import nablarch.core.beans.Converter;
 import nablarch.core.beans.Mergeable;
-import nablarch.core.util.DateUtil;
 import nablarch.core.util.StringUtil;
 
 /**
@@ -30,6 +30,7 @@ import nablarch.core.util.StringUtil;
  * <p/>
  * <b>日付型（日付パターンが設定されている場合）</b>：<br>
  * パターンに従ってフォーマットして返却する。
+ * {@link java.util.Date}は{@link nablarch.core.util.DateUtil#formatDate(Date, String)}と同じ結果となる。
  * <p/>
  * <b>数値型（数値パターンが設定されている場合）</b>：<br>
  * パターンに従ってフォーマットして返却する。
@@ -47,8 +48,15 @@ public class StringConverter implements Mergeable<String, StringConverter> {
     /** 数値パターン */
     private final String numberPattern;
 
+    /** 日付パターンを解析済みのフォーマッタ */
     private final DateTimeFormatter formatter;
 
+    /** 日付パターンを解析済みの{@link java.util.Date}向けのフォーマッタ */
+    private final DatePatternFormatter dateFormatter;
+
+    /** 数値パターンを解析済みのフォーマット */
+    private final ThreadLocalFormat<DecimalFormat> numberFormat;
+
     /**
      * デフォルトコンストラクタ。
      */
@@ -56,6 +64,8 @@ public class StringConverter implements Mergeable<String, StringConverter> {
         this.datePattern = null;
         this.numberPattern = null;
         this.formatter = null;
+        this.dateFormatter = null;
+        this.numberFormat = null;
     }
 
     /**
@@ -66,13 +76,18 @@ public class StringConverter implements Mergeable<String, StringConverter> {
      */
     public StringConverter(String datePattern, String numberPattern) {
         this(datePattern, numberPattern,
-                datePattern != null ? DateTimeFormatter.ofPattern(datePattern) : null);
+                datePattern != null ? DateTimeFormatter.ofPattern(datePattern) : null,
+                datePattern != null ? new DatePatternFormatter(datePattern) : null,
+                numberPattern != null ? new ThreadLocalFormat<>(new DecimalFormat(numberPattern)) : null);
     }
 
-    private StringConverter(String datePattern, String numberPattern, DateTimeFormatter formatter) {
+    private StringConverter(String datePattern, String numberPattern, DateTimeFormatter formatter,
+            DatePatternFormatter dateFormatter, ThreadLocalFormat<DecimalFormat> numberFormat) {
         this.datePattern = datePattern;
         this.numberPattern = numberPattern;
         this.formatter = formatter;
+        this.dateFormatter = dateFormatter;
+        this.numberFormat = numberFormat;
     }
 
     @Override
@@ -83,10 +98,10 @@ public class StringConverter implements Mergeable<String, StringConverter> {
             return bool ? "1" : "0";
         } else if (value instanceof String[] strArray) {
             return SingleValueExtracter.toSingleValue(strArray, this, String.class);
-        } else if (datePattern != null && value instanceof Date date) {
-            return DateUtil.formatDate(date, datePattern);
-        } else if (numberPattern != null && value instanceof Number) {
-            return new DecimalFormat(numberPattern).format(value);
+        } else if (dateFormatter != null && value instanceof Date date) {
+            return dateFormatter.format(date);
+        } else if (numberFormat != null && value instanceof Number) {
+            return numberFormat.get().format(value);
         } else if (formatter != null && value instanceof LocalDate localDate) {
             return localDate.format(formatter);
         } else if (formatter != null && value instanceof LocalDateTime localDateTime) {
@@ -102,6 +117,59 @@ public class StringConverter implements Mergeable<String, StringConverter> {
         return new StringConverter(
                 datePattern != null ? datePattern : other.datePattern,
                 numberPattern != null ? numberPattern : other.numberPattern,
-                formatter != null ? formatter : other.formatter);
+                formatter != null ? formatter : other.formatter,
+                dateFormatter != null ? dateFormatter : other.dateFormatter,
+                numberFormat != null ? numberFormat : other.numberFormat);
+    }
+
+    /**
+     * 日付パターンと数値パターンが同じ場合に等価とする。
+     * <p/>
+     * {@link #merge(StringConverter)}でマージされたインスタンスも、パターンが同じであれば等価となる。
+     *
+     * @param o 比較対象
+     * @return 等価な場合は{@code true}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+        final StringConverter other = (StringConverter) o;
+        return Objects.equals(datePattern, other.datePattern) && Objects.equals(numberPattern, other.numberPattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(datePattern, numberPattern);
+    }
+
+    @Override
+    public void convertAll(final Object[] src, final String[] dest) {
+        BulkConversionSupport.convertAll(src, dest, this::resolve);
+    }
+
+    /**
+     * 変換元の値の型に対応する変換処理を解決する。
+     * <p/>
+     * 解決した変換処理は{@link #convertAll(Object[], String[])}を呼び出したスレッドでのみ使用するため、
+     * 数値のフォーマットはスレッドごとのインスタンスを解決時に1度だけ取得する。
+     *
+     * @param sourceType 変換元の値の型
+     * @return 変換処理
+     */
+    private Converter<String> resolve(final Class<?> sourceType) {
+        if (sourceType == String.class) {
+            return value -> (String) value;
+        } else if (dateFormatter != null && Date.class.isAssignableFrom(sourceType)) {
+            return value -> dateFormatter.format((Date) value);
+        } else if (numberFormat != null && Number.class.isAssignableFrom(sourceType)) {
+            final DecimalFormat format = numberFormat.get();
+            return format::format;
+        }
+        return this;
     }
 }
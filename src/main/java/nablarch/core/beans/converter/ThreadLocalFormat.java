@@ -0,0 +1,47 @@
+package nablarch.core.beans.converter;
+
+import java.text.Format;
+
+/**
+ * 解析済みの{@link Format}をスレッドごとに複製して保持するクラス。
+ * <p>
+ * {@link java.text.DecimalFormat}や{@link java.text.SimpleDateFormat}はスレッドセーフではなく、
+ * かつパターン文字列の解析にコストがかかる。
+ * そのため、パターンの解析はインスタンス構築時に1度だけ行い、
+ * 各スレッドでは解析済みのインスタンスを複製したものを使用する。
+ * <p>
+ * 複製したインスタンスはスレッドが存在する間だけ再利用される。
+ * スレッドプールのように同じスレッドで繰り返し変換する場合に効果があり、
+ * リクエストごとにスレッドを生成する場合(仮想スレッドをリクエストごとに生成する場合など)は、
+ * スレッドごとに最初の変換で複製が行われるため再利用されない。
+ * この場合も複製はパターンの解析より軽量であり、結果は変わらない。
+ *
+ * @param <T> {@link Format}の型
+ * @author TIS
+ */
+final class ThreadLocalFormat<T extends Format> {
+
+    /** スレッドごとに複製された{@link Format} */
+    private final ThreadLocal<T> formats;
+
+    /**
+     * 複製元となる{@link Format}を設定してインスタンスを構築する。
+     * <p>
+     * 引数の{@link Format}は複製元としてのみ使用されるため、構築後に変更してはならない。
+     *
+     * @param prototype 複製元となる{@link Format}
+     */
+    @SuppressWarnings("unchecked")
+    ThreadLocalFormat(final T prototype) {
+        this.formats = ThreadLocal.withInitial(() -> (T) prototype.clone());
+    }
+
+    /**
+     * 現在のスレッドで使用する{@link Format}を取得する。
+     *
+     * @return 現在のスレッド専用の{@link Format}
+     */
+    T get() {
+        return formats.get();
+    }
+}
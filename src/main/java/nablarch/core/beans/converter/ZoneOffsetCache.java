@@ -0,0 +1,262 @@
+package nablarch.core.beans.converter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * ゾーンIDのオフセットを、オフセットが変わらない期間とともにキャッシュするクラス。
+ * <p>
+ * 直近に解決したオフセットについて、前後のオフセットの遷移から有効な期間を求めて保持する。
+ * 変換対象の日時が有効な期間に含まれる場合は、{@link ZoneRules}の遷移を参照せずにキャッシュしたオフセットを使用する。
+ * <p>
+ * ローカル日時からオフセットを解決する場合、夏時間の開始などでローカル日時が存在しない期間と、
+ * 夏時間の終了などでローカル日時が重複する期間は有効な期間に含めない。
+ * これらの期間のローカル日時は{@link LocalDateTime#atZone(ZoneId)}で解決するため、
+ * 変換結果は{@link java.time.ZonedDateTime}を使用した場合と同じになる。
+ *
+ * @author TIS
+ */
+final class ZoneOffsetCache {
+
+    /** 1日の秒数 */
+    private static final long SECONDS_PER_DAY = 86400L;
+
+    /** ゾーンID */
+    private final ZoneId zoneId;
+
+    /** ゾーンのルール */
+    private final ZoneRules rules;
+
+    /** 直近に解決したオフセットとその有効な期間 */
+    private volatile Window window;
+
+    /**
+     * ゾーンIDを指定してインスタンスを構築する。
+     *
+     * @param zoneId ゾーンID
+     */
+    ZoneOffsetCache(final ZoneId zoneId) {
+        this.zoneId = zoneId;
+        this.rules = zoneId.getRules();
+        if (rules.isFixedOffset()) {
+            window = new Window(rules.getOffset(Instant.EPOCH),
+                    Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * エポック秒に対応するオフセットを返す。
+     *
+     * @param epochSecond エポック秒
+     * @return オフセット
+     */
+    ZoneOffset getOffset(final long epochSecond) {
+        final Window current = window;
+        if (current != null && current.containsInstant(epochSecond)) {
+            return current.offset;
+        }
+        return update(epochSecond).offset;
+    }
+
+    /**
+     * エポック秒をローカル日付に変換する。
+     *
+     * @param epochSecond エポック秒
+     * @return ローカル日付
+     */
+    LocalDate toLocalDate(final long epochSecond) {
+        return LocalDate.ofEpochDay(Math.floorDiv(epochSecond + getOffset(epochSecond).getTotalSeconds(), SECONDS_PER_DAY));
+    }
+
+    /**
+     * エポック秒とナノ秒をローカル日時に変換する。
+     *
+     * @param epochSecond エポック秒
+     * @param nano ナノ秒
+     * @return ローカル日時
+     */
+    LocalDateTime toLocalDateTime(final long epochSecond, final int nano) {
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, getOffset(epochSecond));
+    }
+
+    /**
+     * エポック秒とナノ秒をオフセット付き日時に変換する。
+     *
+     * @param epochSecond エポック秒
+     * @param nano ナノ秒
+     * @return オフセット付き日時
+     */
+    OffsetDateTime toOffsetDateTime(final long epochSecond, final int nano) {
+        final ZoneOffset offset = getOffset(epochSecond);
+        return OffsetDateTime.of(LocalDateTime.ofEpochSecond(epochSecond, nano, offset), offset);
+    }
+
+    /**
+     * ローカル日時をオフセット付き日時に変換する。
+     *
+     * @param dateTime ローカル日時
+     * @return オフセット付き日時
+     * @see LocalDateTime#atZone(ZoneId)
+     */
+    OffsetDateTime toOffsetDateTime(final LocalDateTime dateTime) {
+        final ZoneOffset offset = findOffset(dateTime);
+        if (offset != null) {
+            return OffsetDateTime.of(dateTime, offset);
+        }
+        final ZonedDateTime zoned = dateTime.atZone(zoneId);
+        update(zoned.toEpochSecond());
+        return zoned.toOffsetDateTime();
+    }
+
+    /**
+     * ローカル日時を{@link Instant}に変換する。
+     *
+     * @param dateTime ローカル日時
+     * @return {@link Instant}
+     * @see LocalDateTime#atZone(ZoneId)
+     */
+    Instant toInstant(final LocalDateTime dateTime) {
+        final ZoneOffset offset = findOffset(dateTime);
+        if (offset != null) {
+            return Instant.ofEpochSecond(dateTime.toEpochSecond(offset), dateTime.getNano());
+        }
+        final ZonedDateTime zoned = dateTime.atZone(zoneId);
+        update(zoned.toEpochSecond());
+        return zoned.toInstant();
+    }
+
+    /**
+     * ローカル日付の開始日時をオフセット付き日時に変換する。
+     *
+     * @param date ローカル日付
+     * @return オフセット付き日時
+     * @see LocalDate#atStartOfDay(ZoneId)
+     */
+    OffsetDateTime atStartOfDay(final LocalDate date) {
+        final LocalDateTime dateTime = date.atStartOfDay();
+        final ZoneOffset offset = findOffset(dateTime);
+        if (offset != null) {
+            return OffsetDateTime.of(dateTime, offset);
+        }
+        final ZonedDateTime zoned = date.atStartOfDay(zoneId);
+        update(zoned.toEpochSecond());
+        return zoned.toOffsetDateTime();
+    }
+
+    /**
+     * キャッシュからローカル日時に対応するオフセットを探す。
+     *
+     * @param dateTime ローカル日時
+     * @return オフセット。キャッシュの有効な期間に含まれない場合は{@code null}
+     */
+    private ZoneOffset findOffset(final LocalDateTime dateTime) {
+        final Window current = window;
+        if (current != null && current.containsLocal(dateTime.toEpochSecond(ZoneOffset.UTC))) {
+            return current.offset;
+        }
+        return null;
+    }
+
+    /**
+     * エポック秒を含む期間のオフセットを解決してキャッシュする。
+     *
+     * @param epochSecond エポック秒
+     * @return 解決したオフセットとその有効な期間
+     */
+    private Window update(final long epochSecond) {
+        final Instant instant = Instant.ofEpochSecond(epochSecond);
+        final ZoneOffset offset = rules.getOffset(instant);
+        // 遷移と同じ時刻の場合もその遷移を取得するため、1秒後より前の遷移を取得する
+        final ZoneOffsetTransition previous = epochSecond < Instant.MAX.getEpochSecond()
+                ? rules.previousTransition(instant.plusSeconds(1)) : null;
+        final ZoneOffsetTransition next = rules.nextTransition(instant);
+
+        final long instantFrom;
+        final long localFrom;
+        if (previous != null) {
+            instantFrom = previous.toEpochSecond();
+            localFrom = instantFrom + Math.max(offset.getTotalSeconds(), previous.getOffsetBefore().getTotalSeconds());
+        } else {
+            instantFrom = Long.MIN_VALUE;
+            localFrom = Long.MIN_VALUE;
+        }
+        final long instantUntil;
+        final long localUntil;
+        if (next != null) {
+            instantUntil = next.toEpochSecond();
+            localUntil = instantUntil + Math.min(offset.getTotalSeconds(), next.getOffsetAfter().getTotalSeconds());
+        } else {
+            instantUntil = Long.MAX_VALUE;
+            localUntil = Long.MAX_VALUE;
+        }
+        final Window updated = new Window(offset, instantFrom, instantUntil, localFrom, localUntil);
+        window = updated;
+        return updated;
+    }
+
+    /**
+     * オフセットとその有効な期間。
+     */
+    private static final class Window {
+
+        /** オフセット */
+        private final ZoneOffset offset;
+
+        /** 有効な期間の開始(エポック秒、この値を含む) */
+        private final long instantFrom;
+
+        /** 有効な期間の終了(エポック秒、この値を含まない) */
+        private final long instantUntil;
+
+        /** 有効な期間の開始(ローカル日時をUTCとみなしたエポック秒、この値を含む) */
+        private final long localFrom;
+
+        /** 有効な期間の終了(ローカル日時をUTCとみなしたエポック秒、この値を含まない) */
+        private final long localUntil;
+
+        /**
+         * オフセットと有効な期間を指定してインスタンスを構築する。
+         *
+         * @param offset オフセット
+         * @param instantFrom 有効な期間の開始(エポック秒)
+         * @param instantUntil 有効な期間の終了(エポック秒)
+         * @param localFrom 有効な期間の開始(ローカル日時)
+         * @param localUntil 有効な期間の終了(ローカル日時)
+         */
+        private Window(final ZoneOffset offset, final long instantFrom, final long instantUntil,
+                final long localFrom, final long localUntil) {
+            this.offset = offset;
+            this.instantFrom = instantFrom;
+            this.instantUntil = instantUntil;
+            this.localFrom = localFrom;
+            this.localUntil = localUntil;
+        }
+
+        /**
+         * エポック秒が有効な期間に含まれるかどうかを判定する。
+         *
+         * @param epochSecond エポック秒
+         * @return 含まれる場合は{@code true}
+         */
+        private boolean containsInstant(final long epochSecond) {
+            return epochSecond >= instantFrom && epochSecond < instantUntil;
+        }
+
+        /**
+         * ローカル日時が有効な期間に含まれるかどうかを判定する。
+         *
+         * @param localEpochSecond ローカル日時をUTCとみなしたエポック秒
+         * @return 含まれる場合は{@code true}
+         */
+        private boolean containsLocal(final long localEpochSecond) {
+            return localEpochSecond >= localFrom && localEpochSecond < localUntil;
+        }
+    }
+}
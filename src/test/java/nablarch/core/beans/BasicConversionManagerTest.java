@@ -55,6 +55,50 @@ public class BasicConversionManagerTest {
                 converters.get(String.class).convert(timestamp("2018-02-21 00:00:00")));
     }
 
+    @Test
+    public void プリミティブ型の配列() {
+        BasicConversionManager sut = new BasicConversionManager();
+        Map<Class<?>, Converter<?>> converters = sut.getConverters();
+
+        assertArrayEquals(new int[] {1, 2},
+                (int[]) converters.get(int[].class).convert(new String[] {"1", "2"}));
+        assertArrayEquals(new long[] {1L, 2L},
+                (long[]) converters.get(long[].class).convert(List.of("1", "2")));
+        assertArrayEquals(new short[] {1, 2},
+                (short[]) converters.get(short[].class).convert(new String[] {"1", "2"}));
+        assertArrayEquals(new boolean[] {true, false},
+                (boolean[]) converters.get(boolean[].class).convert(new String[] {"1", "0"}));
+        assertArrayEquals(new char[] {'a', 'b'},
+                (char[]) converters.get(char[].class).convert(new String[] {"a", "b"}));
+        assertArrayEquals(new float[] {1.5f},
+                (float[]) converters.get(float[].class).convert(new String[] {"1.5"}), 0.0f);
+        assertArrayEquals(new double[] {1.5},
+                (double[]) converters.get(double[].class).convert(new String[] {"1.5"}), 0.0);
+    }
+
+    @Test
+    public void 列挙型() {
+        BasicConversionManager sut = new BasicConversionManager();
+        ExtensionConverter<Thread.State> converter = findExtensionConverter(sut, Thread.State.class);
+        assertEquals(Thread.State.NEW, converter.convert(Thread.State.class, "NEW"));
+
+        List<ExtensionConverter<?>> before = sut.getExtensionConvertor();
+        sut.setEnumIgnoreCase(true);
+        assertNotSame(before, sut.getExtensionConvertor());
+        converter = findExtensionConverter(sut, Thread.State.class);
+        assertEquals(Thread.State.NEW, converter.convert(Thread.State.class, "new"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ExtensionConverter<T> findExtensionConverter(ConversionManager manager, Class<T> type) {
+        for (ExtensionConverter<?> converter : manager.getExtensionConvertor()) {
+            if (converter.isConvertible(type)) {
+                return (ExtensionConverter<T>) converter;
+            }
+        }
+        throw new AssertionError("extension converter not found. type = " + type);
+    }
+
     @Test
     public void 日付_パターン指定() {
         BasicConversionManager sut = new BasicConversionManager();
@@ -0,0 +1,368 @@
+package nablarch.core.beans;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import nablarch.test.support.SystemRepositoryResource;
+
+/**
+ * {@link BeanMappingProcessor}のテスト。
+ */
+public class BeanMappingProcessorTest {
+
+    @Rule
+    public SystemRepositoryResource resource = new SystemRepositoryResource(null);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void Mapを順序どおりにBeanに変換できること() throws Exception {
+        final BeanMappingProcessor<Dest> sut = new BeanMappingProcessor<>(Dest.class, CopyOptions.empty(), 10, 3, executor);
+        final Collector<Dest> collector = new Collector<>();
+        sut.subscribe(collector);
+
+        try (SubmissionPublisher<Map<String, ?>> upstream = new SubmissionPublisher<>(executor, 16)) {
+            upstream.subscribe(sut);
+            for (int i = 0; i < 1005; i++) {
+                upstream.submit(row(String.valueOf(i), "2018/02/14"));
+            }
+        }
+
+        final List<BeanMappingProcessor.Result<Dest>> actual = collector.completion.get(1, TimeUnit.MINUTES);
+        assertThat(actual.size(), is(1005));
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(actual.get(i).isSuccess(), is(true));
+            assertThat(actual.get(i).getValue().getId(), is(i));
+            assertThat(actual.get(i).getValue().getDate(), is(LocalDate.of(2018, 2, 14)));
+        }
+    }
+
+    @Test
+    public void 変換に失敗した要素はエラーとして送信されストリームが継続すること() throws Exception {
+        final BeanMappingProcessor<DestRecord> sut = new BeanMappingProcessor<>(DestRecord.class, CopyOptions.empty(), 2, 2, executor);
+        final Collector<DestRecord> collector = new Collector<>();
+        sut.subscribe(collector);
+
+        final Map<String, Object> invalid = new HashMap<>();
+        invalid.put("id", null);
+        try (SubmissionPublisher<Map<String, ?>> upstream = new SubmissionPublisher<>(executor, 16)) {
+            upstream.subscribe(sut);
+            upstream.submit(row("1", null));
+            upstream.submit(invalid);
+            upstream.submit(row("3", null));
+        }
+
+        final List<BeanMappingProcessor.Result<DestRecord>> actual = collector.completion.get(1, TimeUnit.MINUTES);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getValue(), is(new DestRecord(1, null)));
+        assertThat(actual.get(1).isSuccess(), is(false));
+        assertThat(actual.get(1).getSource(), is(sameInstance((Object) invalid)));
+        assertThat(actual.get(1).getValue(), is(nullValue()));
+        assertThat(actual.get(1).getError(), is(notNullValue()));
+        assertThat(actual.get(2).getValue(), is(new DestRecord(3, null)));
+    }
+
+    @Test
+    public void 上流への要求がバッチサイズと並列度の積を超えないこと() throws Exception {
+        final BeanMappingProcessor<Dest> sut = new BeanMappingProcessor<>(Dest.class, CopyOptions.empty(), 5, 2, executor);
+        final Collector<Dest> collector = new Collector<>();
+        sut.subscribe(collector);
+        final AtomicLong requested = new AtomicLong();
+        sut.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                requested.addAndGet(n);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        assertThat(requested.get(), is(10L));
+        for (int i = 0; i < 10; i++) {
+            sut.onNext(row(String.valueOf(i), null));
+        }
+        sut.onComplete();
+
+        assertThat(collector.completion.get(1, TimeUnit.MINUTES).size(), is(10));
+        // 送信したバッチの件数だけ追加で要求されること
+        assertThat(requested.get(), is(20L));
+    }
+
+    @Test
+    public void 上流が完了していなくてもバッチサイズに満たない要素が下流に送信されること() throws Exception {
+        final BeanMappingProcessor<Dest> sut = new BeanMappingProcessor<>(Dest.class, CopyOptions.empty(), 100, 2, executor);
+        final Collector<Dest> collector = new Collector<>();
+        sut.subscribe(collector);
+        final CountingSubscription subscription = new CountingSubscription();
+        sut.onSubscribe(subscription);
+
+        for (int i = 0; i < 3; i++) {
+            sut.onNext(row(String.valueOf(i), null));
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (collector.results.size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(collector.results.size(), is(3));
+        for (int i = 0; i < 3; i++) {
+            assertThat(collector.results.get(i).getValue().getId(), is(i));
+        }
+        assertThat(collector.completion.isDone(), is(false));
+        // 送信した件数だけ追加で要求されること
+        while (subscription.requested.get() < 203 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(subscription.requested.get(), is(203L));
+    }
+
+    @Test
+    public void 上流への要求を使い切った場合もバッチサイズに満たない要素が下流に送信されること() throws Exception {
+        final BeanMappingProcessor<Dest> sut = new BeanMappingProcessor<>(Dest.class, CopyOptions.empty(), 4, 1, executor);
+        final Collector<Dest> collector = new Collector<>();
+        sut.subscribe(collector);
+        try (SubmissionPublisher<Map<String, ?>> upstream = new SubmissionPublisher<>(executor, 16)) {
+            upstream.subscribe(sut);
+            for (int i = 0; i < 10; i++) {
+                upstream.submit(row(String.valueOf(i), null));
+            }
+
+            // 上流は完了していないが、送信した要素は全て下流に届くこと
+            final long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+            while (collector.results.size() < 10 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(collector.results.size(), is(10));
+            assertThat(collector.completion.isDone(), is(false));
+        }
+
+        assertThat(collector.completion.get(1, TimeUnit.MINUTES).size(), is(10));
+    }
+
+    @Test
+    public void 上流のエラーが下流に通知されること() throws Exception {
+        final BeanMappingProcessor<Dest> sut = new BeanMappingProcessor<>(Dest.class, CopyOptions.empty(), 5, 1, executor);
+        final Collector<Dest> collector = new Collector<>();
+        sut.subscribe(collector);
+        sut.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        sut.onNext(row("1", null));
+        final IllegalStateException error = new IllegalStateException("upstream error");
+        sut.onError(error);
+
+        try {
+            collector.completion.get(1, TimeUnit.MINUTES);
+            throw new AssertionError("エラーが通知されること");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(sameInstance((Throwable) error)));
+        }
+    }
+
+    @Test
+    public void プロパティの値の変換に失敗した場合はそのプロパティを設定せずに成功として送信されること() throws Exception {
+        final BeanMappingProcessor<Dest> sut = new BeanMappingProcessor<>(Dest.class, CopyOptions.empty(), 2, 1, executor);
+        final Collector<Dest> collector = new Collector<>();
+        sut.subscribe(collector);
+
+        try (SubmissionPublisher<Map<String, ?>> upstream = new SubmissionPublisher<>(executor, 16)) {
+            upstream.subscribe(sut);
+            upstream.submit(row("abc", "2018/02/14"));
+        }
+
+        final List<BeanMappingProcessor.Result<Dest>> actual = collector.completion.get(1, TimeUnit.MINUTES);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).isSuccess(), is(true));
+        assertThat(actual.get(0).getValue().getId(), is(nullValue()));
+        assertThat(actual.get(0).getValue().getDate(), is(LocalDate.of(2018, 2, 14)));
+    }
+
+    @Test
+    public void closeした場合は上流の購読が取り消されること() {
+        final BeanMappingProcessor<Dest> sut = new BeanMappingProcessor<>(Dest.class, CopyOptions.empty(), 5, 1, executor);
+        final CountingSubscription subscription = new CountingSubscription();
+        sut.onSubscribe(subscription);
+
+        sut.close();
+        sut.close();
+
+        assertThat(subscription.cancelled.get(), is(1L));
+        final CountingSubscription another = new CountingSubscription();
+        sut.onSubscribe(another);
+        assertThat(another.cancelled.get(), is(1L));
+        assertThat(another.requested.get(), is(0L));
+    }
+
+    @Test
+    public void 上流の完了後にcloseされた場合は上流の購読が取り消されないこと() throws Exception {
+        final BeanMappingProcessor<Dest> sut = new BeanMappingProcessor<>(Dest.class, CopyOptions.empty(), 5, 1, executor);
+        final Collector<Dest> collector = new Collector<>();
+        sut.subscribe(collector);
+        final CountingSubscription subscription = new CountingSubscription();
+        sut.onSubscribe(subscription);
+
+        sut.onNext(row("1", null));
+        sut.onComplete();
+
+        assertThat(collector.completion.get(1, TimeUnit.MINUTES).size(), is(1));
+        assertThat(subscription.cancelled.get(), is(0L));
+    }
+
+    @Test
+    public void 下流が全て購読を取り消した場合は上流の購読が取り消されること() throws Exception {
+        final BeanMappingProcessor<Dest> sut = new BeanMappingProcessor<>(Dest.class, CopyOptions.empty(), 1, 1, executor);
+        final CompletableFuture<Flow.Subscription> downstream = new CompletableFuture<>();
+        sut.subscribe(new Flow.Subscriber<BeanMappingProcessor.Result<Dest>>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                downstream.complete(subscription);
+            }
+
+            @Override
+            public void onNext(BeanMappingProcessor.Result<Dest> item) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        final CountingSubscription subscription = new CountingSubscription();
+        sut.onSubscribe(subscription);
+
+        downstream.get(1, TimeUnit.MINUTES).cancel();
+        final long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (sut.hasSubscribers() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        sut.onNext(row("1", null));
+
+        while (subscription.cancelled.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(subscription.cancelled.get(), is(1L));
+        // 購読を取り消した後は追加で要求しないこと
+        assertThat(subscription.requested.get(), is(1L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void バッチサイズが0の場合は例外が送出されること() {
+        new BeanMappingProcessor<>(Dest.class, CopyOptions.empty(), 0, 1, executor);
+    }
+
+    private static Map<String, Object> row(String id, String date) {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("id", id);
+        map.put("date", date);
+        return map;
+    }
+
+    /**
+     * 要求数と取り消し回数を記録する{@link Flow.Subscription}。
+     */
+    private static final class CountingSubscription implements Flow.Subscription {
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicLong cancelled = new AtomicLong();
+
+        @Override
+        public void request(long n) {
+            requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.incrementAndGet();
+        }
+    }
+
+    /**
+     * 受信した変換結果を保持する{@link Flow.Subscriber}。
+     */
+    private static final class Collector<T> implements Flow.Subscriber<BeanMappingProcessor.Result<T>> {
+
+        private final List<BeanMappingProcessor.Result<T>> results = Collections.synchronizedList(new ArrayList<>());
+        private final CompletableFuture<List<BeanMappingProcessor.Result<T>>> completion = new CompletableFuture<>();
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(BeanMappingProcessor.Result<T> item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(results);
+        }
+    }
+
+    public static class Dest {
+        private Integer id;
+        @CopyOption(datePattern = "yyyy/MM/dd")
+        private LocalDate date;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+    }
+
+    public record DestRecord(int id, LocalDate date) {
+    }
+}
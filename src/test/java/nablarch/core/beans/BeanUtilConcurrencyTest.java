@@ -0,0 +1,116 @@
+package nablarch.core.beans;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import nablarch.test.support.SystemRepositoryResource;
+
+/**
+ * {@link BeanUtil}を複数のスレッドから同時に使用した場合のテスト。
+ */
+public class BeanUtilConcurrencyTest {
+
+    @Rule
+    public SystemRepositoryResource resource = new SystemRepositoryResource(null);
+
+    @Test
+    public void 未解析のクラスと解析済みのクラスを同時にコピーしても正しくコピーできること() throws Exception {
+        final int threads = 64;
+        final int iterations = 200;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 5; round++) {
+                // 各ラウンドの開始時にキャッシュをクリアして、解析処理が同時に実行される状態にする
+                BeanUtil.clearCache();
+                final CountDownLatch start = new CountDownLatch(1);
+                final List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    final int threadNo = t;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < iterations; i++) {
+                            final Src src = new Src(String.valueOf(threadNo * iterations + i), "2018/02/14");
+                            final Dest dest = BeanUtil.createAndCopy(Dest.class, src);
+                            assertThat(dest.getId(), is(threadNo * iterations + i));
+                            assertThat(dest.getDate(), is(LocalDate.of(2018, 2, 14)));
+                            final DestRecord record = BeanUtil.createAndCopy(DestRecord.class, src);
+                            assertThat(record, is(new DestRecord(threadNo * iterations + i, LocalDate.of(2018, 2, 14))));
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(1, TimeUnit.MINUTES);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void キャッシュから同じインスタンスが取得できること() {
+        assertThat(BeanUtil.getPropertyDescriptors(Dest.class), is(sameInstance(BeanUtil.getPropertyDescriptors(Dest.class))));
+        assertThat(CopyOptions.fromAnnotation(Dest.class), is(sameInstance(CopyOptions.fromAnnotation(Dest.class))));
+
+        final Object cached = BeanUtil.getPropertyDescriptors(Dest.class);
+        BeanUtil.clearCache();
+        assertThat(BeanUtil.getPropertyDescriptors(Dest.class), is(not(sameInstance(cached))));
+    }
+
+    public static class Src {
+        private final String id;
+        private final String date;
+
+        public Src(String id, String date) {
+            this.id = id;
+            this.date = date;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getDate() {
+            return date;
+        }
+    }
+
+    public static class Dest {
+        private Integer id;
+        @CopyOption(datePattern = "yyyy/MM/dd")
+        private LocalDate date;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+    }
+
+    public record DestRecord(int id, @CopyOption(datePattern = "yyyy/MM/dd") LocalDate date) {
+    }
+}
@@ -0,0 +1,481 @@
+package nablarch.core.beans;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import nablarch.test.support.SystemRepositoryResource;
+
+/**
+ * {@link BeanUtil}の複数の要素を一括でコピーするメソッドのテスト。
+ */
+public class BeanUtilCopyAllTest {
+
+    @Rule
+    public SystemRepositoryResource resource = new SystemRepositoryResource(null);
+
+    @Test
+    public void Beanのリストからコピーできること() {
+        List<Src> srcBeans = Arrays.asList(new Src("1", "2018/02/14", "100"), new Src("2", "2018/02/15", "200"));
+
+        List<Dest> actual = BeanUtil.createAndCopyAll(Dest.class, srcBeans, CopyOptions.empty());
+
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getId(), is(1));
+        assertThat(actual.get(0).getDate(), is(LocalDate.of(2018, 2, 14)));
+        assertThat(actual.get(0).getAmount(), is(new BigDecimal("100")));
+        assertThat(actual.get(1).getId(), is(2));
+        assertThat(actual.get(1).getDate(), is(LocalDate.of(2018, 2, 15)));
+    }
+
+    @Test
+    public void 要素ごとにcreateAndCopyした場合と同じ結果になること() {
+        CopyOptions copyOptions = CopyOptions.options().excludes("amount").build();
+        List<Object> srcBeans = Arrays.asList(
+                new Src("1", "2018/02/14", "100"),
+                null,
+                new OtherSrc(3, "2018/02/16"),
+                new Src("4", "invalid", "400"));
+
+        List<Dest> actual = BeanUtil.createAndCopyAll(Dest.class, srcBeans, copyOptions);
+
+        assertThat(actual.size(), is(srcBeans.size()));
+        for (int i = 0; i < srcBeans.size(); i++) {
+            Dest expected = BeanUtil.createAndCopy(Dest.class, srcBeans.get(i), copyOptions);
+            assertThat(actual.get(i).getId(), is(expected.getId()));
+            assertThat(actual.get(i).getDate(), is(expected.getDate()));
+            assertThat(actual.get(i).getAmount(), is(nullValue()));
+        }
+        assertThat(actual.get(1).getId(), is(nullValue()));
+        assertThat(actual.get(2).getId(), is(3));
+        assertThat(actual.get(3).getDate(), is(nullValue()));
+    }
+
+    @Test
+    public void レコードのリストを作成できること() {
+        List<Src> srcBeans = Arrays.asList(new Src("1", "2018/02/14", "100"), null);
+
+        List<DestRecord> actual = BeanUtil.createAndCopyAll(DestRecord.class, srcBeans, CopyOptions.empty());
+
+        assertThat(actual.get(0), is(new DestRecord(1, LocalDate.of(2018, 2, 14))));
+        assertThat(actual.get(1), is(new DestRecord(0, null)));
+    }
+
+    @Test
+    public void Iterableの場合もコピーできること() {
+        Iterable<Src> srcBeans = () -> Collections.singletonList(new Src("1", null, null)).iterator();
+
+        List<Dest> actual = BeanUtil.createAndCopyAll(Dest.class, srcBeans, CopyOptions.empty());
+
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getId(), is(1));
+    }
+
+    @Test
+    public void Mapのリストからコピーできること() {
+        Map<String, Object> first = new HashMap<>();
+        first.put("id", "1");
+        first.put("date", "2018/02/14");
+        first.put("amount", "100");
+        Map<String, Object> second = new HashMap<>();
+        second.put("id", 2);
+        List<Map<String, Object>> maps = Arrays.asList(first, null, second);
+
+        List<Dest> actual = BeanUtil.createAndCopyAllFromMaps(Dest.class, maps, CopyOptions.empty());
+
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getId(), is(1));
+        assertThat(actual.get(0).getDate(), is(LocalDate.of(2018, 2, 14)));
+        assertThat(actual.get(0).getAmount(), is(new BigDecimal("100")));
+        assertThat(actual.get(1).getId(), is(nullValue()));
+        assertThat(actual.get(2).getId(), is(2));
+        // 前の要素の値が残らないこと
+        assertThat(actual.get(2).getDate(), is(nullValue()));
+        assertThat(actual.get(2).getAmount(), is(nullValue()));
+    }
+
+    @Test
+    public void Mapのリストからレコードのリストを作成できること() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", "1");
+        map.put("date", "2018/02/14");
+        List<Map<String, Object>> maps = new ArrayList<>();
+        maps.add(map);
+        maps.add(null);
+
+        CopyOptions copyOptions = CopyOptions.options().datePattern("yyyy/MM/dd").build();
+        List<DestRecord> actual = BeanUtil.createAndCopyAllFromMaps(DestRecord.class, maps, copyOptions);
+
+        assertThat(actual.get(0), is(BeanUtil.createAndCopy(DestRecord.class, map, copyOptions)));
+        assertThat(actual.get(0), is(new DestRecord(1, LocalDate.of(2018, 2, 14))));
+        assertThat(actual.get(1), is(new DestRecord(0, null)));
+    }
+
+    @Test
+    public void 列ごとの値からBeanのリストを作成できること() {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("id", new int[] {1, 2, 3});
+        columns.put("date", new Object[] {"2018/02/14", null, "invalid"});
+        columns.put("amount", Arrays.asList("100", "200", null));
+        columns.put("unknown", new String[] {"a", "b", "c"});
+
+        List<Dest> actual = BeanUtil.createAndCopyAllFromColumns(Dest.class, columns, CopyOptions.empty());
+
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getId(), is(1));
+        assertThat(actual.get(0).getDate(), is(LocalDate.of(2018, 2, 14)));
+        assertThat(actual.get(0).getAmount(), is(new BigDecimal("100")));
+        assertThat(actual.get(1).getId(), is(2));
+        assertThat(actual.get(1).getDate(), is(nullValue()));
+        assertThat(actual.get(2).getDate(), is(nullValue()));
+        assertThat(actual.get(2).getAmount(), is(nullValue()));
+    }
+
+    @Test
+    public void 列ごとの値から作成した場合も行ごとのMapから作成した場合と同じ結果になること() {
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("id", new Object[] {"1", "x", null});
+        columns.put("date", new Object[] {"20180214", "2018/02/15", null});
+        CopyOptions copyOptions = CopyOptions.options().excludes("amount").datePattern("yyyy/MM/dd").build();
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", ((Object[]) columns.get("id"))[i]);
+            row.put("date", ((Object[]) columns.get("date"))[i]);
+            rows.add(row);
+        }
+
+        List<Dest> beans = BeanUtil.createAndCopyAllFromColumns(Dest.class, columns, copyOptions);
+        List<Dest> expectedBeans = BeanUtil.createAndCopyAllFromMaps(Dest.class, rows, copyOptions);
+        for (int i = 0; i < 3; i++) {
+            assertThat(beans.get(i).getId(), is(expectedBeans.get(i).getId()));
+            assertThat(beans.get(i).getDate(), is(expectedBeans.get(i).getDate()));
+        }
+
+        columns.remove("id");
+        rows.forEach(row -> row.remove("id"));
+        assertThat(BeanUtil.createAndCopyAllFromColumns(DestRecord.class, columns, copyOptions),
+                is(BeanUtil.createAndCopyAllFromMaps(DestRecord.class, rows, copyOptions)));
+        assertThat(BeanUtil.createAndCopyAllFromColumns(DestRecord.class, columns, copyOptions).get(1),
+                is(new DestRecord(0, LocalDate.of(2018, 2, 15))));
+    }
+
+    @Test
+    public void ネストしたプロパティの列が含まれる場合も行ごとのMapから作成した場合と同じ結果になること() {
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("id", new Object[] {"1", "2"});
+        columns.put("nested.id", new Object[] {"3", "4"});
+
+        List<Dest> actual = BeanUtil.createAndCopyAllFromColumns(Dest.class, columns, CopyOptions.empty());
+
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getId(), is(1));
+        assertThat(actual.get(1).getId(), is(2));
+    }
+
+    @Test
+    public void 列が空の場合は空のリストが返されること() {
+        assertThat(BeanUtil.createAndCopyAllFromColumns(Dest.class, Collections.emptyMap(), CopyOptions.empty()).isEmpty(),
+                is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 列ごとの行数が異なる場合は例外が送出されること() {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("id", new Object[] {"1", "2"});
+        columns.put("amount", new Object[] {"1"});
+        BeanUtil.createAndCopyAllFromColumns(Dest.class, columns, CopyOptions.empty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 列の値が配列でもListでもない場合は例外が送出されること() {
+        BeanUtil.createAndCopyAllFromColumns(Dest.class, Collections.singletonMap("id", "1"), CopyOptions.empty());
+    }
+
+    @Test
+    public void 並列にコピーした場合も順序が保持されること() {
+        final int size = ParallelCopier.SEQUENTIAL_THRESHOLD * 8 + 1;
+        List<Src> srcBeans = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            srcBeans.add(new Src(String.valueOf(i), "2018/02/14", String.valueOf(i * 10)));
+        }
+
+        List<Dest> actual = BeanUtil.createAndCopyAllParallel(Dest.class, srcBeans, CopyOptions.empty());
+
+        assertThat(actual.size(), is(size));
+        for (int i = 0; i < size; i++) {
+            assertThat(actual.get(i).getId(), is(i));
+            assertThat(actual.get(i).getAmount(), is(new BigDecimal(i * 10)));
+        }
+    }
+
+    @Test
+    public void 並列にコピーした結果のリストは要素の追加と削除ができること() {
+        for (int size : new int[] {2, ParallelCopier.SEQUENTIAL_THRESHOLD * 2}) {
+            List<Src> srcBeans = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                srcBeans.add(new Src(String.valueOf(i), null, null));
+            }
+
+            List<Dest> actual = BeanUtil.createAndCopyAllParallel(Dest.class, srcBeans, CopyOptions.empty());
+            actual.add(new Dest());
+            actual.remove(0);
+
+            assertThat(actual.size(), is(size));
+            assertThat(actual.get(0).getId(), is(1));
+        }
+    }
+
+    @Test
+    public void 指定したExecutorで並列にMapからコピーできること() {
+        final int size = ParallelCopier.SEQUENTIAL_THRESHOLD * 4;
+        List<Map<String, Object>> maps = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("id", i);
+            map.put("date", "2018/02/14");
+            maps.add(map);
+        }
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Dest> actual = BeanUtil.createAndCopyAllFromMapsParallel(Dest.class, maps, CopyOptions.empty(),
+                    command -> executor.execute(() -> {
+                        threadNames.add(Thread.currentThread().getName());
+                        command.run();
+                    }));
+
+            assertThat(actual.size(), is(size));
+            for (int i = 0; i < size; i++) {
+                assertThat(actual.get(i).getId(), is(i));
+                assertThat(actual.get(i).getDate(), is(LocalDate.of(2018, 2, 14)));
+            }
+            assertThat(threadNames.contains(Thread.currentThread().getName()), is(false));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void 並列にコピーした場合に失敗した要素が全て収集されること() {
+        final int size = ParallelCopier.SEQUENTIAL_THRESHOLD * 2;
+        List<Src> srcBeans = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            srcBeans.add(new Src(i % 500 == 0 ? "invalid" : String.valueOf(i), null, null));
+        }
+
+        try {
+            BeanUtil.createAndCopyAllParallel(DestRecord.class, srcBeans, CopyOptions.empty());
+            fail("BulkCopyExceptionが送出されること");
+        } catch (BulkCopyException e) {
+            assertThat(e.getFailures().keySet(), is((Set<Integer>) new TreeSet<>(Arrays.asList(0, 500, 1000, 1500, 2000))));
+            assertThat(e.getCause(), is(sameInstance(e.getFailures().get(0))));
+            assertThat(e.getResults().size(), is(size));
+            assertThat(e.getResults().get(0), is(nullValue()));
+            assertThat(e.getResults().get(1), is(new DestRecord(1, null)));
+            assertThat(e.getResults().get(size - 1), is(new DestRecord(size - 1, null)));
+        }
+    }
+
+    @Test
+    public void 要素数が少ない場合も失敗した要素が収集されること() {
+        List<Src> srcBeans = Arrays.asList(new Src("1", null, null), new Src("x", null, null));
+
+        try {
+            BeanUtil.createAndCopyAllParallel(DestRecord.class, srcBeans, CopyOptions.empty());
+            fail("BulkCopyExceptionが送出されること");
+        } catch (BulkCopyException e) {
+            assertThat(e.getFailures().keySet(), is((Set<Integer>) new TreeSet<>(Collections.singletonList(1))));
+            assertThat(e.getResults(), is((List<Object>) Arrays.<Object>asList(new DestRecord(1, null), null)));
+        }
+    }
+
+    @Test
+    public void 指定したExecutorの並列度でチャンクが分割されること() {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+        ExecutorService fixed = Executors.newFixedThreadPool(1);
+        try {
+            assertThat(ParallelCopier.parallelismOf(null), is(ForkJoinPool.getCommonPoolParallelism()));
+            assertThat(ParallelCopier.parallelismOf(forkJoinPool), is(3));
+            assertThat(ParallelCopier.parallelismOf(fixed), is(1));
+            assertThat(ParallelCopier.parallelismOf(Runnable::run), is(Runtime.getRuntime().availableProcessors()));
+        } finally {
+            forkJoinPool.shutdown();
+            fixed.shutdown();
+        }
+    }
+
+    @Test
+    public void デシリアライズしたBulkCopyExceptionの失敗した要素とコピー結果は空となること() throws Exception {
+        SortedMap<Integer, RuntimeException> failures = new TreeMap<>();
+        failures.put(1, new BeansException("failed"));
+        BulkCopyException original = new BulkCopyException(failures, Arrays.asList("a", null));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+        BulkCopyException actual;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            actual = (BulkCopyException) in.readObject();
+        }
+
+        assertThat(actual.getMessage(), is(original.getMessage()));
+        assertThat(actual.getCause().getMessage(), is("failed"));
+        assertThat(actual.getFailures().isEmpty(), is(true));
+        assertThat(actual.getResults().isEmpty(), is(true));
+    }
+
+    public static class Src {
+        private String id;
+        private String date;
+        private String amount;
+
+        public Src() {
+        }
+
+        public Src(String id, String date, String amount) {
+            this.id = id;
+            this.date = date;
+            this.amount = amount;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getDate() {
+            return date;
+        }
+
+        public void setDate(String date) {
+            this.date = date;
+        }
+
+        public String getAmount() {
+            return amount;
+        }
+
+        public void setAmount(String amount) {
+            this.amount = amount;
+        }
+    }
+
+    public static class OtherSrc {
+        private final Integer id;
+        private final String date;
+
+        public OtherSrc(Integer id, String date) {
+            this.id = id;
+            this.date = date;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getDate() {
+            return date;
+        }
+    }
+
+    public static class Dest {
+        private Integer id;
+        @CopyOption(datePattern = "yyyy/MM/dd")
+        private LocalDate date;
+        private BigDecimal amount;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+    }
+
+    public record DestRecord(int id, @CopyOption(datePattern = "yyyy/MM/dd") LocalDate date) {
+    }
+
+    @Test
+    public void 同じクラスの要素を列単位で変換した場合も要素ごとにcreateAndCopyした場合と同じ結果になること() {
+        List<Object> srcBeans = Arrays.asList(
+                new Src("1", "2018/02/14", "100"),
+                new Src("x", "2018/02/15", null),
+                new Src("3", "invalid", "300"),
+                new OtherSrc(4, "2018/02/17"),
+                new OtherSrc(5, null));
+        List<CopyOptions> optionsList = Arrays.asList(
+                CopyOptions.empty(),
+                CopyOptions.options().excludesNull().build(),
+                CopyOptions.options().converter(Integer.class, value -> value == null ? -1 : Integer.valueOf(value.toString())).build());
+
+        // プリミティブ型のコンポーネントに変換できない値を含む要素は、レコードを生成できないため除く
+        List<Object> recordSrcBeans = Arrays.asList(srcBeans.get(0), srcBeans.get(2), srcBeans.get(3), srcBeans.get(4));
+
+        for (CopyOptions copyOptions : optionsList) {
+            List<Dest> actual = BeanUtil.createAndCopyAll(Dest.class, srcBeans, copyOptions);
+            for (int i = 0; i < srcBeans.size(); i++) {
+                Dest expected = BeanUtil.createAndCopy(Dest.class, srcBeans.get(i), copyOptions);
+                assertThat(actual.get(i).getId(), is(expected.getId()));
+                assertThat(actual.get(i).getDate(), is(expected.getDate()));
+                assertThat(actual.get(i).getAmount(), is(expected.getAmount()));
+            }
+            List<DestRecord> actualRecords = BeanUtil.createAndCopyAll(DestRecord.class, recordSrcBeans, copyOptions);
+            for (int i = 0; i < recordSrcBeans.size(); i++) {
+                assertThat(actualRecords.get(i),
+                        is(BeanUtil.createAndCopy(DestRecord.class, recordSrcBeans.get(i), copyOptions)));
+            }
+        }
+        List<Dest> actual = BeanUtil.createAndCopyAll(Dest.class, srcBeans, CopyOptions.empty());
+        assertThat(actual.get(1).getId(), is(nullValue()));
+        assertThat(actual.get(1).getDate(), is(LocalDate.of(2018, 2, 15)));
+        assertThat(actual.get(2).getDate(), is(nullValue()));
+        assertThat(actual.get(2).getAmount(), is(new BigDecimal("300")));
+    }
+}
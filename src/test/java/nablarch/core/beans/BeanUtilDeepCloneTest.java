@@ -0,0 +1,612 @@
+package nablarch.core.beans;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import nablarch.test.support.SystemRepositoryResource;
+
+/**
+ * {@link BeanUtil#deepClone(Object, boolean)}のテスト。
+ */
+public class BeanUtilDeepCloneTest {
+
+    @Rule
+    public SystemRepositoryResource resource = new SystemRepositoryResource(null);
+
+    @Test
+    public void Beanが再帰的に複製されること() {
+        final Order src = new Order();
+        src.setId(1);
+        src.setAmount(new BigDecimal("100"));
+        src.setStatus(Status.OPEN);
+        src.setOrderedAt(new Date(0));
+        src.setAddress(new Address("Tokyo"));
+        src.setItems(new ArrayList<>(Arrays.asList(new Item("A", 1), new Item("B", 2))));
+        src.setScores(new int[] {1, 2});
+        src.setTags(new String[] {"x", "y"});
+        src.setAttributes(new HashMap<>(Map.of("gift", new Item("C", 3))));
+
+        final Order actual = BeanUtil.deepClone(src);
+
+        assertThat(actual, is(not(sameInstance(src))));
+        assertThat(actual.getId(), is(1));
+        assertThat(actual.getAmount(), is(sameInstance(src.getAmount())));
+        assertThat(actual.getStatus(), is(Status.OPEN));
+        assertThat(actual.getOrderedAt(), is(src.getOrderedAt()));
+        assertThat(actual.getOrderedAt(), is(not(sameInstance(src.getOrderedAt()))));
+        assertThat(actual.getAddress().getCity(), is("Tokyo"));
+        assertThat(actual.getAddress(), is(not(sameInstance(src.getAddress()))));
+        assertThat(actual.getItems().size(), is(2));
+        assertThat(actual.getItems(), is(not(sameInstance(src.getItems()))));
+        assertThat(actual.getItems().get(1).getName(), is("B"));
+        assertThat(actual.getItems().get(1), is(not(sameInstance(src.getItems().get(1)))));
+        assertThat(actual.getScores(), is(new int[] {1, 2}));
+        assertThat(actual.getScores(), is(not(sameInstance(src.getScores()))));
+        assertThat(actual.getTags(), is(new String[] {"x", "y"}));
+        assertThat(actual.getTags(), is(not(sameInstance(src.getTags()))));
+        assertThat(actual.getAttributes().get("gift").getName(), is("C"));
+        assertThat(actual.getAttributes().get("gift"), is(not(sameInstance(src.getAttributes().get("gift")))));
+
+        // 複製元を変更しても複製先に影響しないこと
+        src.getAddress().setCity("Osaka");
+        src.getItems().get(0).setQuantity(10);
+        src.getScores()[0] = 10;
+        src.getOrderedAt().setTime(1000);
+        assertThat(actual.getAddress().getCity(), is("Tokyo"));
+        assertThat(actual.getItems().get(0).getQuantity(), is(1));
+        assertThat(actual.getScores()[0], is(1));
+        assertThat(actual.getOrderedAt().getTime(), is(0L));
+    }
+
+    @Test
+    public void レコードが再帰的に複製されること() {
+        final OrderRecord src = new OrderRecord(1, "open", new Address("Tokyo"), List.of(new Item("A", 1)),
+                new Item[] {new Item("B", 2)});
+
+        final OrderRecord actual = BeanUtil.deepClone(src);
+
+        assertThat(actual, is(not(sameInstance(src))));
+        assertThat(actual.id(), is(1));
+        assertThat(actual.status(), is("open"));
+        assertThat(actual.address(), is(not(sameInstance(src.address()))));
+        assertThat(actual.address().getCity(), is("Tokyo"));
+        assertThat(actual.items().get(0), is(not(sameInstance(src.items().get(0)))));
+        assertThat(actual.items().get(0).getName(), is("A"));
+        assertThat(actual.extras()[0], is(not(sameInstance(src.extras()[0]))));
+        assertThat(actual.extras()[0].getName(), is("B"));
+    }
+
+    @Test
+    public void Setの順序とComparatorが保持されること() {
+        final SortedSet<String> sorted = new TreeSet<>(Comparator.reverseOrder());
+        sorted.addAll(Arrays.asList("a", "c", "b"));
+
+        final SortedSet<String> actual = BeanUtil.deepClone(sorted);
+
+        assertThat(actual, is(not(sameInstance(sorted))));
+        assertThat(new ArrayList<>(actual), is(Arrays.asList("c", "b", "a")));
+        assertThat(actual.comparator(), is(sameInstance(sorted.comparator())));
+        assertThat(BeanUtil.deepClone(Set.of(new Address("Tokyo"))).iterator().next().getCity(), is("Tokyo"));
+    }
+
+    @Test
+    public void 同一性を保持する設定の場合は共有と循環参照が複製後も保持されること() {
+        final Address shared = new Address("Tokyo");
+        final Node parent = new Node();
+        final Node child = new Node();
+        parent.setAddress(shared);
+        parent.setChildren(new ArrayList<>(List.of(child)));
+        child.setAddress(shared);
+        child.setParent(parent);
+
+        final Node actual = BeanUtil.deepClone(parent, true);
+
+        assertThat(actual, is(not(sameInstance(parent))));
+        final Node actualChild = actual.getChildren().get(0);
+        assertThat(actualChild, is(not(sameInstance(child))));
+        assertThat(actualChild.getParent(), is(sameInstance(actual)));
+        assertThat(actualChild.getAddress(), is(sameInstance(actual.getAddress())));
+        assertThat(actual.getAddress(), is(not(sameInstance(shared))));
+    }
+
+    @Test
+    public void 同一性を保持しない設定の場合は参照ごとに複製されること() {
+        final Address shared = new Address("Tokyo");
+        final Node parent = new Node();
+        final Node child = new Node();
+        parent.setAddress(shared);
+        parent.setChildren(new ArrayList<>(List.of(child)));
+        child.setAddress(shared);
+
+        final Node actual = BeanUtil.deepClone(parent);
+
+        assertThat(actual.getChildren().get(0).getAddress(), is(not(sameInstance(actual.getAddress()))));
+        assertThat(actual.getChildren().get(0).getAddress().getCity(), is("Tokyo"));
+    }
+
+    @Test
+    public void 同一性を保持しない設定の場合は循環参照で例外が送出されること() {
+        final Node parent = new Node();
+        final Node child = new Node();
+        parent.setChildren(new ArrayList<>(List.of(child)));
+        child.setParent(parent);
+        try {
+            BeanUtil.deepClone(parent);
+            fail();
+        } catch (BeansException e) {
+            assertThat(e.getMessage(), containsString(Node.class.getName()));
+        }
+
+        final Node self = new Node();
+        self.setParent(self);
+        try {
+            BeanUtil.deepClone(self, false);
+            fail();
+        } catch (BeansException e) {
+            assertThat(e.getMessage(), containsString(Node.class.getName()));
+        }
+    }
+
+    @Test
+    public void レコード自身を経由する循環参照は例外が送出されること() {
+        final List<Object> list = new ArrayList<>();
+        final Holder holder = new Holder(list);
+        list.add(holder);
+        try {
+            BeanUtil.deepClone(holder, true);
+            fail();
+        } catch (BeansException e) {
+            assertThat(e.getMessage(), containsString(Holder.class.getName()));
+        }
+    }
+
+    @Test
+    public void nullや不変な値はそのまま返されること() {
+        assertThat(BeanUtil.deepClone(null), is(nullValue()));
+        final String value = "value";
+        assertThat(BeanUtil.deepClone(value), is(sameInstance(value)));
+        final Point point = new Point(1, 2);
+        assertThat(BeanUtil.deepClone(point), is(sameInstance(point)));
+    }
+
+    @Test
+    public void コレクションとマップは複製元と同じクラスに複製されること() {
+        final Containers src = new Containers();
+        src.setVector(new Vector<>(List.of(new Item("A", 1))));
+        src.setCopyOnWriteList(new CopyOnWriteArrayList<>(List.of(new Item("B", 2))));
+        final EnumMap<Status, Item> enumMap = new EnumMap<>(Status.class);
+        enumMap.put(Status.OPEN, new Item("C", 3));
+        src.setEnumMap(enumMap);
+        src.setConcurrentMap(new ConcurrentHashMap<>(Map.of("d", new Item("D", 4))));
+        src.setDeque(new ArrayDeque<>(List.of(new Item("E", 5))));
+        final PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.reverseOrder());
+        queue.addAll(List.of(1, 3, 2));
+        src.setQueue(queue);
+        src.setUnmodifiableList(Collections.unmodifiableList(new ArrayList<>(List.of(new Item("F", 6)))));
+
+        final Containers actual = BeanUtil.deepClone(src);
+
+        assertThat(actual.getVector(), is(instanceOf(Vector.class)));
+        assertThat(actual.getVector().get(0).getName(), is("A"));
+        assertThat(actual.getVector().get(0), is(not(sameInstance(src.getVector().get(0)))));
+        assertThat(actual.getCopyOnWriteList(), is(instanceOf(CopyOnWriteArrayList.class)));
+        assertThat(actual.getCopyOnWriteList().get(0).getName(), is("B"));
+        assertThat(actual.getCopyOnWriteList().get(0), is(not(sameInstance(src.getCopyOnWriteList().get(0)))));
+        assertThat(actual.getEnumMap(), is(instanceOf(EnumMap.class)));
+        assertThat(actual.getEnumMap().get(Status.OPEN).getName(), is("C"));
+        assertThat(actual.getEnumMap().get(Status.OPEN), is(not(sameInstance(enumMap.get(Status.OPEN)))));
+        assertThat(actual.getConcurrentMap(), is(instanceOf(ConcurrentHashMap.class)));
+        assertThat(actual.getConcurrentMap().get("d").getName(), is("D"));
+        assertThat(actual.getConcurrentMap().get("d"), is(not(sameInstance(src.getConcurrentMap().get("d")))));
+        assertThat(actual.getDeque(), is(not(sameInstance(src.getDeque()))));
+        assertThat(actual.getDeque().peek().getName(), is("E"));
+        assertThat(actual.getDeque().peek(), is(not(sameInstance(src.getDeque().peek()))));
+        assertThat(actual.getQueue(), is(not(sameInstance(queue))));
+        assertThat(actual.getQueue().comparator(), is(sameInstance(queue.comparator())));
+        assertThat(actual.getQueue().poll(), is(3));
+        assertThat(actual.getUnmodifiableList().get(0).getName(), is("F"));
+        assertThat(actual.getUnmodifiableList().get(0), is(not(sameInstance(src.getUnmodifiableList().get(0)))));
+    }
+
+    @Test
+    public void 可変なJDKのクラスは共有されずに複製されること() {
+        final Containers src = new Containers();
+        src.setBuilder(new StringBuilder("abc"));
+        final BitSet bits = new BitSet();
+        bits.set(3);
+        src.setBits(bits);
+
+        final Containers actual = BeanUtil.deepClone(src);
+
+        assertThat(actual.getBuilder(), is(not(sameInstance(src.getBuilder()))));
+        assertThat(actual.getBuilder().toString(), is("abc"));
+        assertThat(actual.getBits(), is(not(sameInstance(bits))));
+        assertThat(actual.getBits(), is(bits));
+    }
+
+    @Test
+    public void 複製できないJDKのクラスの値を持つ場合は例外が送出されること() {
+        final Containers src = new Containers();
+        src.setCounter(new AtomicInteger(1));
+        try {
+            BeanUtil.deepClone(src);
+            fail();
+        } catch (BeansException e) {
+            assertThat(e.getMessage(), containsString(AtomicInteger.class.getName()));
+        }
+    }
+
+    @Test
+    public void プロパティに設定できない値に複製された場合はBeansExceptionが送出されること() {
+        final Mismatched src = new Mismatched();
+        src.setValues(new FixedList("a"));
+        try {
+            BeanUtil.deepClone(src);
+            fail();
+        } catch (BeansException e) {
+            assertThat(e.getMessage(), containsString(Mismatched.class.getName()));
+            assertThat(e.getCause(), is(instanceOf(IllegalArgumentException.class)));
+        }
+    }
+
+    @Test(expected = BeansException.class)
+    public void デフォルトコンストラクタが無いBeanの場合は例外が送出されること() {
+        BeanUtil.deepClone(new NoDefaultConstructor("value"));
+    }
+
+    public enum Status {
+        OPEN,
+        CLOSED
+    }
+
+    public static class Order {
+        private Integer id;
+        private BigDecimal amount;
+        private Status status;
+        private Date orderedAt;
+        private Address address;
+        private List<Item> items;
+        private int[] scores;
+        private String[] tags;
+        private Map<String, Item> attributes;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public Date getOrderedAt() {
+            return orderedAt;
+        }
+
+        public void setOrderedAt(Date orderedAt) {
+            this.orderedAt = orderedAt;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+
+        public int[] getScores() {
+            return scores;
+        }
+
+        public void setScores(int[] scores) {
+            this.scores = scores;
+        }
+
+        public String[] getTags() {
+            return tags;
+        }
+
+        public void setTags(String[] tags) {
+            this.tags = tags;
+        }
+
+        public Map<String, Item> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, Item> attributes) {
+            this.attributes = attributes;
+        }
+    }
+
+    public static class Address {
+        private String city;
+
+        public Address() {
+        }
+
+        public Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+
+    public static class Item {
+        private String name;
+        private int quantity;
+
+        public Item() {
+        }
+
+        public Item(String name, int quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+
+    public static class Node {
+        private Address address;
+        private Node parent;
+        private List<Node> children;
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+
+        public Node getParent() {
+            return parent;
+        }
+
+        public void setParent(Node parent) {
+            this.parent = parent;
+        }
+
+        public List<Node> getChildren() {
+            return children;
+        }
+
+        public void setChildren(List<Node> children) {
+            this.children = children;
+        }
+    }
+
+    public static class Point {
+        private final int x;
+        private final int y;
+
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+    }
+
+    public static class NoDefaultConstructor {
+        private String value;
+
+        public NoDefaultConstructor(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class Containers {
+        private Vector<Item> vector;
+        private CopyOnWriteArrayList<Item> copyOnWriteList;
+        private EnumMap<Status, Item> enumMap;
+        private ConcurrentHashMap<String, Item> concurrentMap;
+        private ArrayDeque<Item> deque;
+        private PriorityQueue<Integer> queue;
+        private List<Item> unmodifiableList;
+        private StringBuilder builder;
+        private BitSet bits;
+        private AtomicInteger counter;
+
+        public Vector<Item> getVector() {
+            return vector;
+        }
+
+        public void setVector(Vector<Item> vector) {
+            this.vector = vector;
+        }
+
+        public CopyOnWriteArrayList<Item> getCopyOnWriteList() {
+            return copyOnWriteList;
+        }
+
+        public void setCopyOnWriteList(CopyOnWriteArrayList<Item> copyOnWriteList) {
+            this.copyOnWriteList = copyOnWriteList;
+        }
+
+        public EnumMap<Status, Item> getEnumMap() {
+            return enumMap;
+        }
+
+        public void setEnumMap(EnumMap<Status, Item> enumMap) {
+            this.enumMap = enumMap;
+        }
+
+        public ConcurrentHashMap<String, Item> getConcurrentMap() {
+            return concurrentMap;
+        }
+
+        public void setConcurrentMap(ConcurrentHashMap<String, Item> concurrentMap) {
+            this.concurrentMap = concurrentMap;
+        }
+
+        public ArrayDeque<Item> getDeque() {
+            return deque;
+        }
+
+        public void setDeque(ArrayDeque<Item> deque) {
+            this.deque = deque;
+        }
+
+        public PriorityQueue<Integer> getQueue() {
+            return queue;
+        }
+
+        public void setQueue(PriorityQueue<Integer> queue) {
+            this.queue = queue;
+        }
+
+        public List<Item> getUnmodifiableList() {
+            return unmodifiableList;
+        }
+
+        public void setUnmodifiableList(List<Item> unmodifiableList) {
+            this.unmodifiableList = unmodifiableList;
+        }
+
+        public StringBuilder getBuilder() {
+            return builder;
+        }
+
+        public void setBuilder(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        public BitSet getBits() {
+            return bits;
+        }
+
+        public void setBits(BitSet bits) {
+            this.bits = bits;
+        }
+
+        public AtomicInteger getCounter() {
+            return counter;
+        }
+
+        public void setCounter(AtomicInteger counter) {
+            this.counter = counter;
+        }
+    }
+
+    public static class Mismatched {
+        private FixedList values;
+
+        public FixedList getValues() {
+            return values;
+        }
+
+        public void setValues(FixedList values) {
+            this.values = values;
+        }
+    }
+
+    public static final class FixedList extends AbstractList<String> {
+        private final String[] values;
+
+        private FixedList(String... values) {
+            this.values = values;
+        }
+
+        @Override
+        public String get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    public record OrderRecord(int id, String status, Address address, List<Item> items, Item[] extras) {
+    }
+
+    public record Holder(List<Object> values) {
+    }
+}
@@ -0,0 +1,247 @@
+package nablarch.core.beans;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import nablarch.test.support.SystemRepositoryResource;
+
+/**
+ * {@link BeanUtil#diff(Object, Object, CopyOptions)}のテスト。
+ */
+public class BeanUtilDiffTest {
+
+    @Rule
+    public SystemRepositoryResource resource = new SystemRepositoryResource(null);
+
+    @Test
+    public void 値が異なるプロパティの差分が返されること() {
+        final Order before = new Order(1, "open", new BigDecimal("100"), new Address("Tokyo", "100-0001"), null, null);
+        final Order after = new Order(1, "closed", new BigDecimal("100"), new Address("Osaka", "100-0001"), null, null);
+
+        final BeanDiff actual = BeanUtil.diff(before, after, CopyOptions.empty());
+
+        assertThat(actual.size(), is(2));
+        assertThat(actual.getPropertyNames(), is(Arrays.asList("address.city", "status")));
+        final int status = actual.getPropertyNames().indexOf("status");
+        assertThat(actual.getOldValue(status), is((Object) "open"));
+        assertThat(actual.getNewValue(status), is((Object) "closed"));
+        assertThat(actual.isChanged("address.city"), is(true));
+        assertThat(actual.isChanged("id"), is(false));
+    }
+
+    @Test
+    public void 値が同じ場合は空の差分が返されること() {
+        final Order before = new Order(1, "open", new BigDecimal("100"), new Address("Tokyo", "100-0001"),
+                Collections.singletonList(new Item("A", 1)), new String[] {"x"});
+        final Order after = new Order(1, "open", new BigDecimal("100"), new Address("Tokyo", "100-0001"),
+                Collections.singletonList(new Item("A", 1)), new String[] {"x"});
+
+        final BeanDiff actual = BeanUtil.diff(before, after, CopyOptions.empty());
+
+        assertThat(actual.isEmpty(), is(true));
+        assertThat(actual.toString(), is("BeanDiff[]"));
+    }
+
+    @Test
+    public void Listと配列の要素が比較されること() {
+        final Order before = new Order(1, null, null, null,
+                Arrays.asList(new Item("A", 1), new Item("B", 2)), new String[] {"x", "y"});
+        final Order after = new Order(1, null, null, null,
+                Arrays.asList(new Item("A", 1), new Item("B", 3)), new String[] {"x", "z"});
+
+        final BeanDiff actual = BeanUtil.diff(before, after, CopyOptions.empty());
+
+        assertThat(actual.getPropertyNames(), is(Arrays.asList("items[1].quantity", "tags[1]")));
+        assertThat(actual.getOldValue(0), is((Object) 2));
+        assertThat(actual.getNewValue(0), is((Object) 3));
+    }
+
+    @Test
+    public void 要素数が異なる場合やnullの場合はプロパティ全体が差分となること() {
+        final List<Item> items = Collections.singletonList(new Item("A", 1));
+        final Address address = new Address("Tokyo", "100-0001");
+        final Order before = new Order(1, null, null, address, items, null);
+        final Order after = new Order(1, null, null, null, Collections.emptyList(), null);
+
+        final BeanDiff actual = BeanUtil.diff(before, after, CopyOptions.empty());
+
+        assertThat(actual.getPropertyNames(), is(Arrays.asList("address", "items")));
+        assertThat(actual.getOldValue(0), is(sameInstance((Object) address)));
+        assertThat(actual.getNewValue(0), is(nullValue()));
+        assertThat(actual.getOldValue(1), is(sameInstance((Object) items)));
+    }
+
+    @Test
+    public void 比較対象のプロパティを絞り込めること() {
+        final Order before = new Order(1, "open", new BigDecimal("100"), new Address("Tokyo", "100-0001"), null, null);
+        final Order after = new Order(2, "closed", new BigDecimal("200"), new Address("Osaka", "100-0002"), null, null);
+
+        assertThat(BeanUtil.diff(before, after, CopyOptions.options().excludes("id", "address.city").build())
+                .getPropertyNames(), is(Arrays.asList("address.zipCode", "amount", "status")));
+        assertThat(BeanUtil.diff(before, after, CopyOptions.options().includes("status", "address", "address.city").build())
+                .getPropertyNames(), is(Arrays.asList("address.city", "status")));
+    }
+
+    @Test
+    public void 異なるクラスやレコードを比較できること() {
+        final ItemRecord record = new ItemRecord("A", 1, "note");
+        final Item bean = new Item("A", 2);
+
+        final BeanDiff actual = BeanUtil.diff(record, bean, CopyOptions.empty());
+
+        assertThat(actual.getPropertyNames(), is(Collections.singletonList("quantity")));
+        assertThat(actual.toString(), is("BeanDiff[quantity: 1 -> 2]"));
+        assertThat(BeanUtil.diff(record, new ItemRecord("A", 1, "other"), CopyOptions.empty()).getPropertyNames(),
+                is(Collections.singletonList("note")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullを比較した場合は例外が送出されること() {
+        BeanUtil.diff(null, new Item("A", 1), CopyOptions.empty());
+    }
+
+    @Test
+    public void 循環参照が存在する場合は例外が送出されること() {
+        final Node before = new Node("a");
+        before.setNext(new Node("b"));
+        before.getNext().setNext(before);
+        final Node after = new Node("a");
+        after.setNext(new Node("b"));
+        after.getNext().setNext(after);
+
+        try {
+            BeanUtil.diff(before, after, CopyOptions.empty());
+            throw new AssertionError("BeansExceptionが送出されること");
+        } catch (BeansException e) {
+            assertThat(e.getMessage(), containsString("Cyclic reference detected. property name: next.next"));
+        }
+    }
+
+    @Test
+    public void 同じインスタンスを複数のプロパティから参照している場合は比較できること() {
+        final Address address = new Address("Tokyo", "100-0001");
+        final Node before = new Node("a");
+        before.setNext(new Node("b"));
+        final Node after = new Node("a");
+        after.setNext(new Node("c"));
+        final Item item = new Item("A", 1);
+
+        assertThat(BeanUtil.diff(new Order(1, null, null, null, Arrays.asList(item, item), null),
+                new Order(1, null, null, null, Arrays.asList(item, new Item("A", 2)), null),
+                CopyOptions.empty()).getPropertyNames(), is(Collections.singletonList("items[1].quantity")));
+        assertThat(BeanUtil.diff(before, after, CopyOptions.empty()).getPropertyNames(),
+                is(Collections.singletonList("next.name")));
+        assertThat(BeanUtil.diff(new Order(1, null, null, address, null, null),
+                new Order(1, null, null, address, null, null), CopyOptions.empty()).isEmpty(), is(true));
+    }
+
+    public static class Order {
+        private final Integer id;
+        private final String status;
+        private final BigDecimal amount;
+        private final Address address;
+        private final List<Item> items;
+        private final String[] tags;
+
+        public Order(Integer id, String status, BigDecimal amount, Address address, List<Item> items, String[] tags) {
+            this.id = id;
+            this.status = status;
+            this.amount = amount;
+            this.address = address;
+            this.items = items;
+            this.tags = tags;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public String[] getTags() {
+            return tags;
+        }
+    }
+
+    public static class Address {
+        private final String city;
+        private final String zipCode;
+
+        public Address(String city, String zipCode) {
+            this.city = city;
+            this.zipCode = zipCode;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public String getZipCode() {
+            return zipCode;
+        }
+    }
+
+    public static class Item {
+        private final String name;
+        private final int quantity;
+
+        public Item(String name, int quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+
+    public record ItemRecord(String name, int quantity, String note) {
+    }
+
+    public static class Node {
+        private final String name;
+        private Node next;
+
+        public Node(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Node getNext() {
+            return next;
+        }
+
+        public void setNext(Node next) {
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package nablarch.core.beans;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import nablarch.test.support.SystemRepositoryResource;
+
+/**
+ * {@link BeanUtil#mapper(Class, Class, CopyOptions)}、{@link BeanUtil#mapMapper(Class, CopyOptions)}、
+ * {@link BeanUtil#toList(int)}のテスト。
+ */
+public class BeanUtilMapperTest {
+
+    @Rule
+    public SystemRepositoryResource resource = new SystemRepositoryResource(null);
+
+    @Test
+    public void BeanからBeanを作成する関数でcreateAndCopyと同じ結果になること() {
+        final CopyOptions copyOptions = CopyOptions.options().excludes("name").build();
+        final Function<Src, Dest> sut = BeanUtil.mapper(Src.class, Dest.class, copyOptions);
+
+        for (Src src : Arrays.asList(new Src("1", "Alice", "2018/02/14"), new SubSrc("2", "Bob", "2018/02/15"), null)) {
+            final Dest expected = BeanUtil.createAndCopy(Dest.class, src, copyOptions);
+            final Dest actual = sut.apply(src);
+            assertThat(actual.getId(), is(expected.getId()));
+            assertThat(actual.getName(), is(nullValue()));
+            assertThat(actual.getDate(), is(expected.getDate()));
+        }
+        assertThat(sut.apply(new Src("1", "Alice", "2018/02/14")).getDate(), is(LocalDate.of(2018, 2, 14)));
+    }
+
+    @Test
+    public void Beanからレコードを作成する関数をStreamで使用できること() {
+        final Function<Src, DestRecord> sut = BeanUtil.mapper(Src.class, DestRecord.class, CopyOptions.empty());
+        final List<Src> srcBeans = Arrays.asList(new Src("1", "Alice", "2018/02/14"), new Src("2", "Bob", null));
+
+        final List<DestRecord> actual = srcBeans.stream().map(sut).collect(BeanUtil.toList(srcBeans.size()));
+
+        assertThat(actual, is(Arrays.asList(
+                new DestRecord(1, "Alice", LocalDate.of(2018, 2, 14)),
+                new DestRecord(2, "Bob", null))));
+    }
+
+    @Test
+    public void MapからBeanとレコードを作成する関数でcreateAndCopyと同じ結果になること() {
+        final Function<Map<String, ?>, Dest> beanMapper = BeanUtil.mapMapper(Dest.class, CopyOptions.empty());
+        final Function<Map<String, ?>, DestRecord> recordMapper = BeanUtil.mapMapper(DestRecord.class,
+                CopyOptions.options().datePattern("yyyy/MM/dd").build());
+        final Map<String, Object> map = new HashMap<>();
+        map.put("id", "1");
+        map.put("name", "Alice");
+        map.put("date", "2018/02/14");
+
+        final Dest bean = beanMapper.apply(map);
+        assertThat(bean.getId(), is(1));
+        assertThat(bean.getName(), is("Alice"));
+        assertThat(bean.getDate(), is(LocalDate.of(2018, 2, 14)));
+        assertThat(beanMapper.apply(null).getId(), is(nullValue()));
+
+        assertThat(recordMapper.apply(map), is(new DestRecord(1, "Alice", LocalDate.of(2018, 2, 14))));
+        assertThat(recordMapper.apply(null), is(new DestRecord(0, null, null)));
+    }
+
+    @Test
+    public void 並列ストリームでも同じ結果になること() {
+        final Function<Src, Dest> sut = BeanUtil.mapper(Src.class, Dest.class, CopyOptions.empty());
+
+        final List<Integer> actual = IntStream.range(0, 10000)
+                .parallel()
+                .mapToObj(i -> new Src(String.valueOf(i), "name" + i, "2018/02/14"))
+                .map(sut)
+                .map(Dest::getId)
+                .collect(Collectors.toList());
+
+        assertThat(actual, is(IntStream.range(0, 10000).boxed().collect(Collectors.toList())));
+    }
+
+    public static class Src {
+        private String id;
+        private String name;
+        private String date;
+
+        public Src(String id, String name, String date) {
+            this.id = id;
+            this.name = name;
+            this.date = date;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDate() {
+            return date;
+        }
+    }
+
+    public static class SubSrc extends Src {
+        public SubSrc(String id, String name, String date) {
+            super(id, name, date);
+        }
+    }
+
+    public static class Dest {
+        private Integer id;
+        private String name;
+        @CopyOption(datePattern = "yyyy/MM/dd")
+        private LocalDate date;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+    }
+
+    public record DestRecord(int id, String name, @CopyOption(datePattern = "yyyy/MM/dd") LocalDate date) {
+    }
+}
@@ -0,0 +1,85 @@
+package nablarch.core.beans;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ベンチマークを実行するためのユーティリティ。
+ * <p>
+ * JMHを使用できない環境でも実行できるように、ウォームアップと計測を単純に繰り返して1操作あたりの時間を出力する。
+ * 本クラスを使用するベンチマークはテストとして実行されないため、{@code main}メソッドから実行すること。
+ * {@code mvn test}で出力されるクラスはカバレッジ計測用にインストルメントされている場合があるため、
+ * 計測時はソースを別途コンパイルすること。
+ * <pre>
+ * {@code
+ *     javac -encoding UTF-8 -d bench -cp <依存ライブラリ> <src/main/javaとsrc/test/java/nablarch/core/beansのベンチマークのソース>
+ *     java -cp bench:src/test/resources:<依存ライブラリ> nablarch.core.beans.ConvertAllBenchmark
+ * }
+ * </pre>
+ *
+ * @author TIS
+ */
+final class Benchmarks {
+
+    /** ウォームアップの回数 */
+    private static final int WARMUP_ITERATIONS = 5;
+
+    /** 計測の回数 */
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    /** 1回の計測の時間 */
+    private static final long ITERATION_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /** 計測結果がJITで除去されないように結果を保持する */
+    static volatile Object sink;
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private Benchmarks() {
+    }
+
+    /**
+     * 操作をウォームアップした後に計測し、1操作あたりの時間(ナノ秒)を出力する。
+     *
+     * @param name ベンチマークの名前
+     * @param operationsPerCall 1回の呼び出しで行う操作の数(1要素あたりの時間を求める場合は要素数)
+     * @param benchmark 計測する処理
+     * @return 1操作あたりの時間(ナノ秒)
+     */
+    static double run(final String name, final int operationsPerCall, final Supplier<?> benchmark) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            measure(operationsPerCall, benchmark);
+        }
+        double best = Double.MAX_VALUE;
+        double total = 0;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            final double nanosPerOperation = measure(operationsPerCall, benchmark);
+            best = Math.min(best, nanosPerOperation);
+            total += nanosPerOperation;
+        }
+        final double average = total / MEASUREMENT_ITERATIONS;
+        System.out.println(String.format(Locale.ROOT, "%-60s %12.2f ns/op (best %.2f)", name, average, best));
+        return average;
+    }
+
+    /**
+     * 一定時間処理を繰り返し、1操作あたりの時間(ナノ秒)を返す。
+     *
+     * @param operationsPerCall 1回の呼び出しで行う操作の数
+     * @param benchmark 計測する処理
+     * @return 1操作あたりの時間(ナノ秒)
+     */
+    private static double measure(final int operationsPerCall, final Supplier<?> benchmark) {
+        long calls = 0;
+        final long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink = benchmark.get();
+            calls++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < ITERATION_NANOS);
+        return (double) elapsed / (calls * operationsPerCall);
+    }
+}
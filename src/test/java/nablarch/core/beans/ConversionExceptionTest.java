@@ -0,0 +1,43 @@
+package nablarch.core.beans;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+
+/**
+ * {@link ConversionException}のテスト
+ */
+public class ConversionExceptionTest {
+
+    @Test
+    public void メッセージが生成されること() {
+        ConversionException sut = new ConversionException(Integer.class, "abc");
+        assertThat(sut.getMessage(), is("Can't convert abc to Integer."));
+        assertThat(sut.toString(), is(ConversionException.class.getName() + ": Can't convert abc to Integer."));
+    }
+
+    @Test
+    public void シリアライズ後もメッセージが保持されること() throws Exception {
+        ConversionException sut = new ConversionException(Integer.class, new Object() {
+            @Override
+            public String toString() {
+                return "not serializable";
+            }
+        });
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(sut);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ConversionException deserialized = (ConversionException) in.readObject();
+            assertThat(deserialized.getMessage(), is("Can't convert not serializable to Integer."));
+        }
+    }
+}
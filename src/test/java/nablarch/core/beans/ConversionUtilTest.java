@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -694,6 +695,47 @@ public class ConversionUtilTest {
         }
     }
 
+    /**
+     * 複数の値をまとめて変換できること。
+     */
+    @Test
+    public void testConvertAll() {
+        SystemRepository.clear();
+
+        Object[] src = {"1", 2L, null, new BigDecimal("3")};
+        Integer[] dest = new Integer[src.length];
+        ConversionUtil.convertAll(Integer.class, src, dest);
+        assertArrayEquals(new Integer[] {1, 2, null, 3}, dest);
+
+        // 拡張コンバータ
+        Object[] lists = {Arrays.asList(1, 2), null};
+        Integer[][] arrayDest = new Integer[lists.length][];
+        ConversionUtil.convertAll(Integer[].class, lists, arrayDest);
+        assertArrayEquals(new Integer[] {1, 2}, arrayDest[0]);
+        assertNull(arrayDest[1]);
+
+        // コンバータが存在しない場合はそのまま格納される
+        Object sb = new StringBuilder("sb");
+        Object[] objects = {sb, null};
+        Object[] objectDest = new Object[objects.length];
+        ConversionUtil.convertAll(Object.class, objects, objectDest);
+        assertTrue(objectDest[0] == sb);
+        assertNull(objectDest[1]);
+    }
+
+    /**
+     * 変換に失敗した場合は1件ずつ変換した場合と同じ例外が送出されること。
+     */
+    @Test
+    public void testConvertAllFailed() {
+        try {
+            ConversionUtil.convertAll(Integer.class, new Object[] {"1", "a"}, new Integer[2]);
+            fail();
+        } catch (ConversionException e) {
+            assertEquals("Can't convert a to Integer.", e.getMessage());
+        }
+    }
+
     /**
      * カスタムコンバータを設定で追加した場合にも正しく動作すること。
      */
@@ -0,0 +1,65 @@
+package nablarch.core.beans;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+
+/**
+ * {@link ConversionUtil#convertAll(Class, Object[], Object[])}による列単位の変換と、
+ * {@link ConversionUtil#convert(Class, Object)}で1件ずつ変換した場合を比較するベンチマーク。
+ * <p>
+ * 実行方法は{@link Benchmarks}を参照。
+ *
+ * @author TIS
+ */
+public final class ConvertAllBenchmark {
+
+    /** 1列の要素数 */
+    private static final int SIZE = 10_000;
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private ConvertAllBenchmark() {
+    }
+
+    /**
+     * ベンチマークを実行する。
+     *
+     * @param args 使用しない
+     */
+    public static void main(final String[] args) {
+        final Object[] integers = new Object[SIZE];
+        final Object[] decimals = new Object[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            integers[i] = String.valueOf(i);
+            decimals[i] = i + ".25";
+        }
+
+        compare(Integer.class, integers);
+        compare(Long.class, integers);
+        compare(BigDecimal.class, decimals);
+        compare(String.class, decimals);
+    }
+
+    /**
+     * 列単位の変換と1件ずつの変換を計測する。
+     *
+     * @param type 変換先の型
+     * @param src 変換元の列
+     * @param <T> 変換先の型
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void compare(final Class<T> type, final Object[] src) {
+        final T[] dest = (T[]) Array.newInstance(type, src.length);
+        Benchmarks.run(type.getSimpleName() + ": convertAll", src.length, () -> {
+            ConversionUtil.convertAll(type, src, dest);
+            return dest;
+        });
+        Benchmarks.run(type.getSimpleName() + ": convert per value", src.length, () -> {
+            for (int i = 0; i < src.length; i++) {
+                dest[i] = ConversionUtil.convert(type, src[i]);
+            }
+            return dest;
+        });
+    }
+}
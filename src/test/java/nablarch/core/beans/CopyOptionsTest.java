@@ -8,10 +8,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -371,6 +375,98 @@ public class CopyOptionsTest {
                 is(sameInstance(provider.mockNumberConverter.mockValue)));
     }
 
+    @Test
+    public void 同じパターンの場合はConverterが共有されること() {
+        CopyOptions first = CopyOptions.options().datePattern("yyyy/MM/dd").numberPattern("#,###").build();
+        CopyOptions second = CopyOptions.options()
+                .datePatternsByName("foo", new ArrayList<>(Collections.singletonList("yyyy/MM/dd")))
+                .build();
+
+        assertThat(second.getNamedConverter("foo", LocalDate.class),
+                is(sameInstance((Object) first.getTypedConverter(LocalDate.class))));
+        assertThat(CopyOptions.options().numberPattern("#,###").build().getTypedConverter(Integer.class),
+                is(sameInstance((Object) first.getTypedConverter(Integer.class))));
+        assertThat(CopyOptions.options().datePattern("yyyy-MM-dd").build().getTypedConverter(LocalDate.class),
+                is(not(sameInstance((Object) first.getTypedConverter(LocalDate.class)))));
+    }
+
+    @Test
+    public void ConvertersProviderが変わった場合はConverterが作り直されること() {
+        CopyOptions before = CopyOptions.options().datePattern("yyyy/MM/dd").build();
+        resource.addComponent("convertersProvider", new CopyOptions.DefaultConvertersProvider());
+        CopyOptions after = CopyOptions.options().datePattern("yyyy/MM/dd").build();
+
+        assertThat(after.getTypedConverter(LocalDate.class),
+                is(not(sameInstance((Object) before.getTypedConverter(LocalDate.class)))));
+    }
+
+    @Test
+    public void キャッシュ可能でないConvertersProviderの場合はパターンを指定するたびにConverterが提供されること() {
+        AtomicInteger count = new AtomicInteger();
+        resource.addComponent("convertersProvider", new CopyOptions.DefaultConvertersProvider() {
+            @Override
+            public Map<Class<?>, Converter<?>> provideDateConverters(List<String> patterns) {
+                count.incrementAndGet();
+                return super.provideDateConverters(patterns);
+            }
+        });
+
+        CopyOptions first = CopyOptions.options().datePattern("yyyy/MM/dd").build();
+        CopyOptions second = CopyOptions.options().datePattern("yyyy/MM/dd").build();
+
+        assertThat(count.get(), is(2));
+        assertThat(second.getTypedConverter(LocalDate.class),
+                is(not(sameInstance((Object) first.getTypedConverter(LocalDate.class)))));
+    }
+
+    @Test
+    public void ConvertersProviderはビルダーごとに最初にパターンを指定した時に1度だけ取得されること() {
+        CopyOptions.Builder builder = CopyOptions.options().datePattern("yyyy/MM/dd");
+        AtomicInteger count = new AtomicInteger();
+        resource.addComponent("convertersProvider", new CopyOptions.DefaultConvertersProvider() {
+            @Override
+            public Map<Class<?>, Converter<?>> provideNumberConverters(List<String> patterns) {
+                count.incrementAndGet();
+                return super.provideNumberConverters(patterns);
+            }
+        });
+
+        builder.numberPattern("#,###").numberPatternByName("foo", "#,###").build();
+        assertThat(count.get(), is(0));
+
+        CopyOptions.options().numberPattern("#,###").numberPatternByName("foo", "#,###").build();
+        assertThat(count.get(), is(2));
+    }
+
+    @Test
+    public void キャッシュされたConverterでも変換時のデフォルトタイムゾーンで日付がパースされること() {
+        CopyOptions before = CopyOptions.options().datePattern("yyyy/MM/dd").build();
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            CopyOptions after = CopyOptions.options().datePattern("yyyy/MM/dd").build();
+
+            assertThat(after.getTypedConverter(Date.class),
+                    is(sameInstance((Object) before.getTypedConverter(Date.class))));
+            assertThat(((Date) after.convertByType(Date.class, "2024/01/01")).getTime(), is(1704067200000L));
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    public void キャッシュするパターンのリストの数が上限に達した場合はキャッシュがクリアされること() {
+        PatternConvertersCache sut = new PatternConvertersCache(new CopyOptions.DefaultConvertersProvider());
+        Map<Class<?>, Converter<?>> first = sut.getNumberConverters(Collections.singletonList("#,##0"));
+        assertThat(sut.getNumberConverters(Collections.singletonList("#,##0")), is(sameInstance(first)));
+
+        for (int i = 0; i < PatternConvertersCache.MAX_CACHED_PATTERNS; i++) {
+            sut.getNumberConverters(Collections.singletonList("#,##0." + "0".repeat(i + 1)));
+        }
+
+        assertThat(sut.getNumberConverters(Collections.singletonList("#,##0")), is(not(sameInstance(first))));
+    }
+
     @Test
     public void アノテーションからCopyOptionsを構築する() {
         CopyOptions copyOptions = CopyOptions.fromAnnotation(AnnotatedBean.class);
@@ -395,6 +491,24 @@ public class CopyOptionsTest {
         assertThat(copyOptions1 == copyOptions2, is(true));
     }
 
+    @Test
+    public void アノテーションが無いクラスの場合は空のCopyOptionsが返される() {
+        assertThat(CopyOptions.fromAnnotation(Object.class), is(sameInstance(CopyOptions.empty())));
+    }
+
+    @Test
+    public void 日付の共有はthisの設定が優先されること() {
+        CopyOptions sharesDates = CopyOptions.options().sharesDates().build();
+        CopyOptions other = CopyOptions.options().excludes("foo").build();
+
+        assertThat(CopyOptions.empty().isSharesDates(), is(false));
+        assertThat(sharesDates.isSharesDates(), is(true));
+        assertThat(sharesDates.merge(other).isSharesDates(), is(true));
+        assertThat(other.merge(sharesDates).isSharesDates(), is(false));
+        assertThat(CopyOptions.empty().merge(sharesDates).isSharesDates(), is(false));
+        assertThat(sharesDates.reduce("foo").isSharesDates(), is(true));
+    }
+
     @Test
     public void Converterの追加は先勝ちとする() {
         MockConverter converter1 = new MockConverter();
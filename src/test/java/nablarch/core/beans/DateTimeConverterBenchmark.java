@@ -0,0 +1,124 @@
+package nablarch.core.beans;
+
+import java.lang.reflect.Array;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.function.IntFunction;
+
+import nablarch.core.beans.converter.DateConverter;
+import nablarch.core.beans.converter.LocalDateConverter;
+import nablarch.core.beans.converter.LocalDateTimeConverter;
+import nablarch.core.beans.converter.OffsetDateTimeConverter;
+import nablarch.core.beans.converter.SqlDateConverter;
+import nablarch.core.beans.converter.SqlTimestampConverter;
+
+/**
+ * 日付・日時の{@link Converter}のベンチマーク。
+ * <p>
+ * 変換元の型ごとに、{@link Converter#convert(Object)}で1件ずつ変換した場合と
+ * {@link Converter#convertAll(Object[], Object[])}で列単位に変換した場合を計測する。
+ * 実行方法は{@link Benchmarks}を参照。
+ *
+ * @author TIS
+ */
+public final class DateTimeConverterBenchmark {
+
+    /** 1列の要素数 */
+    private static final int SIZE = 10_000;
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private DateTimeConverterBenchmark() {
+    }
+
+    /**
+     * ベンチマークを実行する。
+     *
+     * @param args 使用しない
+     */
+    public static void main(final String[] args) {
+        final LocalDateTime base = LocalDateTime.of(2018, 2, 14, 12, 34, 56, 123_456_789);
+
+        final Object[] timestamps = column(i -> Timestamp.valueOf(base.plusSeconds(i)));
+        final Object[] dates = column(i -> new Date(Timestamp.valueOf(base.plusSeconds(i)).getTime()));
+        final Object[] calendars = column(i -> {
+            final Calendar calendar = Calendar.getInstance();
+            calendar.setTime((Date) dates[i]);
+            return calendar;
+        });
+        final Object[] localDateTimes = column(base::plusSeconds);
+        final Object[] dateStrings = column(i -> String.format("%08d", 20180101 + i % 28));
+        final Object[] patternStrings = column(i -> String.format("2018/01/%02d", 1 + i % 28));
+        final Object[] dateTimeStrings = column(i -> Timestamp.valueOf(base.plusSeconds(i)).toString());
+
+        run(Timestamp.class, new SqlTimestampConverter(), "Timestamp", timestamps);
+        run(Timestamp.class, new SqlTimestampConverter(), "Date", dates);
+        run(Timestamp.class, new SqlTimestampConverter(), "Calendar", calendars);
+        run(Timestamp.class, new SqlTimestampConverter(), "LocalDateTime", localDateTimes);
+        run(Timestamp.class, new SqlTimestampConverter(), "String", dateTimeStrings);
+
+        run(Date.class, new DateConverter(), "Timestamp", timestamps);
+        run(Date.class, new DateConverter(), "String(yyyyMMdd)", dateStrings);
+        run(Date.class, new DateConverter(Collections.singletonList("yyyy/MM/dd")), "String(pattern)", patternStrings);
+
+        run(java.sql.Date.class, new SqlDateConverter(), "Date", dates);
+        run(java.sql.Date.class, new SqlDateConverter(), "String(yyyyMMdd)", dateStrings);
+
+        run(LocalDate.class, new LocalDateConverter(), "Date", dates);
+        run(LocalDate.class, new LocalDateConverter(), "String(yyyyMMdd)", dateStrings);
+        run(LocalDate.class, new LocalDateConverter(Collections.singletonList("yyyy/MM/dd")), "String(pattern)",
+                patternStrings);
+
+        run(LocalDateTime.class, new LocalDateTimeConverter(), "Timestamp", timestamps);
+        run(LocalDateTime.class, new LocalDateTimeConverter(), "Date", dates);
+
+        run(OffsetDateTime.class, new OffsetDateTimeConverter(), "Timestamp", timestamps);
+        run(OffsetDateTime.class, new OffsetDateTimeConverter(), "Date", dates);
+    }
+
+    /**
+     * 変換元の列を作成する。
+     *
+     * @param factory 要素のインデックスから要素を作成する関数
+     * @return 変換元の列
+     */
+    private static Object[] column(final IntFunction<Object> factory) {
+        final Object[] column = new Object[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            column[i] = factory.apply(i);
+        }
+        return column;
+    }
+
+    /**
+     * 1件ずつの変換と列単位の変換を計測する。
+     *
+     * @param type 変換先の型
+     * @param converter 計測する{@link Converter}
+     * @param sourceName 変換元の名前
+     * @param src 変換元の列
+     * @param <T> 変換先の型
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void run(final Class<T> type, final Converter<T> converter, final String sourceName,
+            final Object[] src) {
+        final T[] dest = (T[]) Array.newInstance(type, src.length);
+        final String name = converter.getClass().getSimpleName() + ": " + sourceName;
+        Benchmarks.run(name + " convert", src.length, () -> {
+            for (int i = 0; i < src.length; i++) {
+                dest[i] = converter.convert(src[i]);
+            }
+            return dest;
+        });
+        Benchmarks.run(name + " convertAll", src.length, () -> {
+            converter.convertAll(src, dest);
+            return dest;
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package nablarch.core.beans;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 並列コピー({@link BeanUtil#createAndCopyAllFromMapsParallel(Class, List, CopyOptions, java.util.concurrent.Executor)}、
+ * {@link BeanUtil#createAndCopyAllParallel(Class, List, CopyOptions, java.util.concurrent.Executor)})の
+ * 並列度ごとのスケーラビリティを計測するベンチマーク。
+ * <p>
+ * 並列度を1から利用可能なプロセッサ数まで2倍ずつ増やした{@link ForkJoinPool}でコピーし、
+ * 逐次のコピー({@link BeanUtil#createAndCopyAll(Class, Iterable, CopyOptions)})に対する速度比を出力する。
+ * 実行方法は{@link Benchmarks}を参照。
+ *
+ * @author TIS
+ */
+public final class ParallelCopyBenchmark {
+
+    /** コピーする要素数 */
+    private static final int SIZE = 200_000;
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private ParallelCopyBenchmark() {
+    }
+
+    /**
+     * ベンチマークを実行する。
+     *
+     * @param args 使用しない
+     */
+    public static void main(final String[] args) {
+        final List<Map<String, ?>> maps = new ArrayList<>(SIZE);
+        final List<Src> beans = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            final Map<String, Object> map = new HashMap<>();
+            map.put("id", String.valueOf(i));
+            map.put("name", "name" + i);
+            map.put("amount", i + ".5");
+            map.put("date", "20180214");
+            maps.add(map);
+            beans.add(new Src(String.valueOf(i), "name" + i, i + ".5", "20180214"));
+        }
+        final CopyOptions copyOptions = CopyOptions.empty();
+
+        final double mapBaseline = Benchmarks.run("Map -> Bean: sequential", SIZE,
+                () -> BeanUtil.createAndCopyAllFromMaps(Dest.class, maps, copyOptions));
+        final double beanBaseline = Benchmarks.run("Bean -> Bean: sequential", SIZE,
+                () -> BeanUtil.createAndCopyAll(Dest.class, beans, copyOptions));
+
+        final int processors = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; ; parallelism = Math.min(parallelism * 2, processors)) {
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                final double map = Benchmarks.run("Map -> Bean: parallelism " + parallelism, SIZE,
+                        () -> BeanUtil.createAndCopyAllFromMapsParallel(Dest.class, maps, copyOptions, pool));
+                final double bean = Benchmarks.run("Bean -> Bean: parallelism " + parallelism, SIZE,
+                        () -> BeanUtil.createAndCopyAllParallel(Dest.class, beans, copyOptions, pool));
+                System.out.println(String.format(Locale.ROOT, "  speedup: Map -> Bean %.2fx, Bean -> Bean %.2fx",
+                        mapBaseline / map, beanBaseline / bean));
+            } finally {
+                pool.shutdown();
+            }
+            if (parallelism == processors) {
+                break;
+            }
+        }
+    }
+
+    public static class Src {
+        private final String id;
+        private final String name;
+        private final String amount;
+        private final String date;
+
+        public Src(String id, String name, String amount, String date) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+            this.date = date;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getAmount() {
+            return amount;
+        }
+
+        public String getDate() {
+            return date;
+        }
+    }
+
+    public static class Dest {
+        private Integer id;
+        private String name;
+        private BigDecimal amount;
+        private LocalDate date;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package nablarch.core.beans;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import nablarch.test.support.SystemRepositoryResource;
+
+/**
+ * {@link PropertyConverters}のテスト。
+ */
+public class PropertyConvertersTest {
+
+    @Rule
+    public SystemRepositoryResource resource = new SystemRepositoryResource(null);
+
+    @Test
+    public void 名前付きConverter_型に紐づくConverter_グローバルのConverterの順に解決されること() {
+        CopyOptions copyOptions = CopyOptions.options()
+                .converterByName("foo", String.class, value -> "named:" + value)
+                .converter(String.class, value -> "typed:" + value)
+                .build();
+        PropertyConverters sut = copyOptions.getPropertyConverters(TestBean.class);
+
+        assertThat(sut.convert(sut.getIndex("foo"), "1"), is((Object) "named:1"));
+        assertThat(sut.convert(sut.getIndex("bar"), "1"), is((Object) "typed:1"));
+        assertThat(sut.convert(sut.getIndex("baz"), "1"), is((Object) 1));
+        assertThat(sut.convert(sut.getIndex("baz"), null), is(nullValue()));
+    }
+
+    @Test
+    public void Converterが存在しないプロパティは値がそのまま返されること() {
+        PropertyConverters sut = CopyOptions.empty().getPropertyConverters(TestBean.class);
+        int index = sut.getIndex("nested");
+        TestBean nested = new TestBean();
+
+        assertThat(sut.hasConverter(index), is(false));
+        assertThat(sut.convert(index, nested), is(sameInstance((Object) nested)));
+        assertThat(sut.getPropertyType(index), is((Object) TestBean.class));
+    }
+
+    @Test
+    public void プロパティのsetterが取得できること() {
+        PropertyConverters sut = CopyOptions.empty().getPropertyConverters(TestBean.class);
+
+        assertThat(sut.getWriteMethod(sut.getIndex("foo")).getName(), is("setFoo"));
+        assertThat(sut.getWriteMethod(sut.getIndex("readOnly")), is(nullValue()));
+    }
+
+    @Test
+    public void レコードのプロパティが解決されること() {
+        PropertyConverters sut = CopyOptions.empty().getPropertyConverters(TestRecord.class);
+
+        assertThat(sut.size(), is(2));
+        assertThat(sut.getPropertyName(0), is("foo"));
+        assertThat(sut.getPropertyName(1), is("baz"));
+        assertThat(sut.getWriteMethod(1), is(nullValue()));
+        assertThat(sut.convert(1, "2"), is((Object) 2));
+    }
+
+    @Test
+    public void 存在しないプロパティの場合() {
+        PropertyConverters sut = CopyOptions.empty().getPropertyConverters(TestBean.class);
+
+        assertThat(sut.indexOf("unknown"), is(-1));
+        try {
+            sut.getIndex("unknown");
+            fail();
+        } catch (BeansException e) {
+            assertThat(e.getCause().getMessage(), is("Unknown property: unknown"));
+        }
+    }
+
+    @Test
+    public void 解決結果がキャッシュされること() {
+        CopyOptions copyOptions = CopyOptions.options().build();
+
+        assertThat(copyOptions.getPropertyConverters(TestBean.class),
+                is(sameInstance(copyOptions.getPropertyConverters(TestBean.class))));
+    }
+
+    @Test
+    public void マージや絞り込みで生成されたCopyOptionsでもConverterの設定が同じであれば解決結果が共有されること() {
+        CopyOptions base = CopyOptions.options().numberPattern("#,###").datePattern("yyyyMMdd").excludes("foo").build();
+        CopyOptions annotated = CopyOptions.options().datePatternByName("bar", "yyyy/MM/dd").build();
+        PropertyConverters expected = base.merge(annotated).getPropertyConverters(TestBean.class);
+
+        assertThat(base.merge(annotated).getPropertyConverters(TestBean.class), is(sameInstance(expected)));
+        assertThat(CopyOptions.options().numberPattern("#,###").datePattern("yyyyMMdd").build()
+                        .merge(annotated).getPropertyConverters(TestBean.class),
+                is(sameInstance(expected)));
+        assertThat(base.merge(annotated).reduce("nested").getPropertyConverters(TestBean.class),
+                is(sameInstance(expected)));
+        assertThat(base.merge(annotated).cloneForNestedObjectInCreateMapInner().getPropertyConverters(TestBean.class),
+                is(sameInstance(expected)));
+        assertThat(base.getPropertyConverters(TestBean.class), is(not(sameInstance(expected))));
+    }
+
+    @Test
+    public void 個別に設定されたConverterを持つCopyOptionsは解決結果をインスタンスごとに保持すること() {
+        Converter<String> converter = value -> "typed:" + value;
+        CopyOptions annotated = CopyOptions.options().datePatternByName("bar", "yyyy/MM/dd").build();
+        CopyOptions copyOptions = CopyOptions.options().converter(String.class, converter).build().merge(annotated);
+        PropertyConverters expected = copyOptions.getPropertyConverters(TestBean.class);
+
+        assertThat(copyOptions.getPropertyConverters(TestBean.class), is(sameInstance(expected)));
+        assertThat(copyOptions.reduce("nested").getPropertyConverters(TestBean.class), is(sameInstance(expected)));
+        assertThat(copyOptions.cloneForNestedObjectInCreateMapInner().getPropertyConverters(TestBean.class),
+                is(sameInstance(expected)));
+        assertThat(CopyOptions.options().converter(String.class, converter).build()
+                        .merge(annotated).getPropertyConverters(TestBean.class),
+                is(not(sameInstance(expected))));
+    }
+
+    @Test
+    public void キャッシュをクリアした場合は解決し直されること() {
+        CopyOptions shared = CopyOptions.options().datePattern("yyyyMMdd").build();
+        CopyOptions local = CopyOptions.options().converter(String.class, value -> "typed:" + value).build();
+        PropertyConverters sharedBefore = shared.getPropertyConverters(TestBean.class);
+        PropertyConverters localBefore = local.getPropertyConverters(TestBean.class);
+
+        BeanUtil.clearCache();
+
+        assertThat(shared.getPropertyConverters(TestBean.class), is(not(sameInstance(sharedBefore))));
+        assertThat(local.getPropertyConverters(TestBean.class), is(not(sameInstance(localBefore))));
+    }
+
+    @Test
+    public void ConversionManagerが変わった場合は解決し直されること() {
+        CopyOptions copyOptions = CopyOptions.options().build();
+        PropertyConverters before = copyOptions.getPropertyConverters(TestBean.class);
+        assertThat(before.convert(before.getIndex("baz"), "1"), is((Object) 1));
+
+        resource.addComponent("conversionManager", new ConversionManager() {
+            @Override
+            public Map<Class<?>, Converter<?>> getConverters() {
+                return Collections.singletonMap(Integer.class, value -> 100);
+            }
+
+            @Override
+            public List<ExtensionConverter<?>> getExtensionConvertor() {
+                return Collections.emptyList();
+            }
+        });
+        PropertyConverters after = copyOptions.getPropertyConverters(TestBean.class);
+
+        assertThat(after, is(not(sameInstance(before))));
+        assertThat(after.convert(after.getIndex("baz"), "1"), is((Object) 100));
+        assertThat(after.hasConverter(after.getIndex("bar")), is(false));
+    }
+
+    @Test
+    public void 型パラメータに指定された要素の型に変換されること() {
+        PropertyConverters sut = CopyOptions.empty().getPropertyConverters(CollectionBean.class);
+
+        assertThat(sut.convert(sut.getIndex("integers"), new String[] {"1", "2"}),
+                is((Object) Arrays.asList(1, 2)));
+        assertThat(sut.convert(sut.getIndex("dates"), Arrays.asList("20180214")),
+                is((Object) Collections.singleton(LocalDate.of(2018, 2, 14))));
+        assertThat(sut.convert(sut.getIndex("beans"), new Object[] {"a"}),
+                is((Object) Arrays.asList("a")));
+    }
+
+    @Test
+    public void 要素の型はCopyOptionsで指定されたConverterで変換されること() {
+        PropertyConverters sut = CopyOptions.options()
+                .datePattern("yyyy/MM/dd")
+                .converter(Integer.class, value -> Integer.valueOf(value.toString().trim()) * 10)
+                .build()
+                .getPropertyConverters(CollectionBean.class);
+
+        assertThat(sut.convert(sut.getIndex("integers"), new String[] {" 1", "2 "}),
+                is((Object) Arrays.asList(10, 20)));
+        assertThat(sut.convert(sut.getIndex("dates"), Arrays.asList("2018/02/14")),
+                is((Object) Collections.singleton(LocalDate.of(2018, 2, 14))));
+    }
+
+    @Test
+    public void 不変な型で値の型が同じ場合はそのまま返されること() {
+        PropertyConverters sut = CopyOptions.empty().getPropertyConverters(TestBean.class);
+        String foo = new String("foo");
+        Integer baz = 1000;
+
+        assertThat(sut.convert(sut.getIndex("foo"), foo), is(sameInstance((Object) foo)));
+        assertThat(sut.convert(sut.getIndex("baz"), baz), is(sameInstance((Object) baz)));
+        assertThat(sut.convert(sut.getIndex("baz"), 1000L), is((Object) 1000));
+    }
+
+    @Test
+    public void 変更可能な日付型はデフォルトでは複製されること() {
+        PropertyConverters sut = CopyOptions.empty().getPropertyConverters(DateBean.class);
+        Date date = new Date();
+        Timestamp timestamp = new Timestamp(date.getTime());
+
+        assertThat(sut.convert(sut.getIndex("date"), date), is(not(sameInstance((Object) date))));
+        assertThat(sut.convert(sut.getIndex("timestamp"), timestamp), is(not(sameInstance((Object) timestamp))));
+    }
+
+    @Test
+    public void 値を共有する設定の場合は変更可能な日付型も複製されないこと() {
+        PropertyConverters sut = CopyOptions.options().sharesDates().build().getPropertyConverters(DateBean.class);
+        Date date = new Date();
+        Timestamp timestamp = new Timestamp(date.getTime());
+
+        assertThat(sut.convert(sut.getIndex("date"), date), is(sameInstance((Object) date)));
+        assertThat(sut.convert(sut.getIndex("timestamp"), timestamp), is(sameInstance((Object) timestamp)));
+        // 型が異なる場合は変換される
+        Object converted = sut.convert(sut.getIndex("date"), timestamp);
+        assertThat(converted.getClass() == Date.class, is(true));
+    }
+
+    @Test
+    public void 組み込み以外のConverterの場合は値の型が同じでも変換されること() {
+        resource.addComponent("conversionManager", new ConversionManager() {
+            @Override
+            public Map<Class<?>, Converter<?>> getConverters() {
+                return Collections.singletonMap(String.class, value -> value.toString().trim());
+            }
+
+            @Override
+            public List<ExtensionConverter<?>> getExtensionConvertor() {
+                return Collections.emptyList();
+            }
+        });
+        PropertyConverters sut = CopyOptions.empty().getPropertyConverters(TestBean.class);
+
+        assertThat(sut.convert(sut.getIndex("foo"), " foo "), is((Object) "foo"));
+    }
+
+    public static class DateBean {
+        private Date date;
+        private Timestamp timestamp;
+
+        public Date getDate() {
+            return date;
+        }
+
+        public void setDate(Date date) {
+            this.date = date;
+        }
+
+        public Timestamp getTimestamp() {
+            return timestamp;
+        }
+
+        public void setTimestamp(Timestamp timestamp) {
+            this.timestamp = timestamp;
+        }
+    }
+
+    public static class CollectionBean {
+        private List<Integer> integers;
+        private Set<LocalDate> dates;
+        private List<TestBean> beans;
+
+        public List<Integer> getIntegers() {
+            return integers;
+        }
+
+        public void setIntegers(List<Integer> integers) {
+            this.integers = integers;
+        }
+
+        public Set<LocalDate> getDates() {
+            return dates;
+        }
+
+        public void setDates(Set<LocalDate> dates) {
+            this.dates = dates;
+        }
+
+        public List<TestBean> getBeans() {
+            return beans;
+        }
+
+        public void setBeans(List<TestBean> beans) {
+            this.beans = beans;
+        }
+    }
+
+    public static class TestBean {
+        private String foo;
+        private String bar;
+        private Integer baz;
+        private TestBean nested;
+
+        public String getFoo() {
+            return foo;
+        }
+
+        public void setFoo(String foo) {
+            this.foo = foo;
+        }
+
+        public String getBar() {
+            return bar;
+        }
+
+        public void setBar(String bar) {
+            this.bar = bar;
+        }
+
+        public Integer getBaz() {
+            return baz;
+        }
+
+        public void setBaz(Integer baz) {
+            this.baz = baz;
+        }
+
+        public TestBean getNested() {
+            return nested;
+        }
+
+        public void setNested(TestBean nested) {
+            this.nested = nested;
+        }
+
+        public String getReadOnly() {
+            return "readOnly";
+        }
+    }
+
+    public record TestRecord(String foo, Integer baz) {
+    }
+}
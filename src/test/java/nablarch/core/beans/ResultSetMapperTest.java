@@ -0,0 +1,288 @@
+package nablarch.core.beans;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import nablarch.test.support.SystemRepositoryResource;
+
+/**
+ * {@link ResultSetMapper}のテスト。
+ */
+public class ResultSetMapperTest {
+
+    @Rule
+    public SystemRepositoryResource resource = new SystemRepositoryResource(null);
+
+    @Test
+    public void ResultSetからBeanのリストを作成できること() {
+        final StubResultSet stub = new StubResultSet(
+                new String[] {"USER_ID", "name", "Amount", "created_at", "BIRTH_DATE", "UNKNOWN"},
+                new int[] {Types.INTEGER, Types.VARCHAR, Types.DECIMAL, Types.TIMESTAMP, Types.DATE, Types.VARCHAR},
+                new Object[][] {
+                        {1, "Alice", new BigDecimal("100.5"), Timestamp.valueOf("2018-02-14 12:34:56.789"),
+                                java.sql.Date.valueOf("1990-01-02"), "x"},
+                        {null, null, null, null, null, null}
+                });
+
+        final List<User> actual = ResultSetMapper.of(User.class, CopyOptions.empty()).mapAll(stub.resultSet());
+
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getUserId(), is(1L));
+        assertThat(actual.get(0).getName(), is("Alice"));
+        assertThat(actual.get(0).getAmount(), is(new BigDecimal("100.5")));
+        assertThat(actual.get(0).getCreatedAt(), is(LocalDateTime.of(2018, 2, 14, 12, 34, 56, 789_000_000)));
+        assertThat(actual.get(0).getBirthDate(), is(LocalDate.of(1990, 1, 2)));
+        assertThat(actual.get(1).getUserId(), is(nullValue()));
+        assertThat(actual.get(1).getName(), is(nullValue()));
+        assertThat(actual.get(1).getCreatedAt(), is(nullValue()));
+        // 型に応じたメソッドで読み取ること
+        assertThat(stub.calls, hasItems("getLong", "getTimestamp", "getDate", "getObject"));
+        assertThat(stub.calls, not(hasItem("getString")));
+    }
+
+    @Test
+    public void ResultSetからレコードのリストを作成できること() {
+        final StubResultSet stub = new StubResultSet(
+                new String[] {"ID", "NAME", "CREATED_AT"},
+                new int[] {Types.INTEGER, Types.VARCHAR, Types.TIMESTAMP},
+                new Object[][] {
+                        {1, "Alice", Timestamp.valueOf("2018-02-14 12:34:56")},
+                        {null, "Bob", null}
+                });
+
+        final List<UserRecord> actual = ResultSetMapper.of(UserRecord.class, CopyOptions.empty()).mapAll(stub.resultSet());
+
+        assertThat(actual, is(Arrays.asList(
+                new UserRecord(1, "Alice", Timestamp.valueOf("2018-02-14 12:34:56"), 0),
+                new UserRecord(0, "Bob", null, 0))));
+        assertThat(stub.calls, hasItems("getInt", "getTimestamp"));
+    }
+
+    @Test
+    public void コピーの設定が適用されること() {
+        final StubResultSet stub = new StubResultSet(
+                new String[] {"ID", "NAME", "BIRTH_DATE"},
+                new int[] {Types.INTEGER, Types.VARCHAR, Types.VARCHAR},
+                new Object[][] {{1, "Alice", "1990/01/02"}});
+
+        final List<User> actual = ResultSetMapper.of(User.class,
+                CopyOptions.options().excludes("name").datePattern("yyyy/MM/dd").build()).mapAll(stub.resultSet());
+
+        assertThat(actual.get(0).getName(), is(nullValue()));
+        assertThat(actual.get(0).getBirthDate(), is(LocalDate.of(1990, 1, 2)));
+    }
+
+    @Test
+    public void nullを除外する設定の場合は値がnullの列でフィールドの初期値が上書きされないこと() {
+        final StubResultSet stub = new StubResultSet(
+                new String[] {"NAME", "COUNT"},
+                new int[] {Types.VARCHAR, Types.INTEGER},
+                new Object[][] {{null, null}, {"Alice", 1}});
+
+        final List<DefaultValueBean> actual = ResultSetMapper.of(DefaultValueBean.class,
+                CopyOptions.options().excludesNull().build()).mapAll(stub.resultSet());
+
+        assertThat(actual.get(0).getName(), is("default"));
+        assertThat(actual.get(0).getCount(), is(10));
+        assertThat(actual.get(1).getName(), is("Alice"));
+        assertThat(actual.get(1).getCount(), is(1));
+
+        stub.reset();
+        final List<DefaultValueBean> overwritten = ResultSetMapper.of(DefaultValueBean.class, CopyOptions.empty())
+                .mapAll(stub.resultSet());
+        assertThat(overwritten.get(0).getName(), is(nullValue()));
+        assertThat(overwritten.get(0).getCount(), is(nullValue()));
+    }
+
+    @Test
+    public void 変換に失敗したプロパティには値が設定されないこと() {
+        final StubResultSet stub = new StubResultSet(
+                new String[] {"ID", "NAME"},
+                new int[] {Types.VARCHAR, Types.VARCHAR},
+                new Object[][] {{"invalid", "Alice"}});
+
+        final List<UserRecord> actual = ResultSetMapper.of(UserRecord.class, CopyOptions.empty()).mapAll(stub.resultSet());
+
+        assertThat(actual.get(0), is(new UserRecord(0, "Alice", null, 0)));
+    }
+
+    @Test
+    public void ResultSetの読み取りに失敗した場合はBeansExceptionが送出されること() {
+        final ResultSet resultSet = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+                    throw new SQLException("error");
+                });
+
+        try {
+            ResultSetMapper.of(User.class, CopyOptions.empty()).mapAll(resultSet);
+        } catch (BeansException e) {
+            assertThat(e.getCause(), is(instanceOf(SQLException.class)));
+            return;
+        }
+        throw new AssertionError("BeansExceptionが送出されること");
+    }
+
+    @Test
+    public void 名前の正規化() {
+        assertThat(ResultSetMapper.normalize("USER_ID"), is("userid"));
+        assertThat(ResultSetMapper.normalize("userId"), is("userid"));
+    }
+
+    /**
+     * 列の定義と値を保持する{@link ResultSet}のスタブ。
+     */
+    private static final class StubResultSet {
+
+        private final String[] labels;
+        private final int[] types;
+        private final Object[][] rows;
+        private final List<String> calls = new ArrayList<>();
+        private int row = -1;
+        private boolean wasNull;
+
+        StubResultSet(String[] labels, int[] types, Object[][] rows) {
+            this.labels = labels;
+            this.types = types;
+            this.rows = rows;
+        }
+
+        ResultSet resultSet() {
+            final ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {ResultSetMetaData.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getColumnCount":
+                                return labels.length;
+                            case "getColumnLabel":
+                                return labels[(Integer) args[0] - 1];
+                            case "getColumnType":
+                                return types[(Integer) args[0] - 1];
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+                        calls.add(method.getName());
+                        switch (method.getName()) {
+                            case "getMetaData":
+                                return metaData;
+                            case "next":
+                                return ++row < rows.length;
+                            case "wasNull":
+                                return wasNull;
+                            case "getInt":
+                                return ((Number) value(args)).intValue();
+                            case "getLong":
+                                return ((Number) value(args)).longValue();
+                            case "getTimestamp":
+                            case "getDate":
+                            case "getObject":
+                                final Object value = rows[row][(Integer) args[0] - 1];
+                                wasNull = value == null;
+                                return value;
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        void reset() {
+            row = -1;
+            calls.clear();
+        }
+
+        private Object value(Object[] args) {
+            final Object value = rows[row][(Integer) args[0] - 1];
+            wasNull = value == null;
+            return value != null ? value : 0;
+        }
+    }
+
+    public static class User {
+        private Long userId;
+        private String name;
+        private BigDecimal amount;
+        private LocalDateTime createdAt;
+        private LocalDate birthDate;
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public LocalDate getBirthDate() {
+            return birthDate;
+        }
+
+        public void setBirthDate(LocalDate birthDate) {
+            this.birthDate = birthDate;
+        }
+    }
+
+    public static class DefaultValueBean {
+        private String name = "default";
+        private Integer count = 10;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+    }
+
+    public record UserRecord(int id, String name, Timestamp createdAt, long version) {
+    }
+}
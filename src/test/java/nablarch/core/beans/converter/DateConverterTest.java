@@ -4,10 +4,17 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import nablarch.core.util.DateUtil;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -67,6 +74,55 @@ public class DateConverterTest {
         sut.convert("2018-02-14");
     }
 
+    @Test
+    public void カスタムパターンは寛容にパースされること() {
+        DateConverter sut = new DateConverter(Collections.singletonList("yyyy/MM/dd"));
+        assertThat(sut.convert("2018/02/30"), is(date("2018-03-02 00:00:00")));
+        assertThat(sut.convert("2018/02/14 trailing"), is(date("2018-02-14 00:00:00")));
+    }
+
+    @Test
+    public void 複数スレッドから同時に変換できること() throws Exception {
+        final DateConverter sut = new DateConverter(Arrays.asList("yyyy/MM/dd", "yyyy-MM-dd"));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final int day = i + 1;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        String value = String.format("2018-02-%02d", day);
+                        if (!sut.convert(value).equals(date(String.format("2018-02-%02d 00:00:00", day)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(), is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void 変換時のデフォルトタイムゾーンでパースされること() {
+        final DateConverter defaultPattern = new DateConverter();
+        final DateConverter customPattern = new DateConverter(Collections.singletonList("yyyy/MM/dd"));
+        final TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            assertThat(defaultPattern.convert("20240101").getTime(), is(1704067200000L));
+            assertThat(customPattern.convert("2024/01/01").getTime(), is(1704067200000L));
+            assertThat(DateUtil.getDate("20240101").getTime(), is(1704067200000L));
+        } finally {
+            TimeZone.setDefault(original);
+        }
+        assertThat(defaultPattern.convert("20240101"), is(date("2024-01-01 00:00:00")));
+    }
+
     private static Date date(String sqlTimestampPattern) {
         return new Date(Timestamp.valueOf(sqlTimestampPattern).getTime());
     }
@@ -0,0 +1,77 @@
+package nablarch.core.beans.converter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Test;
+
+import nablarch.core.ThreadContext;
+import nablarch.core.util.DateUtil;
+
+/**
+ * {@link DatePatternFormatter}のテスト。
+ */
+public class DatePatternFormatterTest {
+
+    private static final String[] PATTERNS = {
+            "yyyy/MM/dd", "yyyyMMddHHmmssSSS", "yy-M-d H:m:s", "y", "yyyyy", "'at' HH'o''clock'",
+            "yyyy年MM月dd日", "yyyy/MM/dd E", "yyyy MMM dd", "yyyy/MM/dd a hh:mm", "yyyy-MM-dd HH:mm:ss.S",
+            "yyyy-MM-dd HH:mm:ss Z", "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "G yyyy/MM/dd", "[yyyy]"
+    };
+
+    private static final Date[] DATES = {
+            Timestamp.valueOf("2018-02-19 13:04:05.007"),
+            new Date(Timestamp.valueOf("1999-12-31 23:59:59.999").getTime()),
+            new java.sql.Date(Timestamp.valueOf("2018-02-19 00:00:00").getTime()),
+            new Date(Timestamp.valueOf("1582-10-04 12:00:00").getTime()),
+            new Date(Timestamp.valueOf("1899-12-31 12:00:00").getTime()),
+            new Date(Timestamp.valueOf("9999-12-31 23:59:59").getTime()),
+            new Date(Long.MIN_VALUE / 2)
+    };
+
+    @After
+    public void tearDown() {
+        ThreadContext.clear();
+    }
+
+    @Test
+    public void DateUtilと同じ結果になること() {
+        assertSameAsDateUtil();
+    }
+
+    @Test
+    public void 言語が設定されている場合もDateUtilと同じ結果になること() {
+        for (Locale locale : new Locale[] {Locale.ENGLISH, Locale.JAPAN, new Locale("ja", "JP", "JP"),
+                new Locale("th", "TH", "TH"), Locale.forLanguageTag("ar-SA-u-nu-arab")}) {
+            ThreadContext.setLanguage(locale);
+            assertSameAsDateUtil();
+        }
+    }
+
+    @Test
+    public void 数値のみのパターンかどうかの判定() {
+        assertThat(DatePatternFormatter.isNumericPattern("yyyy/MM/dd HH:mm:ss.SSS"), is(true));
+        assertThat(DatePatternFormatter.isNumericPattern("yyyy'年'MM'月'dd'日'"), is(true));
+        assertThat(DatePatternFormatter.isNumericPattern("'EEE' yyyy"), is(true));
+        assertThat(DatePatternFormatter.isNumericPattern("yyyy/MMM/dd"), is(false));
+        assertThat(DatePatternFormatter.isNumericPattern("yyyy/MM/dd EEE"), is(false));
+        assertThat(DatePatternFormatter.isNumericPattern("HH:mm:ss.SS"), is(false));
+        assertThat(DatePatternFormatter.isNumericPattern("hh:mm"), is(false));
+        assertThat(DatePatternFormatter.isNumericPattern("yyyy[MM]"), is(false));
+    }
+
+    private static void assertSameAsDateUtil() {
+        for (String pattern : PATTERNS) {
+            final DatePatternFormatter sut = new DatePatternFormatter(pattern);
+            for (Date date : DATES) {
+                assertThat(pattern + " " + date.getTime() + " " + ThreadContext.getLanguage(),
+                        sut.format(date), is(DateUtil.formatDate(date, pattern)));
+            }
+        }
+    }
+}
@@ -13,12 +13,15 @@ import java.time.Month;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.TimeZone;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * {@link DateTimeConverterUtil}のテスト。
@@ -49,6 +52,64 @@ public class DateTimeConverterUtilTest {
         assertThat(DateTimeConverterUtil.getLocalDate("2017年07月26日"), is(LocalDate.of(2017, Month.JULY, 26)));
     }
 
+    @Test
+    public void リポジトリを再読み込みした場合は次の変換から反映されること() {
+        final DateTimeConverterUtil.Settings settings = DateTimeConverterUtil.getSettings();
+        assertThat(DateTimeConverterUtil.getSettings() == settings, is(true));
+        assertThat(DateTimeConverterUtil.getLocalDate("20170726"), is(LocalDate.of(2017, Month.JULY, 26)));
+
+        SystemRepository.load(() -> Collections.singletonMap("dateTimeConfiguration", new BasicDateTimeConverterConfiguration() {
+            @Override
+            public DateTimeFormatter getDateFormatter() {
+                return DateTimeFormatter.ofPattern("yyyy年MM月dd日");
+            }
+        }));
+        final DateTimeConverterUtil.Settings reloaded = DateTimeConverterUtil.getSettings();
+        assertThat(reloaded == settings, is(false));
+        assertThat(DateTimeConverterUtil.getSettings() == reloaded, is(true));
+        assertThat(DateTimeConverterUtil.getLocalDate("2017年07月26日"), is(LocalDate.of(2017, Month.JULY, 26)));
+    }
+
+    @Test
+    public void デフォルトタイムゾーンを変更した場合は次の変換から反映されること() {
+        final TimeZone original = TimeZone.getDefault();
+        try {
+            final Date date = new Date(Timestamp.valueOf("2017-01-02 03:04:05").getTime());
+            assertThat(DateTimeConverterUtil.getLocalDateTime(date), is(LocalDateTime.of(2017, 1, 2, 3, 4, 5)));
+
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            assertThat(DateTimeConverterUtil.getLocalDateTime(date), is(LocalDateTime.of(2017, 1, 1, 18, 4, 5)));
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    public void 標準のフォーマッタの場合もフォーマッタと同じ例外が送出されること() {
+        assertParseError(() -> DateTimeConverterUtil.getLocalDate("20190229"),
+                () -> LocalDate.parse("20190229", DateTimeFormatter.BASIC_ISO_DATE));
+        assertParseError(() -> DateTimeConverterUtil.getLocalDateTime("2019-02-29T00:00:00Z"),
+                () -> DateTimeFormatter.ISO_INSTANT.parse("2019-02-29T00:00:00Z"));
+        assertParseError(() -> DateTimeConverterUtil.getOffsetDateTime("2019-02-28T24:00+09:00"),
+                () -> OffsetDateTime.parse("2019-02-28T24:00+09:00", DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+    }
+
+    private static void assertParseError(final Runnable actual, final Runnable expected) {
+        final String expectedMessage;
+        try {
+            expected.run();
+            throw new AssertionError("expected DateTimeParseException");
+        } catch (DateTimeParseException e) {
+            expectedMessage = e.getMessage();
+        }
+        try {
+            actual.run();
+            fail();
+        } catch (DateTimeParseException e) {
+            assertThat(e.getMessage(), is(expectedMessage));
+        }
+    }
+
     @Test
     public void getLocalDateFromUtilDate() {
         final Date date = DateUtil.getDate("20170401");
@@ -0,0 +1,60 @@
+package nablarch.core.beans.converter;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class DateTimePatternParserTest {
+
+    private final List<DateTimeFormatter> formatters = Arrays.asList(
+            DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+            DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+    @Test
+    public void 書式が一致する場合() {
+        assertThat(DateTimePatternParser.matches(formatters.get(0), "2018/02/14"), is(true));
+    }
+
+    @Test
+    public void 書式が一致しない場合() {
+        assertThat(DateTimePatternParser.matches(formatters.get(0), "2018-02-14"), is(false));
+        assertThat(DateTimePatternParser.matches(formatters.get(0), "2018/02/14 12:00"), is(false));
+        assertThat(DateTimePatternParser.matches(formatters.get(0), ""), is(false));
+    }
+
+    @Test
+    public void 先頭以外のパターンでパースできること() {
+        assertThat(DateTimePatternParser.parse(formatters, "2018-02-14", LocalDate::from),
+                is(LocalDate.of(2018, 2, 14)));
+        assertThat(DateTimePatternParser.parse(formatters, "20180214", LocalDate::from),
+                is(LocalDate.of(2018, 2, 14)));
+    }
+
+    @Test
+    public void 書式は一致するが値が解決できない場合は次のパターンを試すこと() {
+        List<DateTimeFormatter> formatters = Arrays.asList(
+                DateTimeFormatter.ofPattern("MM/dd/yyyy"),
+                DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        assertThat(DateTimePatternParser.parse(formatters, "14/02/2018", LocalDate::from),
+                is(LocalDate.of(2018, 2, 14)));
+    }
+
+    @Test
+    public void 全てのパターンでパースできない場合() {
+        try {
+            DateTimePatternParser.parse(formatters, "2018.02.14", LocalDate::from);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("the string was not formatted " + formatters + ". date = 2018.02.14."));
+            assertThat(e.getCause(), is(instanceOf(DateTimeParseException.class)));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package nablarch.core.beans.converter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.math.BigDecimal;
+
+import nablarch.core.beans.ConversionException;
+import nablarch.core.beans.CopyOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link EnumExtensionConverter}のテスト。
+ */
+public class EnumExtensionConverterTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private final EnumExtensionConverter sut = new EnumExtensionConverter();
+
+    @Test
+    public void 列挙型は変換対象になること() {
+        assertThat(sut.isConvertible(Color.class), is(true));
+        assertThat(sut.isConvertible(String.class), is(false));
+        assertThat(sut.isConvertible(Enum.class), is(false));
+    }
+
+    @Test
+    public void 定数名から変換できること() {
+        assertThat(sut.convert(Color.class, "RED"), is((Enum) Color.RED));
+        assertThat(sut.convert(Color.class, "BLUE"), is((Enum) Color.BLUE));
+    }
+
+    @Test
+    public void コード値から変換できること() {
+        assertThat(sut.convert(Color.class, "r"), is((Enum) Color.RED));
+        assertThat(sut.convert(Color.class, "01"), is((Enum) Color.RED));
+        assertThat(sut.convert(Color.class, "g"), is((Enum) Color.GREEN));
+    }
+
+    @Test
+    public void 序数から変換できること() {
+        assertThat(sut.convert(Color.class, 0), is((Enum) Color.RED));
+        assertThat(sut.convert(Color.class, 2L), is((Enum) Color.BLUE));
+        assertThat(sut.convert(Color.class, new BigDecimal("1")), is((Enum) Color.GREEN));
+    }
+
+    @Test
+    public void 同じ列挙型の場合はそのまま返されること() {
+        assertThat(sut.convert(Color.class, Color.GREEN), is((Enum) Color.GREEN));
+    }
+
+    @Test
+    public void 文字列の配列から変換できること() {
+        assertThat(sut.convert(Color.class, new String[] {"GREEN"}), is((Enum) Color.GREEN));
+        assertThat(sut.convert(Color.class, new String[] {null}), is(nullValue()));
+    }
+
+    @Test
+    public void 大文字小文字を区別しない設定の場合() {
+        EnumExtensionConverter ignoreCase = new EnumExtensionConverter(true);
+        assertThat(ignoreCase.convert(Color.class, "green"), is((Enum) Color.GREEN));
+        assertThat(ignoreCase.convert(Color.class, "Blue"), is((Enum) Color.BLUE));
+    }
+
+    @Test
+    public void 大文字小文字を区別する設定の場合は定数名が一致しないと例外が送出されること() {
+        expectedException.expect(ConversionException.class);
+        expectedException.expectMessage("Can't convert green to Color.");
+        sut.convert(Color.class, "green");
+    }
+
+    @Test
+    public void 範囲外の序数の場合は例外が送出されること() {
+        expectedException.expect(ConversionException.class);
+        expectedException.expectMessage("Can't convert 3 to Color.");
+        sut.convert(Color.class, 3);
+    }
+
+    @Test
+    public void 変換できない型の場合は例外が送出されること() {
+        expectedException.expect(ConversionException.class);
+        sut.convert(Color.class, new Object());
+    }
+
+    public enum Color {
+        @CopyOption(code = {"r", "01"})
+        RED,
+        @CopyOption(code = "g")
+        GREEN,
+        BLUE
+    }
+}
@@ -0,0 +1,71 @@
+package nablarch.core.beans.converter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import nablarch.core.beans.ConversionException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link IntArrayConverter}のテスト。
+ */
+public class IntArrayConverterTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private final IntArrayConverter sut = new IntArrayConverter();
+
+    @Test
+    public void 同じ型の配列はコピーされること() {
+        final int[] input = {1, 2, 3};
+        final int[] actual = sut.convert(input);
+
+        assertThat(actual, is(not(sameInstance(input))));
+        assertThat(actual, is(new int[] {1, 2, 3}));
+    }
+
+    @Test
+    public void 文字列の配列から変換できること() {
+        assertThat(sut.convert(new String[] {"1", "-2", "+3"}), is(new int[] {1, -2, 3}));
+    }
+
+    @Test
+    public void Listから変換できること() {
+        assertThat(sut.convert(Arrays.asList("1", 2L, new BigDecimal("3"))), is(new int[] {1, 2, 3}));
+        assertThat(sut.convert(Collections.emptyList()), is(new int[0]));
+    }
+
+    @Test
+    public void 他のプリミティブ型の配列から変換できること() {
+        assertThat(sut.convert(new long[] {1L, 2L}), is(new int[] {1, 2}));
+    }
+
+    @Test
+    public void nullの要素はデフォルト値となること() {
+        assertThat(sut.convert(new Integer[] {1, null, 3}), is(new int[] {1, 0, 3}));
+    }
+
+    @Test
+    public void 要素が数値に変換できない場合は例外が送出されること() {
+        expectedException.expect(ConversionException.class);
+        expectedException.expectMessage("Can't convert a to Integer.");
+        sut.convert(new String[] {"1", "a"});
+    }
+
+    @Test
+    public void 配列とCollection以外の場合は例外が送出されること() {
+        expectedException.expect(ConversionException.class);
+        expectedException.expectMessage("Can't convert 1 to int[].");
+        sut.convert("1");
+    }
+}
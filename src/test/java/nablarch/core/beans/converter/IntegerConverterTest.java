@@ -3,6 +3,7 @@ package nablarch.core.beans.converter;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 
 import org.junit.Rule;
@@ -42,4 +43,31 @@ public class IntegerConverterTest {
         IntegerConverter sut = new IntegerConverter(Arrays.asList("#,###", "#,####.#"));
         sut.convert("Not number");
     }
+
+    @Test
+    public void 型が混在する値をまとめて変換() {
+        IntegerConverter sut = new IntegerConverter();
+        Object[] src = {1, 2L, "3", null, "4", new BigDecimal("5.9"), true};
+        Integer[] dest = new Integer[src.length];
+
+        sut.convertAll(src, dest);
+
+        assertThat(dest, is(new Integer[] {1, 2, 3, null, 4, 5, 1}));
+    }
+
+    @Test
+    public void int配列にまとめて変換() {
+        IntegerConverter sut = new IntegerConverter();
+        int[] dest = {9, 9, 9, 9};
+
+        sut.convertAll(new Object[] {"1", null, 3L, "4"}, dest);
+
+        assertThat(dest, is(new int[] {1, 9, 3, 4}));
+    }
+
+    @Test
+    public void まとめて変換する値に変換できない値が含まれる場合は例外が送出されること() {
+        expectedException.expect(ConversionException.class);
+        new IntegerConverter().convertAll(new Object[] {"1", "x"}, new Integer[2]);
+    }
 }
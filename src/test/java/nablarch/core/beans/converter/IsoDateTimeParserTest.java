@@ -0,0 +1,96 @@
+package nablarch.core.beans.converter;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * {@link IsoDateTimeParser}のテスト。
+ */
+public class IsoDateTimeParserTest {
+
+    @Test
+    public void BASIC_ISO_DATEと同じ結果になること() {
+        List<String> values = Arrays.asList("20180214", "00000101", "99991231", "20000229");
+        for (String value : values) {
+            assertThat(value, IsoDateTimeParser.parseBasicIsoDate(value),
+                    is(LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE)));
+        }
+    }
+
+    @Test
+    public void BASIC_ISO_DATEで一般的な形式以外の場合はパースしないこと() {
+        List<String> values = Arrays.asList(
+                "20190229", "20181301", "20180100", "2018021", "201802141", "2018021a", "20180214Z", "", null);
+        for (String value : values) {
+            assertThat(value, IsoDateTimeParser.parseBasicIsoDate(value), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void ISO_INSTANTと同じ結果になること() {
+        List<String> values = Arrays.asList(
+                "2018-02-14T12:34:56Z", "2018-02-14T00:00:00.1Z", "2018-02-14T23:59:59.123456789Z",
+                "2018-02-14T12:34:56.000Z", "2018-02-14T12:34:56.0001Z", "0000-01-01T00:00:00Z");
+        for (String value : values) {
+            assertThat(value, IsoDateTimeParser.parseIsoInstant(value),
+                    is(LocalDateTime.ofInstant(
+                            DateTimeFormatter.ISO_INSTANT.parse(value, Instant::from), ZoneOffset.UTC)));
+        }
+    }
+
+    @Test
+    public void ISO_INSTANTで一般的な形式以外の場合はパースしないこと() {
+        List<String> values = Arrays.asList(
+                "2018-02-14T12:34Z", "2018-02-14T24:00:00Z", "2018-02-14T23:59:60Z", "2018-02-30T12:34:56Z",
+                "2018-02-14t12:34:56Z", "2018-02-14T12:34:56z", "2018-02-14T12:34:56.Z",
+                "2018-02-14T12:34:56.1234567890Z", "2018-02-14T12:34:56+09:00", "+2018-02-14T12:34:56Z", null);
+        for (String value : values) {
+            assertThat(value, IsoDateTimeParser.parseIsoInstant(value), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void ISO_OFFSET_DATE_TIMEと同じ結果になること() {
+        List<String> values = Arrays.asList(
+                "2018-02-14T12:34:56+09:00", "2018-02-14T12:34+09:00", "2018-02-14T12:34:56.789-05:30",
+                "2018-02-14T12:34:56Z", "2018-02-14T12:34Z", "2018-02-14T12:34:56-00:00",
+                "2018-02-14T12:34:56+18:00", "2018-02-14T12:34:56.000000001-18:00");
+        for (String value : values) {
+            OffsetDateTime expected = OffsetDateTime.parse(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+            OffsetDateTime actual = IsoDateTimeParser.parseIsoOffsetDateTime(value);
+            assertThat(value, actual, is(expected));
+            assertThat(value, actual.getOffset(), is(sameInstance(expected.getOffset())));
+        }
+    }
+
+    @Test
+    public void ISO_OFFSET_DATE_TIMEで一般的な形式以外の場合はパースしないこと() {
+        List<String> values = Arrays.asList(
+                "2018-02-14T12:34:56+0900", "2018-02-14T12:34:56+09", "2018-02-14T12:34:56+09:00:00",
+                "2018-02-14T12:34:56+18:01", "2018-02-14T12:34:56+19:00", "2018-02-14T12:34:5+09:00",
+                "2018-02-14T24:00+09:00", "2018-02-29T12:34+09:00", "2018-02-14T12:34", "2018-02-14T12:34z", null);
+        for (String value : values) {
+            assertThat(value, IsoDateTimeParser.parseIsoOffsetDateTime(value), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void 小数部の桁数に応じてナノ秒が解決されること() {
+        assertThat(IsoDateTimeParser.parseIsoInstant("2018-02-14T12:34:56.12Z").get(ChronoField.NANO_OF_SECOND),
+                is(120000000));
+        assertThat(IsoDateTimeParser.parseIsoInstant("2018-02-14T12:34:56.000000012Z").get(ChronoField.NANO_OF_SECOND),
+                is(12));
+    }
+}
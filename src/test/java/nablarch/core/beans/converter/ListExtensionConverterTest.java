@@ -85,6 +85,19 @@ public class ListExtensionConverterTest {
         sut.convert(List.class, 100);
     }
 
+    @Test
+    public void 要素のConverterを指定した場合は要素が変換されること() throws Exception {
+        final List<?> fromArray = sut.convert(List.class, new String[] {"1", null, "3"}, new IntegerConverter());
+        assertThat(fromArray, contains(1, null, 3));
+
+        final List<?> fromList = sut.convert(LinkedList.class, Arrays.asList("1", "2"), new IntegerConverter());
+        assertThat(fromList, contains(1, 2));
+        assertThat(fromList.getClass() == LinkedList.class, is(true));
+
+        final List<?> fromPrimitiveArray = sut.convert(List.class, new int[] {1, 2}, new StringConverter());
+        assertThat(fromPrimitiveArray, contains("1", "2"));
+    }
+
     @Test
     public void ListのInstance生成に失敗した場合例外が送出されること() throws Exception {
         expectedException.expect(BeansException.class);
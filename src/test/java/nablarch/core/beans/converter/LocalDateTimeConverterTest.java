@@ -121,4 +121,23 @@ public class LocalDateTimeConverterTest {
             sut.convert("201802211234");
         }
     }
+
+    public static class ConvertAllTest {
+        @Test
+        public void まとめて変換した場合も値ごとに変換した場合と同じ結果となること() {
+            final Object[] src = new Object[LocalDateTimeConvertSuccessTest.params.length + 1];
+            for (int i = 0; i < LocalDateTimeConvertSuccessTest.params.length; i++) {
+                src[i] = LocalDateTimeConvertSuccessTest.params[i][0];
+            }
+            src[src.length - 1] = new java.sql.Timestamp(DateUtil.getParsedDate("20170621030530", "yyyyMMddHHmmss").getTime());
+            final LocalDateTime[] dest = new LocalDateTime[src.length];
+
+            final LocalDateTimeConverter sut = new LocalDateTimeConverter();
+            sut.convertAll(src, dest);
+
+            for (int i = 0; i < src.length; i++) {
+                assertThat(dest[i], is(sut.convert(src[i])));
+            }
+        }
+    }
 }
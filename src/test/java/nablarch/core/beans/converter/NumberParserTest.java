@@ -0,0 +1,63 @@
+package nablarch.core.beans.converter;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class NumberParserTest {
+
+    private static final String[] VALUES = {
+            "0", "1", "-1", "+1", "0123", "-0", "+0",
+            "2147483647", "-2147483648", "2147483648", "-2147483649",
+            "32767", "-32768", "32768", "-32769",
+            "9223372036854775807", "-9223372036854775808", "9223372036854775808", "-9223372036854775809",
+            "00000000000000000000000000001", "99999999999999999999999",
+            "", "-", "+", "--1", "+-1", "1-", "1.0", "1,000", " 1", "1 ", "abc", "１２３", "0x10"
+    };
+
+    @Test
+    public void intのパース結果がInteger_parseIntと一致すること() {
+        for (String value : VALUES) {
+            Integer expected;
+            try {
+                expected = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            assertThat(value, NumberParser.parseInt(value), is(expected));
+        }
+    }
+
+    @Test
+    public void longのパース結果がLong_parseLongと一致すること() {
+        for (String value : VALUES) {
+            Long expected;
+            try {
+                expected = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            assertThat(value, NumberParser.parseLong(value), is(expected));
+        }
+    }
+
+    @Test
+    public void shortのパース結果がShort_parseShortと一致すること() {
+        for (String value : VALUES) {
+            Short expected;
+            try {
+                expected = Short.parseShort(value);
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            assertThat(value, NumberParser.parseShort(value), is(expected));
+        }
+    }
+
+    @Test
+    public void CharSequenceをパースできること() {
+        assertThat(NumberParser.parseInt(new StringBuilder("-123")), is(-123));
+        assertThat(NumberParser.parseLong(new StringBuilder("123")), is(123L));
+    }
+}
@@ -0,0 +1,65 @@
+package nablarch.core.beans.converter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import nablarch.core.beans.ConversionException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@link AbstractPrimitiveArrayConverter}のサブクラスのテスト。
+ */
+public class PrimitiveArrayConverterTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void long配列に変換できること() {
+        assertThat(new LongArrayConverter().convert(new String[] {"9223372036854775807", "-1"}),
+                is(new long[] {Long.MAX_VALUE, -1L}));
+    }
+
+    @Test
+    public void short配列に変換できること() {
+        assertThat(new ShortArrayConverter().convert(Arrays.asList("1", 2)), is(new short[] {1, 2}));
+    }
+
+    @Test
+    public void boolean配列に変換できること() {
+        assertThat(new BooleanArrayConverter().convert(new String[] {"true", "0", "on"}),
+                is(new boolean[] {true, false, true}));
+    }
+
+    @Test
+    public void double配列に変換できること() {
+        assertArrayEquals(new double[] {1.5, 0.1, 3.0},
+                new DoubleArrayConverter().convert(new Object[] {"1.5", 0.1, new BigDecimal("3")}), 0.0);
+    }
+
+    @Test
+    public void float配列に変換できること() {
+        assertArrayEquals(new float[] {1.5f, 0.1f},
+                new FloatArrayConverter().convert(Arrays.asList("1.5", 0.1f)), 0.0f);
+    }
+
+    @Test
+    public void char配列に変換できること() {
+        assertThat(new CharArrayConverter().convert(new Object[] {"a", 'b', null}),
+                is(new char[] {'a', 'b', '\u0000'}));
+    }
+
+    @Test
+    public void char配列に変換できない要素の場合は例外が送出されること() {
+        expectedException.expect(ConversionException.class);
+        expectedException.expectMessage("Can't convert ab to Character.");
+        new CharArrayConverter().convert(new String[] {"ab"});
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.Assert.assertThat;
 
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
@@ -33,6 +35,17 @@ public class SqlTimestampConverterTest {
         assertThat(sut.convert(src), is(src));
     }
 
+    @Test
+    public void ナノ秒が保持されること() throws Exception {
+        final Timestamp src = Timestamp.valueOf("2018-02-14 12:34:56.123456789");
+        final Timestamp fromTimestamp = sut.convert(src);
+        assertThat(fromTimestamp, is(not(sameInstance(src))));
+        assertThat(fromTimestamp.getNanos(), is(123456789));
+
+        assertThat(sut.convert(LocalDateTime.of(2018, 2, 14, 12, 34, 56, 123456789)), is(src));
+        assertThat(sut.convert(src.toLocalDateTime().atZone(ZoneId.systemDefault()).toOffsetDateTime()), is(src));
+    }
+
     @Test
     public void fromUtilDate() throws Exception {
         final Date src = new Date(System.currentTimeMillis());
@@ -124,4 +124,15 @@ public class StringConverterTest {
                 .merge(new StringConverter("yyyy.MM.dd", null));
         assertEquals("2018/02/21", mergedSut.convert(LocalDate.of(2018, 2, 21)));
     }
+
+    @Test
+    public void 型が混在する値をまとめて変換() {
+        StringConverter sut = new StringConverter("yyyy/MM/dd", "#,###");
+        Object[] src = {1234, "a", 5678L, null, new Date(Timestamp.valueOf("2018-02-19 00:00:00").getTime()), true};
+        String[] dest = new String[src.length];
+
+        sut.convertAll(src, dest);
+
+        assertThat(dest, is(new String[] {"1,234", "a", "5,678", null, "2018/02/19", "1"}));
+    }
 }
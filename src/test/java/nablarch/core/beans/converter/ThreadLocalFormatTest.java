@@ -0,0 +1,70 @@
+package nablarch.core.beans.converter;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class ThreadLocalFormatTest {
+
+    @Test
+    public void 同一スレッドでは同じインスタンスが返されること() {
+        ThreadLocalFormat<DecimalFormat> sut = new ThreadLocalFormat<>(new DecimalFormat("#,###"));
+        assertThat(sut.get(), is(sameInstance(sut.get())));
+    }
+
+    @Test
+    public void 複製元とは異なるインスタンスが返されること() {
+        DecimalFormat prototype = new DecimalFormat("#,###");
+        ThreadLocalFormat<DecimalFormat> sut = new ThreadLocalFormat<>(prototype);
+        assertThat(sut.get(), is(not(sameInstance(prototype))));
+        assertThat(sut.get().toPattern(), is(prototype.toPattern()));
+    }
+
+    @Test
+    public void 別スレッドでは別のインスタンスが返されること() throws Exception {
+        ThreadLocalFormat<DecimalFormat> sut = new ThreadLocalFormat<>(new DecimalFormat("#,###"));
+        DecimalFormat main = sut.get();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DecimalFormat other = executor.submit(sut::get).get();
+            assertThat(other, is(not(sameInstance(main))));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void 複数スレッドから同時にパースできること() throws Exception {
+        final IntegerConverter converter = new IntegerConverter(List.of("#,###"));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final int base = i * 10000;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        int expected = base + j * 1001;
+                        String value = new DecimalFormat("#,###").format(expected);
+                        if (converter.convert(value) != expected) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(), is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package nablarch.core.beans.converter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+/**
+ * {@link ZoneOffsetCache}のテスト。
+ */
+public class ZoneOffsetCacheTest {
+
+    /** 夏時間の開始と終了を含む期間の開始 */
+    private static final LocalDateTime FROM = LocalDateTime.of(2018, 3, 9, 0, 0);
+
+    /** 夏時間の開始と終了を含む期間の終了 */
+    private static final LocalDateTime TO = LocalDateTime.of(2018, 11, 6, 0, 0);
+
+    @Test
+    public void 夏時間のあるタイムゾーンでエポック秒からの変換結果がZoneRulesと同じになること() {
+        for (String zone : new String[] {"America/New_York", "Europe/London", "Australia/Lord_Howe", "Asia/Tokyo"}) {
+            final ZoneId zoneId = ZoneId.of(zone);
+            final ZoneOffsetCache sut = new ZoneOffsetCache(zoneId);
+            final long to = TO.toEpochSecond(ZoneOffset.UTC);
+            for (long epochSecond = FROM.toEpochSecond(ZoneOffset.UTC); epochSecond < to; epochSecond += 15 * 60 - 1) {
+                final Instant instant = Instant.ofEpochSecond(epochSecond, 123);
+                assertThat(zone + " " + instant, sut.toLocalDateTime(epochSecond, 123),
+                        is(LocalDateTime.ofInstant(instant, zoneId)));
+                assertThat(zone + " " + instant, sut.toLocalDate(epochSecond),
+                        is(LocalDateTime.ofInstant(instant, zoneId).toLocalDate()));
+                assertThat(zone + " " + instant, sut.toOffsetDateTime(epochSecond, 123),
+                        is(instant.atZone(zoneId).toOffsetDateTime()));
+            }
+        }
+    }
+
+    @Test
+    public void 夏時間のあるタイムゾーンでローカル日時からの変換結果がZonedDateTimeと同じになること() {
+        for (String zone : new String[] {"America/New_York", "Europe/London", "Australia/Lord_Howe", "Asia/Tokyo"}) {
+            final ZoneId zoneId = ZoneId.of(zone);
+            final ZoneOffsetCache sut = new ZoneOffsetCache(zoneId);
+            for (LocalDateTime dateTime = FROM; dateTime.isBefore(TO); dateTime = dateTime.plusMinutes(15).plusSeconds(-1)) {
+                assertThat(zone + " " + dateTime, sut.toOffsetDateTime(dateTime),
+                        is(dateTime.atZone(zoneId).toOffsetDateTime()));
+                assertThat(zone + " " + dateTime, sut.toInstant(dateTime),
+                        is(dateTime.atZone(zoneId).toInstant()));
+            }
+        }
+    }
+
+    @Test
+    public void 日付の開始日時の変換結果がLocalDateと同じになること() {
+        // America/Santiagoは夏時間の開始時に0時が存在しない
+        for (String zone : new String[] {"America/Santiago", "America/New_York"}) {
+            final ZoneId zoneId = ZoneId.of(zone);
+            final ZoneOffsetCache sut = new ZoneOffsetCache(zoneId);
+            for (LocalDate date = LocalDate.of(2018, 1, 1); date.getYear() < 2020; date = date.plusDays(1)) {
+                assertThat(zone + " " + date, sut.atStartOfDay(date),
+                        is(date.atStartOfDay(zoneId).toOffsetDateTime()));
+            }
+        }
+    }
+
+    @Test
+    public void 前後に変換対象の日時が移動しても結果がZoneRulesと同じになること() {
+        final ZoneId zoneId = ZoneId.of("America/New_York");
+        final ZoneOffsetCache sut = new ZoneOffsetCache(zoneId);
+        final LocalDateTime[] dateTimes = {
+                LocalDateTime.of(2018, 7, 1, 0, 0),
+                LocalDateTime.of(2018, 1, 1, 0, 0),
+                LocalDateTime.of(2018, 3, 11, 2, 30),
+                LocalDateTime.of(2018, 11, 4, 1, 30),
+                LocalDateTime.of(2018, 11, 4, 2, 0),
+                LocalDateTime.of(1900, 1, 1, 0, 0),
+                LocalDateTime.of(2100, 7, 1, 0, 0),
+                LocalDateTime.of(2018, 7, 1, 0, 0)};
+        for (LocalDateTime dateTime : dateTimes) {
+            assertThat(dateTime.toString(), sut.toOffsetDateTime(dateTime), is(dateTime.atZone(zoneId).toOffsetDateTime()));
+            final Instant instant = dateTime.toInstant(ZoneOffset.UTC);
+            assertThat(dateTime.toString(), sut.getOffset(instant.getEpochSecond()),
+                    is(zoneId.getRules().getOffset(instant)));
+        }
+    }
+
+    @Test
+    public void 固定オフセットの場合() {
+        final ZoneOffsetCache sut = new ZoneOffsetCache(ZoneOffset.ofHours(9));
+
+        assertThat(sut.getOffset(Long.MIN_VALUE), is(ZoneOffset.ofHours(9)));
+        assertThat(sut.toLocalDateTime(0, 0), is(LocalDateTime.of(1970, 1, 1, 9, 0)));
+        assertThat(sut.toInstant(LocalDateTime.of(1970, 1, 1, 9, 0)), is(Instant.EPOCH));
+    }
+}